@@ -47,6 +47,9 @@ dependencies {
     // Spring Doc
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
     
+    // Cache (알라딘 검색 결과)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // WebSocket (채팅)
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework:spring-messaging")
@@ -0,0 +1,65 @@
+package com.bookbook.domain.bookCatalog.entity;
+
+import com.bookbook.domain.rent.dto.BookSearchResponseDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 메타데이터 카탈로그 (ISBN 기준으로 한 권당 한 행)
+ *
+ * <p>알라딘에서 받아온 책 정보를 대여글마다 따로 저장하지 않고 여기에 한 번만 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "book_catalog", indexes = {
+        // 오래된 항목 갱신 대상 조회
+        @Index(name = "idx_book_catalog_refreshed_at", columnList = "refreshed_at")
+})
+public class BookCatalog {
+
+    @Id
+    @Column(length = 13)
+    private String isbn; // ISBN13
+
+    private String title; // 책 제목
+    private String author; // 저자
+    private String publisher; // 출판사
+    private String pubDate; // 출판일
+    private String category; // 카테고리 (가장 마지막 분류)
+
+    @Column(columnDefinition = "TEXT")
+    private String description; // 책 설명
+
+    private String coverImageUrl; // 표지 이미지 URL
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt; // 알라딘에서 마지막으로 받아온 시간
+
+    public static BookCatalog from(BookSearchResponseDto book) {
+        BookCatalog catalog = new BookCatalog();
+        catalog.isbn = book.getIsbn();
+        catalog.update(book);
+        return catalog;
+    }
+
+    // 알라딘에서 새로 받아온 정보로 갱신
+    public void update(BookSearchResponseDto book) {
+        this.title = book.getBookTitle();
+        this.author = book.getAuthor();
+        this.publisher = book.getPublisher();
+        this.pubDate = book.getPubDate();
+        this.category = book.getCategory();
+        this.description = book.getBookDescription();
+        this.coverImageUrl = book.getCoverImageUrl();
+        this.refreshedAt = LocalDateTime.now();
+    }
+
+    public BookSearchResponseDto toDto() {
+        return new BookSearchResponseDto(title, author, publisher, pubDate, category, description, coverImageUrl, isbn);
+    }
+}
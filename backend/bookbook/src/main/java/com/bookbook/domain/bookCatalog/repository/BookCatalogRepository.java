@@ -0,0 +1,22 @@
+package com.bookbook.domain.bookCatalog.repository;
+
+import com.bookbook.domain.bookCatalog.entity.BookCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookCatalogRepository extends JpaRepository<BookCatalog, String> {
+
+    // 마지막 갱신 이후 일정 시간이 지난 항목 (오래된 순)
+    List<BookCatalog> findTop100ByRefreshedAtBeforeOrderByRefreshedAtAsc(LocalDateTime refreshedAt);
+
+    // 책 설명만 조회 (대여글 상세 조회용)
+    @Query("SELECT b.description FROM BookCatalog b WHERE b.isbn = :isbn")
+    Optional<String> findDescriptionByIsbn(@Param("isbn") String isbn);
+}
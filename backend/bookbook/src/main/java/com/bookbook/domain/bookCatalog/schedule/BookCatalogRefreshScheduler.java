@@ -0,0 +1,53 @@
+package com.bookbook.domain.bookCatalog.schedule;
+
+import com.bookbook.domain.bookCatalog.entity.BookCatalog;
+import com.bookbook.domain.bookCatalog.repository.BookCatalogRepository;
+import com.bookbook.domain.bookCatalog.service.BookCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 도서 카탈로그 갱신 스케쥴러
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookCatalogRefreshScheduler {
+
+    // 마지막 갱신 후 이 기간이 지난 항목을 다시 받아옴
+    private static final int REFRESH_AFTER_DAYS = 30;
+
+    private final BookCatalogRepository bookCatalogRepository;
+    private final BookCatalogService bookCatalogService;
+
+    /**
+     * 오래된 카탈로그 항목 갱신 스케쥴러
+     *
+     * <p>마지막으로 받아온 지 30일이 지난 항목을 오래된 순으로 최대 100건씩
+     * 알라딘에서 다시 받아와 갱신합니다. 한 건이 실패해도 나머지는 계속 진행합니다.
+     *
+     * <p>매일 새벽 4시 30분에 실행
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void refreshStaleEntries() {
+        List<BookCatalog> staleEntries = bookCatalogRepository
+                .findTop100ByRefreshedAtBeforeOrderByRefreshedAtAsc(LocalDateTime.now().minusDays(REFRESH_AFTER_DAYS));
+
+        int refreshed = 0;
+        for (BookCatalog entry : staleEntries) {
+            try {
+                bookCatalogService.refresh(entry.getIsbn());
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("도서 카탈로그 갱신 실패 - isbn: {}, 사유: {}", entry.getIsbn(), e.getMessage());
+            }
+        }
+
+        log.info("도서 카탈로그 갱신 완료 - 대상: {}건, 성공: {}건", staleEntries.size(), refreshed);
+    }
+}
@@ -0,0 +1,175 @@
+package com.bookbook.domain.bookCatalog.service;
+
+import com.bookbook.domain.bookCatalog.entity.BookCatalog;
+import com.bookbook.domain.bookCatalog.repository.BookCatalogRepository;
+import com.bookbook.domain.rent.dto.BookSearchResponseDto;
+import com.bookbook.domain.rent.service.AladinApiClient;
+import com.bookbook.global.exception.ServiceException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 카탈로그 서비스
+ *
+ * <p>ISBN으로 책 정보를 찾을 때 로컬 카탈로그를 먼저 조회하고,
+ * 없을 때만 알라딘 API를 호출하여 결과를 카탈로그에 저장합니다.
+ * 같은 ISBN의 알라딘 조회가 동시에 들어오면 한 번만 호출하고, 알라딘에 없는 ISBN은 일정 시간 다시 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+public class BookCatalogService {
+
+    private static final Pattern ISBN13 = Pattern.compile("\\d{13}");
+
+    private final BookCatalogRepository bookCatalogRepository;
+    private final AladinApiClient aladinApiClient;
+
+    // ISBN -> 알라딘 조회 결과 (없는 책은 빈 값, 조회 중인 요청도 CompletableFuture로 보관하여 동일 요청을 합침)
+    private final AsyncCache<String, Optional<BookSearchResponseDto>> lookups;
+
+    public BookCatalogService(BookCatalogRepository bookCatalogRepository,
+                              AladinApiClient aladinApiClient,
+                              @Value("${aladin.catalog.lookup-cache-max-size:10000}") long maxSize,
+                              @Value("${aladin.catalog.lookup-ttl-in-seconds:3600}") long ttlInSeconds) {
+        this.bookCatalogRepository = bookCatalogRepository;
+        this.aladinApiClient = aladinApiClient;
+        this.lookups = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * ISBN으로 책 정보를 조회합니다. (로컬 카탈로그 우선)
+     *
+     * @param isbn ISBN13
+     * @return 책 정보
+     * @throws ServiceException (400) ISBN13 형식이 아닌 경우, (404) 알라딘에서도 찾을 수 없는 경우
+     */
+    public BookSearchResponseDto getByIsbn(String isbn) {
+        if (isbn == null || !ISBN13.matcher(isbn).matches()) {
+            throw new ServiceException("400-1", "ISBN13 형식이 올바르지 않습니다.");
+        }
+
+        Optional<BookSearchResponseDto> cataloged = bookCatalogRepository.findById(isbn).map(BookCatalog::toDto);
+        if (cataloged.isPresent()) {
+            return cataloged.get();
+        }
+
+        BookSearchResponseDto fetched = join(lookups.get(isbn, (key, executor) -> aladinApiClient.lookupItem(key)
+                .thenApply(books -> matching(books, key))))
+                .orElseThrow(() -> new ServiceException("404-1", "해당 ISBN의 도서를 찾을 수 없습니다."));
+
+        try {
+            saveAll(List.of(fetched));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 ISBN을 먼저 저장한 경우 (이미 카탈로그에 있으므로 조회 결과만 반환)
+            log.debug("도서 카탈로그 동시 저장 - isbn: {}", isbn);
+        }
+        return fetched;
+    }
+
+    /**
+     * 카탈로그에 등록된 ISBN인지 확인합니다.
+     */
+    public boolean exists(String isbn) {
+        return isbn != null && !isbn.isBlank() && bookCatalogRepository.existsById(isbn);
+    }
+
+    /**
+     * 카탈로그에 저장된 책 설명을 조회합니다.
+     *
+     * @param isbn ISBN13 (null이면 조회하지 않음)
+     * @return 책 설명 (없으면 null)
+     */
+    public String findDescription(String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return null;
+        }
+        return bookCatalogRepository.findDescriptionByIsbn(isbn).orElse(null);
+    }
+
+    /**
+     * 알라딘에서 받아온 책 정보를 카탈로그에 저장합니다.
+     * 이미 있는 ISBN은 새 정보로 갱신하고, ISBN이 없는 결과는 저장하지 않습니다.
+     *
+     * @param books 알라딘 검색/조회 결과
+     */
+    @Transactional
+    public void saveAll(List<BookSearchResponseDto> books) {
+        Map<String, BookSearchResponseDto> booksByIsbn = books.stream()
+                .filter(book -> book.getIsbn() != null && !book.getIsbn().isBlank())
+                .collect(Collectors.toMap(BookSearchResponseDto::getIsbn, Function.identity(), (first, second) -> first));
+        if (booksByIsbn.isEmpty()) {
+            return;
+        }
+
+        Map<String, BookCatalog> existing = bookCatalogRepository.findAllById(booksByIsbn.keySet())
+                .stream()
+                .collect(Collectors.toMap(BookCatalog::getIsbn, Function.identity()));
+
+        List<BookCatalog> catalogs = booksByIsbn.values().stream()
+                .map(book -> {
+                    BookCatalog catalog = existing.get(book.getIsbn());
+                    if (catalog == null) {
+                        return BookCatalog.from(book);
+                    }
+                    catalog.update(book);
+                    return catalog;
+                })
+                .toList();
+
+        bookCatalogRepository.saveAll(catalogs);
+    }
+
+    /**
+     * 카탈로그 항목 하나를 알라딘의 최신 정보로 갱신합니다.
+     *
+     * @param isbn 갱신할 ISBN13
+     */
+    @Transactional
+    public void refresh(String isbn) {
+        BookSearchResponseDto fetched = lookup(isbn);
+        bookCatalogRepository.findById(isbn)
+                .ifPresent(catalog -> catalog.update(fetched));
+    }
+
+    // 알라딘 상품 조회 API로 ISBN에 해당하는 책 정보 조회
+    private BookSearchResponseDto lookup(String isbn) {
+        return join(aladinApiClient.lookupItem(isbn).thenApply(books -> matching(books, isbn)))
+                .orElseThrow(() -> new ServiceException("404-1", "해당 ISBN의 도서를 찾을 수 없습니다."));
+    }
+
+    private static Optional<BookSearchResponseDto> matching(List<BookSearchResponseDto> books, String isbn) {
+        return books.stream()
+                .filter(book -> isbn.equals(book.getIsbn()))
+                .findFirst();
+    }
+
+    // 비동기 조회 결과를 기다리고, 실패하면 원래 예외(ServiceException 등)를 그대로 던짐
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.bookbook.domain.chat.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채팅방 구독자에게 메시지를 보내는 컴포넌트
+ *
+ * <p>chat.broker.mode 설정에 따라 전달 방식이 달라집니다.
+ * <ul>
+ *   <li>simple (기본값): 이 서버의 STOMP 브로커로 바로 전달합니다. 서버가 하나일 때만 사용할 수 있습니다.</li>
+ *   <li>relay: {@link ChatMessageBus}에 발행하고, 각 서버가 버스에서 받은 메시지를 자신의 STOMP 브로커로 전달합니다.
+ *   여러 서버를 로드밸런서 뒤에 두어도 모든 구독자가 메시지를 받습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageBus chatMessageBus;
+    private final ObjectMapper objectMapper;
+    private final boolean relay;
+
+    public ChatBroadcaster(SimpMessagingTemplate messagingTemplate,
+                           ChatMessageBus chatMessageBus,
+                           ObjectMapper objectMapper,
+                           @Value("${chat.broker.mode:simple}") String mode) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatMessageBus = chatMessageBus;
+        this.objectMapper = objectMapper;
+        this.relay = "relay".equalsIgnoreCase(mode);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (relay) {
+            chatMessageBus.subscribe(this::deliver);
+        }
+        log.info("채팅 브로커 모드: {}", relay ? "relay" : "simple");
+    }
+
+    /**
+     * 구독 경로로 메시지를 보냅니다.
+     *
+     * @param destination 구독 경로 (예: /topic/chat/{roomId})
+     * @param payload 보낼 메시지 (문자열은 그대로, 그 외는 JSON으로 전달)
+     */
+    public void send(String destination, Object payload) {
+        if (!relay) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        chatMessageBus.publish(toBusMessage(destination, payload));
+    }
+
+    // 버스에서 받은 메시지를 이 서버의 구독자에게 전달 (이미 직렬화된 본문을 그대로 사용)
+    private void deliver(ChatBusMessage message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeType.valueOf(message.contentType()));
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(message.destination(), MessageBuilder.createMessage(
+                message.payload().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private ChatBusMessage toBusMessage(String destination, Object payload) {
+        if (payload instanceof String text) {
+            return new ChatBusMessage(destination, "text/plain;charset=UTF-8", text);
+        }
+        try {
+            return new ChatBusMessage(destination, MimeTypeUtils.APPLICATION_JSON_VALUE,
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅 메시지 직렬화 실패: " + destination, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookbook.domain.chat.broker;
+
+/**
+ * 메시지 버스로 서버 간에 전달되는 채팅 메시지
+ *
+ * @param destination 구독 경로 (예: /topic/chat/{roomId})
+ * @param contentType 본문 형식 (예: application/json)
+ * @param payload 직렬화된 메시지 본문
+ */
+public record ChatBusMessage(
+        String destination,
+        String contentType,
+        String payload
+) {
+}
@@ -0,0 +1,23 @@
+package com.bookbook.domain.chat.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * 채팅 메시지를 모든 서버에 전달하는 발행/구독 버스
+ *
+ * <p>relay 모드에서는 채팅 메시지를 구독자에게 바로 보내지 않고 버스에 발행합니다.
+ * 각 서버는 버스에서 받은 메시지를 자신의 STOMP 브로커로 전달하므로,
+ * 어느 서버에 연결된 구독자든 메시지를 받을 수 있습니다.
+ */
+public interface ChatMessageBus {
+
+    /**
+     * 메시지를 발행합니다. 발행한 서버를 포함한 모든 구독자에게 전달됩니다.
+     */
+    void publish(ChatBusMessage message);
+
+    /**
+     * 버스로 들어오는 메시지를 받을 구독자를 등록합니다.
+     */
+    void subscribe(Consumer<ChatBusMessage> subscriber);
+}
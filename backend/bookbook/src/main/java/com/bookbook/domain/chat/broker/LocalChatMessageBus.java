@@ -0,0 +1,30 @@
+package com.bookbook.domain.chat.broker;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 메시지를 전달하는 메시지 버스 (기본값)
+ *
+ * <p>서버가 하나일 때나 로컬 개발/테스트에서 relay 모드를 그대로 사용할 수 있도록 제공합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.bus", havingValue = "local", matchIfMissing = true)
+public class LocalChatMessageBus implements ChatMessageBus {
+
+    private final List<Consumer<ChatBusMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ChatBusMessage message) {
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<ChatBusMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
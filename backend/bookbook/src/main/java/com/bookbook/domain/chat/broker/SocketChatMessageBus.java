@@ -0,0 +1,333 @@
+package com.bookbook.domain.chat.broker;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * TCP 소켓으로 다른 서버에 메시지를 전달하는 메시지 버스
+ *
+ * <p>각 서버는 지정한 주소(bind-address)와 포트에서 다른 서버의 연결을 받고, 설정된 다른 서버(peers) 주소로 메시지를 보냅니다.
+ * 발행한 메시지는 자기 서버의 구독자에게 바로 전달하고, 다른 서버에는 길이가 붙은 프레임
+ * (목적지, 본문 형식, 본문)으로 보냅니다.
+ *
+ * <ul>
+ *   <li>연결을 받은 쪽이 임의의 값(nonce)을 보내고, 연결한 쪽이 공유 비밀키(secret)로 만든 HMAC으로 응답해야
+ *       프레임을 받습니다. 비밀키 자체는 네트워크로 보내지 않습니다.</li>
+ *   <li>다른 서버마다 크기가 정해진 전송 대기열과 전송 스레드를 두어, 발행은 대기열에 넣고 바로 반환합니다.
+ *       응답이 없는 서버의 대기열이 가득 차면 그 서버로 보낼 메시지만 버리고 다른 서버 전송은 영향을 받지 않습니다.</li>
+ *   <li>연결이 끊긴 서버는 전송 스레드가 간격을 두고 다시 연결합니다.</li>
+ * </ul>
+ *
+ * <p>외부 메시지 브로커 없이 여러 프로세스를 띄워 채팅 전달을 확인할 수 있도록 만든 구현입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.bus", havingValue = "socket")
+public class SocketChatMessageBus implements ChatMessageBus {
+
+    private static final int MAX_FRAME_BYTES = 1024 * 1024;
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+    private static final int HANDSHAKE_TIMEOUT_MS = 5000;
+    private static final int NONCE_BYTES = 16;
+    private static final long RECONNECT_DELAY_MS = 1000;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final String bindAddress;
+    private final int port;
+    private final byte[] secret;
+    private final List<Peer> peers;
+
+    private final List<Consumer<ChatBusMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile ServerSocket serverSocket;
+    private volatile boolean running = true;
+
+    public SocketChatMessageBus(@Value("${chat.broker.socket.bind-address}") String bindAddress,
+                                @Value("${chat.broker.socket.port}") int port,
+                                @Value("${chat.broker.socket.secret:}") String secret,
+                                @Value("${chat.broker.socket.peers:}") String peers,
+                                @Value("${chat.broker.socket.queue-capacity}") int queueCapacity) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("chat.broker.socket.secret을 설정해야 socket 메시지 버스를 사용할 수 있습니다.");
+        }
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.peers = Arrays.stream(peers.split(","))
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .map(peer -> new Peer(toAddress(peer), queueCapacity))
+                .toList();
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port, 50, InetAddress.getByName(bindAddress));
+        executor.submit(this::acceptLoop);
+        peers.forEach(peer -> executor.submit(peer::writeLoop));
+        log.info("채팅 메시지 버스 시작 - address: {}:{}, peers: {}", bindAddress, port,
+                peers.stream().map(peer -> peer.address).toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("채팅 메시지 버스 종료 중 오류: {}", e.getMessage());
+        }
+        peers.forEach(Peer::disconnect);
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void publish(ChatBusMessage message) {
+        deliver(message);
+        for (Peer peer : peers) {
+            peer.enqueue(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ChatBusMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> readLoop(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("채팅 메시지 버스 연결 수락 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    // 인증을 통과한 다른 서버가 보낸 프레임을 읽어 이 서버의 구독자에게 전달
+    private void readLoop(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            if (!authenticate(socket, in)) {
+                log.warn("채팅 메시지 버스 인증 실패 - {}", socket.getRemoteSocketAddress());
+                return;
+            }
+
+            while (true) {
+                String destination = readString(in);
+                String contentType = readString(in);
+                String payload = readString(in);
+                deliver(new ChatBusMessage(destination, contentType, payload));
+            }
+        } catch (EOFException e) {
+            log.debug("채팅 메시지 버스 연결 종료 - {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            log.warn("채팅 메시지 버스 수신 실패 - {}: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        }
+    }
+
+    // 연결을 받은 쪽: nonce를 보내고 HMAC 응답을 확인 (응답이 없으면 HANDSHAKE_TIMEOUT_MS 후 종료)
+    private boolean authenticate(Socket socket, DataInputStream in) throws IOException {
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+
+        OutputStream out = socket.getOutputStream();
+        out.write(nonce);
+        out.flush();
+
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+        byte[] expected = hmac(nonce);
+        byte[] response = in.readNBytes(expected.length);
+        socket.setSoTimeout(0);
+
+        return MessageDigest.isEqual(expected, response);
+    }
+
+    private byte[] hmac(byte[] nonce) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return mac.doFinal(nonce);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deliver(ChatBusMessage message) {
+        for (Consumer<ChatBusMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("채팅 메시지 구독자 처리 실패 - destination: {}", message.destination(), e);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("잘못된 프레임 길이: " + length);
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static InetSocketAddress toAddress(String peer) {
+        int colon = peer.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("chat.broker.socket.peers 형식은 host:port 입니다: " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1)));
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.debug("채팅 메시지 버스 연결 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버 하나로의 연결과 전송 대기열
+     * 전송 스레드 하나만 소켓에 쓰므로 발행하는 쪽은 잠금이나 네트워크를 기다리지 않습니다.
+     */
+    private class Peer {
+
+        private final InetSocketAddress address;
+        private final BlockingQueue<ChatBusMessage> queue;
+        private final AtomicLong dropped = new AtomicLong();
+
+        // 전송 스레드만 연결하고, 종료 시에는 다른 스레드에서 끊을 수 있음
+        private volatile Socket socket;
+        private volatile DataOutputStream out;
+
+        Peer(InetSocketAddress address, int queueCapacity) {
+            this.address = address;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        // 대기열이 가득 차면(서버가 응답하지 않으면) 이 서버로 보낼 메시지는 버림
+        void enqueue(ChatBusMessage message) {
+            if (!queue.offer(message)) {
+                long count = dropped.incrementAndGet();
+                if (count == 1 || count % 1000 == 0) {
+                    log.warn("채팅 메시지 전달 대기열 초과 - peer: {}, 버린 메시지: {}건", address, count);
+                }
+            }
+        }
+
+        void writeLoop() {
+            List<ChatBusMessage> batch = new ArrayList<>();
+            while (running) {
+                try {
+                    if (batch.isEmpty()) {
+                        batch.add(queue.take());
+                        queue.drainTo(batch);
+                    }
+
+                    DataOutputStream out = connected();
+                    for (ChatBusMessage message : batch) {
+                        writeString(out, message.destination());
+                        writeString(out, message.contentType());
+                        writeString(out, message.payload());
+                    }
+                    out.flush();
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    // 보내지 못한 메시지는 다시 연결한 뒤 재전송
+                    log.warn("채팅 메시지 전달 실패 - peer: {}, 대기 메시지: {}건, {}", address, batch.size(), e.getMessage());
+                    disconnect();
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        // 연결이 없으면 연결하고 nonce에 HMAC으로 응답
+        private DataOutputStream connected() throws IOException {
+            if (out != null) {
+                return out;
+            }
+
+            Socket newSocket = new Socket();
+            try {
+                newSocket.connect(address, CONNECT_TIMEOUT_MS);
+                newSocket.setTcpNoDelay(true);
+                newSocket.setKeepAlive(true);
+
+                newSocket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+                byte[] nonce = newSocket.getInputStream().readNBytes(NONCE_BYTES);
+                if (nonce.length < NONCE_BYTES) {
+                    throw new EOFException("인증 요청을 받지 못했습니다.");
+                }
+                newSocket.setSoTimeout(0);
+
+                DataOutputStream newOut = new DataOutputStream(new BufferedOutputStream(newSocket.getOutputStream()));
+                newOut.write(hmac(nonce));
+                socket = newSocket;
+                out = newOut;
+                return newOut;
+            } catch (IOException e) {
+                closeQuietly(newSocket);
+                throw e;
+            }
+        }
+
+        void disconnect() {
+            Socket current = socket;
+            socket = null;
+            out = null;
+            if (current != null) {
+                closeQuietly(current);
+            }
+        }
+    }
+}
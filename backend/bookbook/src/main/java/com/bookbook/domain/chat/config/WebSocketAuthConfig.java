@@ -1,10 +1,10 @@
 package com.bookbook.domain.chat.config;
 
+import com.bookbook.global.exception.ServiceException;
 import com.bookbook.global.security.jwt.JwtProvider;
 import com.bookbook.global.security.CustomOAuth2User;
-import com.bookbook.domain.user.entity.User;
-import com.bookbook.domain.user.repository.UserRepository;
 import com.bookbook.domain.user.enums.Role;
+import com.bookbook.domain.user.service.UserNicknameCache;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,7 +36,7 @@ import java.util.Map;
 public class WebSocketAuthConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final UserNicknameCache userNicknameCache;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -49,52 +49,50 @@ public class WebSocketAuthConfig implements WebSocketMessageBrokerConfigurer {
                     // 쿠키에서 JWT 토큰 추출
                     String token = extractJwtFromCookie(accessor);
                     
-                    if (token != null && jwtProvider.validateToken(token)) {
+                    if (token != null) {
                         try {
-                            // JWT에서 사용자 정보 추출
+                            // 서명이 검증된 JWT 클레임만으로 사용자 정보 구성 (재연결이 몰려도 DB를 조회하지 않음)
                             Claims claims = jwtProvider.getAllClaimsFromToken(token);
                             Long userId = claims.get("userId", Long.class);
                             String username = claims.get("username", String.class);
-                            String role = claims.get("role", String.class);
+                            Role role = Role.valueOf(claims.get("role", String.class));
                             
-                            // 사용자 정보 조회
-                            User user = userRepository.findById(userId).orElse(null);
-                            if (user != null) {
-                                // 간단한 attributes 맵 생성
-                                Map<String, Object> attributes = new HashMap<>();
-                                attributes.put("id", user.getId());
-                                attributes.put("username", user.getUsername());
-                                attributes.put("nickname", user.getNickname());
-                                
-                                // CustomOAuth2User 생성
-                                CustomOAuth2User customUser = new CustomOAuth2User(
-                                    Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role)),
-                                    attributes,
-                                    "id", // nameAttributeKey
-                                    user.getUsername(),
-                                    user.getNickname(),
-                                    user.getEmail(),
-                                    user.getId(),
-                                    false, // isNewUser
-                                    user.isRegistrationCompleted(),
-                                    user.getRole()
-                                );
-                                
-                                // Authentication 객체 생성
-                                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                                    customUser, 
-                                    null, 
-                                    customUser.getAuthorities()
-                                );
-                                
-                                accessor.setUser(authentication);
-                                log.info("WebSocket JWT 인증 성공 - userId: {}", userId);
-                            }
+                            // 간단한 attributes 맵 생성
+                            Map<String, Object> attributes = new HashMap<>();
+                            attributes.put("id", userId);
+                            attributes.put("username", username);
+                            
+                            // CustomOAuth2User 생성 (닉네임은 캐시에 있을 때만 채우고, 없으면 필요할 때 조회)
+                            CustomOAuth2User customUser = new CustomOAuth2User(
+                                Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role.name())),
+                                attributes,
+                                "id", // nameAttributeKey
+                                username,
+                                userNicknameCache.getIfPresent(userId),
+                                null,
+                                userId,
+                                false, // isNewUser
+                                true,
+                                role
+                            );
+                            
+                            // Authentication 객체 생성
+                            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                                customUser, 
+                                null, 
+                                customUser.getAuthorities()
+                            );
+                            
+                            accessor.setUser(authentication);
+                            log.debug("WebSocket JWT 인증 성공 - userId: {}", userId);
+                        } catch (ServiceException e) {
+                            // 만료/위조 토큰 (서명 검증 실패 사유는 JwtProvider에서 기록)
+                            log.warn("WebSocket 연결 시 유효하지 않은 JWT 토큰 - {}", e.getMessage());
                         } catch (Exception e) {
                             log.error("WebSocket JWT 인증 실패", e);
                         }
                     } else {
-                        log.warn("WebSocket 연결 시 유효하지 않은 JWT 토큰");
+                        log.warn("WebSocket 연결 시 JWT 토큰 없음");
                     }
                 }
                 
@@ -1,22 +1,60 @@
 package com.bookbook.domain.chat.config;
 
+import com.bookbook.domain.chat.presence.ChatSessionRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 하트비트 주기 (서버 전송, 클라이언트 수신 기대값) - 클라이언트 설정(20초)과 맞춤
+    private static final long HEARTBEAT_MS = 20_000;
+
+    private final ChatSessionRegistry chatSessionRegistry;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.initialize();
+
         // 메시지 브로커 설정
-        config.enableSimpleBroker("/topic"); // 클라이언트가 구독할 경로
+        // 클라이언트가 구독할 경로
+        // relay 모드에서도 구독은 각 서버의 브로커가 관리하고, 서버 간 전달은 ChatBroadcaster가 메시지 버스로 처리
+        config.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{HEARTBEAT_MS, HEARTBEAT_MS})
+                .setTaskScheduler(heartbeatScheduler);
         config.setApplicationDestinationPrefixes("/app"); // 클라이언트가 메시지를 보낼 경로
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 하트비트를 포함해 클라이언트에서 받은 모든 프레임으로 세션의 마지막 수신 시간 갱신
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (sessionId != null) {
+                    chatSessionRegistry.touch(sessionId);
+                }
+                return message;
+            }
+        });
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결 엔드포인트 설정
@@ -4,7 +4,10 @@ import com.bookbook.domain.chat.dto.*;
 import com.bookbook.domain.chat.service.ChatService;
 import com.bookbook.global.rsdata.RsData;
 import com.bookbook.global.security.CustomOAuth2User;
+import com.bookbook.global.util.CursorResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,9 +15,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Validated
 @RequestMapping("/api/v1/bookbook/chat")
 @RequiredArgsConstructor
 @Slf4j
@@ -75,8 +80,8 @@ public class ChatController {
      */
     @GetMapping("/rooms")
     public ResponseEntity<RsData<Page<ChatRoomResponse>>> getChatRooms(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @AuthenticationPrincipal CustomOAuth2User user) {
         
         log.info("채팅방 목록 조회 - userId: {}, page: {}, size: {}", user.getUserId(), page, size);
@@ -93,6 +98,22 @@ public class ChatController {
         }
     }
     
+    /**
+     * 내 채팅방 목록 조회 (커서 기반 페이지네이션)
+     */
+    @GetMapping("/rooms/cursor")
+    public ResponseEntity<RsData<CursorResponse<ChatRoomResponse>>> getChatRoomsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+        
+        log.info("채팅방 목록 조회 (커서) - userId: {}, size: {}", user.getUserId(), size);
+        
+        CursorResponse<ChatRoomResponse> chatRooms = chatService.getChatRoomsByCursor(user.getUserId().intValue(), cursor, size);
+        
+        return ResponseEntity.ok(RsData.of("200", "채팅방 목록을 조회했습니다.", chatRooms));
+    }
+    
     /**
      * 채팅방 정보 조회
      */
@@ -123,8 +144,8 @@ public class ChatController {
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<RsData<Page<MessageResponse>>> getChatMessages(
             @PathVariable String roomId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
             @AuthenticationPrincipal CustomOAuth2User user) {
         
         log.info("채팅 메시지 조회 - roomId: {}, userId: {}, page: {}, size: {}", 
@@ -146,6 +167,29 @@ public class ChatController {
         }
     }
     
+    /**
+     * 채팅방 메시지 목록 조회 (보낸 시간 + 메시지 ID 커서 기반)
+     *
+     * @param roomId 채팅방 ID
+     * @param before 이 커서보다 이전 메시지를 최신순으로 조회 (없으면 가장 최근 메시지부터)
+     * @param after 이 커서보다 이후 메시지를 오래된 순으로 조회 (재연결 후 놓친 메시지 조회용)
+     * @param size 페이지 크기 (기본: 50개)
+     * @return 메시지 목록과 다음 요청에 before/after로 전달할 커서
+     */
+    @GetMapping("/rooms/{roomId}/messages/cursor")
+    public ResponseEntity<RsData<CursorResponse<MessageResponse>>> getChatMessagesByCursor(
+            @PathVariable String roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+        
+        CursorResponse<MessageResponse> messages = chatService.getChatMessagesByCursor(
+                roomId, user.getUserId().intValue(), before, after, size);
+        
+        return ResponseEntity.ok(RsData.of("200", "채팅 메시지를 조회했습니다.", messages));
+    }
+    
     /**
      * 메시지 전송
      */
@@ -158,7 +202,7 @@ public class ChatController {
                 request.getRoomId(), user.getUserId(), request.getMessageType());
         
         try {
-            MessageResponse response = chatService.sendMessage(request, user.getUserId().intValue());
+            MessageResponse response = chatService.sendMessage(request, user.getUserId().intValue(), user.getNickname());
             
             return ResponseEntity.ok(RsData.of("200", "메시지가 전송되었습니다.", response));
         } catch (Exception e) {
@@ -1,15 +1,16 @@
 package com.bookbook.domain.chat.controller;
 
+import com.bookbook.domain.chat.broker.ChatBroadcaster;
 import com.bookbook.domain.chat.dto.MessageResponse;
 import com.bookbook.domain.chat.dto.MessageSendRequest;
 import com.bookbook.domain.chat.service.ChatService;
+import com.bookbook.domain.user.service.UserNicknameCache;
 import com.bookbook.global.security.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
@@ -18,8 +19,9 @@ import org.springframework.stereotype.Controller;
 @Slf4j
 public class WebSocketChatController {
     
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     private final ChatService chatService;
+    private final UserNicknameCache userNicknameCache;
     
     /**
      * 채팅 메시지 전송 (WebSocket)
@@ -39,11 +41,11 @@ public class WebSocketChatController {
             
             log.info("WebSocket 메시지 전송 - roomId: {}, userId: {}", request.getRoomId(), userId);
             
-            // 메시지 저장
-            MessageResponse messageResponse = chatService.sendMessage(request, userId);
+            // 메시지 저장 요청 (DB 저장은 ChatMessageWriter가 모아서 처리하므로 바로 전송 가능)
+            MessageResponse messageResponse = chatService.sendMessage(request, userId, user.getNickname());
             
-            // 채팅방 구독자들에게 메시지 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/chat/" + request.getRoomId(), messageResponse);
+            // 채팅방 구독자들에게 메시지 브로드캐스트 (relay 모드에서는 모든 서버의 구독자에게 전달)
+            chatBroadcaster.send("/topic/chat/" + request.getRoomId(), messageResponse);
             
             log.info("WebSocket 메시지 전송 완료 - messageId: {}", messageResponse.getId());
             
@@ -66,14 +68,15 @@ public class WebSocketChatController {
             }
             
             CustomOAuth2User user = (CustomOAuth2User) auth.getPrincipal();
+            String nickname = nicknameOf(user);
             
             log.info("WebSocket 사용자 입장 - roomId: {}, userId: {}, nickname: {}", 
-                    roomId, user.getUserId(), user.getNickname());
+                    roomId, user.getUserId(), nickname);
             
             // 세션에 사용자 정보 저장
             headerAccessor.getSessionAttributes().put("userId", user.getUserId().intValue());
             headerAccessor.getSessionAttributes().put("roomId", roomId);
-            headerAccessor.getSessionAttributes().put("nickname", user.getNickname());
+            headerAccessor.getSessionAttributes().put("nickname", nickname);
             
         } catch (Exception e) {
             log.error("WebSocket 사용자 입장 실패", e);
@@ -102,11 +105,16 @@ public class WebSocketChatController {
             chatService.markMessagesAsRead(roomId, userId);
             
             // 읽음 처리 알림을 채팅방에 브로드캐스트 (선택사항)
-            messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/read", 
-                    "사용자 " + user.getNickname() + "이(가) 메시지를 읽었습니다.");
+            chatBroadcaster.send("/topic/chat/" + roomId + "/read",
+                    "사용자 " + nicknameOf(user) + "이(가) 메시지를 읽었습니다.");
             
         } catch (Exception e) {
             log.error("WebSocket 읽음 처리 실패", e);
         }
     }
+    
+    // CONNECT 시에는 JWT 클레임만으로 인증하므로, 닉네임은 필요할 때 캐시에서 조회
+    private String nicknameOf(CustomOAuth2User user) {
+        return user.getNickname() != null ? user.getNickname() : userNicknameCache.get(user.getUserId());
+    }
 }
@@ -0,0 +1,87 @@
+package com.bookbook.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 채팅방 목록 항목 (조회용 비정규화 테이블)
+ *
+ * <p>채팅방 목록에 표시할 상대방 닉네임, 책 정보, 마지막 메시지, 읽지 않은 메시지 수를 사용자마다 한 행에 모아 두어,
+ * 목록 조회가 (user_id, hidden, last_message_time, chat_room_id) 인덱스의 범위 조회 한 번으로 끝나도록 합니다.
+ * 메시지 저장, 읽음 처리, 채팅방 나가기, 게시글 수정, 닉네임 변경 시 함께 갱신합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_inbox_room_user", columnNames = {"room_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_chat_inbox_user_list", columnList = "user_id, hidden, last_message_time, chat_room_id"),
+                @Index(name = "idx_chat_inbox_rent", columnList = "rent_id"),
+                @Index(name = "idx_chat_inbox_other_user", columnList = "other_user_id")
+        })
+public class ChatInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId; // 목록 주인
+
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Integer chatRoomId; // ChatRoom의 ID (목록 정렬 및 커서용)
+
+    @Column(name = "rent_id", nullable = false)
+    private Integer rentId;
+
+    @Column(name = "other_user_id", nullable = false)
+    private Integer otherUserId;
+
+    private String otherUserNickname;
+
+    private String bookTitle;
+
+    private String bookImage;
+
+    private String lastMessage;
+
+    @Column(name = "last_message_time")
+    private LocalDateTime lastMessageTime;
+
+    @Column(nullable = false)
+    private int unreadCount;
+
+    @Column(nullable = false)
+    private boolean hidden; // 목록에서 숨김 (채팅방을 나갔거나 비활성 채팅방)
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @Builder
+    public ChatInbox(Integer userId, String roomId, Integer chatRoomId, Integer rentId, Integer otherUserId,
+                     String otherUserNickname, String bookTitle, String bookImage, String lastMessage,
+                     LocalDateTime lastMessageTime, int unreadCount, boolean hidden, LocalDateTime createdDate) {
+        this.userId = userId;
+        this.roomId = roomId;
+        this.chatRoomId = chatRoomId;
+        this.rentId = rentId;
+        this.otherUserId = otherUserId;
+        this.otherUserNickname = otherUserNickname;
+        this.bookTitle = bookTitle;
+        this.bookImage = bookImage;
+        this.lastMessage = lastMessage;
+        this.lastMessageTime = lastMessageTime;
+        this.unreadCount = unreadCount;
+        this.hidden = hidden;
+        this.createdDate = createdDate;
+    }
+}
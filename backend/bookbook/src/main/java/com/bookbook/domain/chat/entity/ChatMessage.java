@@ -17,11 +17,14 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_id", columnList = "room_id, id"),
+        @Index(name = "idx_chat_message_room_created_id", columnList = "room_id, created_date, id")
+})
 public class ChatMessage extends BaseEntity {
     
+    // ChatMessageIdAllocator가 발급한 ID만 사용 (DB 자동 증가 값과 섞이면 이미 발급한 ID와 겹칠 수 있음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
     
     @Column(nullable = false)
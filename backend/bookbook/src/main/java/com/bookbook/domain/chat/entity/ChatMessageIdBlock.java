@@ -0,0 +1,42 @@
+package com.bookbook.domain.chat.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 ID 발급 상태
+ *
+ * <p>메시지를 DB에 저장하기 전에 ID를 정해 바로 전송할 수 있도록,
+ * 서버마다 다음에 발급할 ID부터 일정 개수씩 구간을 예약합니다.
+ * 여러 서버가 같은 행을 잠그고 갱신하므로 ID가 겹치지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message_id_block")
+public class ChatMessageIdBlock {
+
+    @Id
+    @Column(length = 30)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer nextId; // 아직 예약되지 않은 첫 번째 ID
+
+    public ChatMessageIdBlock(String name, Integer nextId) {
+        this.name = name;
+        this.nextId = nextId;
+    }
+
+    // size개의 ID를 예약하고 예약한 구간의 첫 번째 ID를 반환
+    public int reserve(int size) {
+        int start = nextId;
+        nextId = start + size;
+        return start;
+    }
+}
@@ -7,8 +7,12 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @Entity
 @Getter
@@ -47,11 +51,16 @@ public class ChatRoom extends BaseEntity {
         isActive = active;
     }
     
-    // 나간 사용자들을 표시 (JSON 형태로 저장: {"userId1": "timestamp", "userId2": "timestamp"})
+    // 채팅방 참여자 (빌려주는 사람, 빌리는 사람)
+    @Builder.Default
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ChatRoomMember> members = new ArrayList<>();
+    
+    // 이전 형식의 나간 사용자 기록 (chat_room_member로 옮기기 전 데이터, 백필 후 비워짐)
     @Column(columnDefinition = "TEXT")
     private String leftUserIds;
     
-    // 사용자별 나간 시간 기록 (userId:timestamp,userId:timestamp 형식)
     @Column(columnDefinition = "TEXT")
     private String userLeftTimes;
     
@@ -78,119 +87,48 @@ public class ChatRoom extends BaseEntity {
         this.lastMessageTime = messageTime;
     }
     
+    // 참여자 추가 (새 채팅방 생성, 이전 형식 데이터 백필 시 사용)
+    public ChatRoomMember addMember(Integer userId, LocalDateTime joinedAt) {
+        ChatRoomMember member = new ChatRoomMember(this, userId, joinedAt);
+        members.add(member);
+        return member;
+    }
+    
+    // 참여자 조회
+    public Optional<ChatRoomMember> findMember(Integer userId) {
+        return members.stream()
+                .filter(member -> member.getUserId().equals(userId))
+                .findFirst();
+    }
+    
     // 사용자가 채팅방을 나간 것으로 표시
     public void markUserAsLeft(Integer userId) {
-        LocalDateTime leftTime = LocalDateTime.now();
-        
-        // leftUserIds 업데이트
-        if (leftUserIds == null || leftUserIds.isEmpty()) {
-            leftUserIds = userId.toString();
-        } else if (!leftUserIds.contains(userId.toString())) {
-            leftUserIds += "," + userId;
-        }
-        
-        // 나간 시간 기록
-        String timeRecord = userId + ":" + leftTime.toString();
-        if (userLeftTimes == null || userLeftTimes.isEmpty()) {
-            userLeftTimes = timeRecord;
-        } else {
-            // 기존 기록 제거 후 새로 추가
-            userLeftTimes = removeUserLeftTime(userId) + "," + timeRecord;
-            userLeftTimes = userLeftTimes.replaceAll("^,|,$", ""); // 앞뒤 쉼표 제거
-        }
+        findMember(userId).ifPresent(member -> member.leave(LocalDateTime.now()));
     }
     
     // 사용자가 나간 상태인지 확인
     public boolean hasUserLeft(Integer userId) {
-        if (leftUserIds == null || leftUserIds.isEmpty()) {
-            return false;
-        }
-        
-        String userIdStr = userId.toString();
-        String[] leftIds = leftUserIds.split(",");
-        
-        for (String leftId : leftIds) {
-            if (leftId.trim().equals(userIdStr)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return findMember(userId).map(ChatRoomMember::hasLeft).orElse(false);
     }
     
     // 사용자가 나간 시간 가져오기
     public LocalDateTime getUserLeftTime(Integer userId) {
-        if (userLeftTimes == null || userLeftTimes.isEmpty()) {
-            return null;
-        }
-        
-        String[] records = userLeftTimes.split(",");
-        for (String record : records) {
-            String[] parts = record.split(":");
-            if (parts.length >= 2 && parts[0].equals(userId.toString())) {
-                try {
-                    // userId:yyyy-MM-ddTHH:mm:ss.nnnnnnnnn 형식에서 시간 부분 추출
-                    String timeStr = record.substring(parts[0].length() + 1);
-                    return LocalDateTime.parse(timeStr);
-                } catch (Exception e) {
-                    return null;
-                }
-            }
-        }
-        return null;
-    }
-    
-    // 특정 사용자의 나간 시간 기록 제거
-    private String removeUserLeftTime(Integer userId) {
-        if (userLeftTimes == null || userLeftTimes.isEmpty()) {
-            return "";
-        }
-        
-        String[] records = userLeftTimes.split(",");
-        StringBuilder result = new StringBuilder();
-        
-        for (String record : records) {
-            if (!record.startsWith(userId + ":")) {
-                if (result.length() > 0) {
-                    result.append(",");
-                }
-                result.append(record);
-            }
-        }
-        
-        return result.toString();
+        return findMember(userId).map(ChatRoomMember::getLeftAt).orElse(null);
     }
     
     // 사용자가 채팅방에 다시 들어올 때 나간 상태 해제
     public void rejoinUser(Integer userId) {
-        if (hasUserLeft(userId)) {
-            String userIdStr = userId.toString();
-            String[] leftIds = leftUserIds.split(",");
-            StringBuilder newLeftIds = new StringBuilder();
-            
-            for (String leftId : leftIds) {
-                if (!leftId.trim().equals(userIdStr)) {
-                    if (newLeftIds.length() > 0) {
-                        newLeftIds.append(",");
-                    }
-                    newLeftIds.append(leftId.trim());
-                }
-            }
-            
-            leftUserIds = newLeftIds.length() > 0 ? newLeftIds.toString() : null;
-            
-            // 나간 시간 기록도 제거
-            userLeftTimes = removeUserLeftTime(userId);
-            if (userLeftTimes.isEmpty()) {
-                userLeftTimes = null;
-            }
-        }
+        findMember(userId)
+                .filter(ChatRoomMember::hasLeft)
+                .ifPresent(member -> member.rejoin(LocalDateTime.now()));
     }
     
     // 채팅방의 모든 사용자 나간 상태를 안전하게 초기화 (재활성화)
     public void resetUserLeftStatus() {
-        this.leftUserIds = null;
-        this.userLeftTimes = null;
+        LocalDateTime now = LocalDateTime.now();
+        members.stream()
+                .filter(ChatRoomMember::hasLeft)
+                .forEach(member -> member.rejoin(now));
         this.isActive = true; // setIsActive 대신 직접 필드 설정
     }
     
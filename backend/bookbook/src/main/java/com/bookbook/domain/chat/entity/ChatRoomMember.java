@@ -0,0 +1,67 @@
+package com.bookbook.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 참여자
+ *
+ * <p>채팅방마다 빌려주는 사람과 빌리는 사람 두 명의 행이 있으며, 채팅방을 나가면 leftAt이 기록되고
+ * 다시 들어오면 비워집니다. 나가지 않은 채팅방 조회는 (user_id, left_at) 인덱스로 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_room_member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_member_room_user", columnNames = {"chat_room_id", "user_id"}),
+        indexes = @Index(name = "idx_chat_room_member_user_left", columnList = "user_id, left_at"))
+public class ChatRoomMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Column(name = "left_at")
+    private LocalDateTime leftAt; // 나간 시간 (참여 중이면 null)
+
+    private Integer lastReadMessageId; // 마지막으로 읽은 메시지 ID
+
+    public ChatRoomMember(ChatRoom chatRoom, Integer userId, LocalDateTime joinedAt) {
+        this.chatRoom = chatRoom;
+        this.userId = userId;
+        this.joinedAt = joinedAt;
+    }
+
+    public boolean hasLeft() {
+        return leftAt != null;
+    }
+
+    public void leave(LocalDateTime time) {
+        this.leftAt = time;
+    }
+
+    public void rejoin(LocalDateTime time) {
+        this.leftAt = null;
+        this.joinedAt = time;
+    }
+
+    public void markRead(Integer messageId) {
+        if (messageId != null && (lastReadMessageId == null || messageId > lastReadMessageId)) {
+            this.lastReadMessageId = messageId;
+        }
+    }
+}
@@ -1,40 +1,76 @@
 package com.bookbook.domain.chat.listener;
 
+import com.bookbook.domain.chat.presence.ChatSessionRegistry;
+import com.bookbook.global.security.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
     
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatSessionRegistry chatSessionRegistry;
     
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
-        log.info("새로운 WebSocket 연결이 수신되었습니다");
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        Integer userId = userIdOf(event.getUser());
+        
+        // 인증된 세션만 접속 상태에 등록
+        if (userId != null) {
+            chatSessionRegistry.connect(headerAccessor.getSessionId(), userId);
+        }
+        log.info("새로운 WebSocket 연결이 수신되었습니다 - userId: {}", userId);
+    }
+    
+    @EventListener
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatSessionRegistry.subscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(),
+                headerAccessor.getDestination());
+    }
+    
+    @EventListener
+    public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        chatSessionRegistry.unsubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
     }
     
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+        chatSessionRegistry.disconnect(event.getSessionId());
+        
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return;
+        }
         
-        String roomId = (String) headerAccessor.getSessionAttributes().get("roomId");
-        String nickname = (String) headerAccessor.getSessionAttributes().get("nickname");
-        Long userId = (Long) headerAccessor.getSessionAttributes().get("userId");
+        String roomId = (String) sessionAttributes.get("roomId");
+        String nickname = (String) sessionAttributes.get("nickname");
+        Object userId = sessionAttributes.get("userId");
         
         if (roomId != null && nickname != null) {
             log.info("사용자 연결 해제 - roomId: {}, userId: {}, nickname: {}", roomId, userId, nickname);
-            
-            // 선택사항: 사용자 나감 알림을 채팅방에 브로드캐스트
-            // messagingTemplate.convertAndSend("/topic/chat/" + roomId, 
-            //         nickname + "님이 채팅방을 나갔습니다.");
         }
     }
+    
+    private static Integer userIdOf(Principal principal) {
+        if (principal instanceof Authentication auth && auth.getPrincipal() instanceof CustomOAuth2User user) {
+            return user.getUserId().intValue();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,221 @@
+package com.bookbook.domain.chat.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 세션 레지스트리 (접속 상태 관리)
+ *
+ * <p>이 서버에 연결된 세션을 사용자별, 채팅방 구독별로 기억해 두어 사용자의 접속 여부와
+ * 채팅방을 보고 있는지를 잠금 없이 확인할 수 있게 합니다.
+ * <ul>
+ *   <li>세션 ID -> 세션 정보 (사용자 ID, 구독 중인 채팅방, 마지막 수신 시간)</li>
+ *   <li>사용자 ID -> 세션 ID 목록</li>
+ *   <li>채팅방 ID -> 구독 중인 세션 ID 목록</li>
+ * </ul>
+ * 세션에서 메시지나 하트비트를 받을 때마다 마지막 수신 시간을 갱신하고, 연결 해제 이벤트를 놓친 세션은
+ * 주기적으로 정리합니다. 사용자의 첫 세션이 연결되거나 마지막 세션이 끊어지면 {@link PresenceChangedEvent}를 발행합니다.
+ *
+ * <p>서버별 레지스트리이므로 다른 서버에 연결된 사용자는 접속하지 않은 것으로 보입니다.
+ */
+@Slf4j
+@Component
+public class ChatSessionRegistry {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chat/";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long staleAfterNanos;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionsByRoom = new ConcurrentHashMap<>();
+
+    public ChatSessionRegistry(ApplicationEventPublisher eventPublisher,
+                               @Value("${chat.presence.stale-after-seconds:90}") long staleAfterSeconds) {
+        this.eventPublisher = eventPublisher;
+        this.staleAfterNanos = TimeUnit.SECONDS.toNanos(staleAfterSeconds);
+    }
+
+    /**
+     * 인증된 세션의 연결을 등록합니다.
+     */
+    public void connect(String sessionId, Integer userId) {
+        if (sessions.putIfAbsent(sessionId, new Session(userId)) != null) {
+            return;
+        }
+
+        boolean[] firstSession = {false};
+        sessionsByUser.compute(userId, (id, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+                firstSession[0] = true;
+            }
+            ids.add(sessionId);
+            return ids;
+        });
+        if (firstSession[0]) {
+            eventPublisher.publishEvent(new PresenceChangedEvent(userId, true));
+        }
+    }
+
+    /**
+     * 세션의 연결 해제를 반영합니다. 구독 중이던 채팅방에서도 제거합니다.
+     */
+    public void disconnect(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        session.subscriptions.values().forEach(roomId -> removeFromRoom(roomId, sessionId));
+
+        boolean[] lastSession = {false};
+        sessionsByUser.computeIfPresent(session.userId, (id, ids) -> {
+            ids.remove(sessionId);
+            lastSession[0] = ids.isEmpty();
+            return lastSession[0] ? null : ids;
+        });
+        if (lastSession[0]) {
+            eventPublisher.publishEvent(new PresenceChangedEvent(session.userId, false));
+        }
+    }
+
+    /**
+     * 구독을 반영합니다. 채팅방 메시지 경로(/topic/chat/{roomId})만 채팅방 구독으로 기록합니다.
+     */
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        Session session = sessions.get(sessionId);
+        String roomId = roomIdOf(destination);
+        if (session == null || subscriptionId == null || roomId == null) {
+            return;
+        }
+
+        session.subscriptions.put(subscriptionId, roomId);
+        sessionsByRoom.compute(roomId, (id, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(sessionId);
+            return ids;
+        });
+    }
+
+    /**
+     * 구독 해제를 반영합니다.
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+
+        String roomId = session.subscriptions.remove(subscriptionId);
+        // 같은 채팅방을 다른 구독으로도 보고 있으면 유지
+        if (roomId != null && !session.subscriptions.containsValue(roomId)) {
+            removeFromRoom(roomId, sessionId);
+        }
+    }
+
+    /**
+     * 세션에서 메시지나 하트비트를 받은 시간을 갱신합니다.
+     */
+    public void touch(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeen = System.nanoTime();
+        }
+    }
+
+    /**
+     * 사용자가 이 서버에 접속해 있는지 확인합니다.
+     */
+    public boolean isOnline(Integer userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * 사용자가 채팅방을 구독하고 있는지(채팅방 화면을 보고 있는지) 확인합니다.
+     */
+    public boolean isViewing(String roomId, Integer userId) {
+        Set<String> ids = sessionsByRoom.get(roomId);
+        if (ids == null) {
+            return false;
+        }
+        for (String sessionId : ids) {
+            Session session = sessions.get(sessionId);
+            if (session != null && session.userId.equals(userId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 연결된 세션 수를 반환합니다.
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 접속 중인 사용자 수를 반환합니다.
+     */
+    public int onlineUserCount() {
+        return sessionsByUser.size();
+    }
+
+    /**
+     * 하트비트가 끊긴 세션을 정리합니다. (연결 해제 이벤트를 받지 못한 세션 보정용)
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.sweep-interval-ms:30000}")
+    public void sweepStaleSessions() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (now - entry.getValue().lastSeen > staleAfterNanos) {
+                disconnect(entry.getKey());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("응답 없는 WebSocket 세션 정리 - {}개, 남은 세션: {}개, 접속 사용자: {}명",
+                    removed, sessions.size(), sessionsByUser.size());
+        }
+    }
+
+    private void removeFromRoom(String roomId, String sessionId) {
+        sessionsByRoom.computeIfPresent(roomId, (id, ids) -> {
+            ids.remove(sessionId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // "/topic/chat/{roomId}" 에서 채팅방 ID 추출 (읽음 알림 등 하위 경로는 제외)
+    private static String roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        String roomId = destination.substring(ROOM_TOPIC_PREFIX.length());
+        return roomId.isEmpty() || roomId.contains("/") ? null : roomId;
+    }
+
+    private static final class Session {
+        private final Integer userId;
+        // 구독 ID -> 채팅방 ID
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>(4);
+        private volatile long lastSeen = System.nanoTime();
+
+        private Session(Integer userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookbook.domain.chat.presence;
+
+/**
+ * 사용자의 접속 상태 변경 이벤트
+ * 사용자의 첫 WebSocket 세션이 연결되거나 마지막 세션이 끊어질 때 발행됩니다.
+ *
+ * @param userId 사용자 ID
+ * @param online 접속 여부
+ */
+public record PresenceChangedEvent(
+        Integer userId,
+        boolean online
+) {
+}
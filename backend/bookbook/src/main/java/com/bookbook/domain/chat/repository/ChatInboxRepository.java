@@ -0,0 +1,79 @@
+package com.bookbook.domain.chat.repository;
+
+import com.bookbook.domain.chat.entity.ChatInbox;
+import com.bookbook.domain.chat.entity.ChatRoom;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Integer> {
+
+    // 채팅방 목록 (최신 메시지 순) - 숨기지 않았고 메시지가 있는 채팅방만
+    @Query("SELECT i FROM ChatInbox i " +
+           "WHERE i.userId = :userId AND i.hidden = false AND i.lastMessageTime IS NOT NULL " +
+           "ORDER BY i.lastMessageTime DESC, i.chatRoomId DESC")
+    Page<ChatInbox> findPageByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 커서 페이지네이션 첫 페이지 - (마지막 메시지 시간, 채팅방 ID) 역순
+    @Query("SELECT i FROM ChatInbox i " +
+           "WHERE i.userId = :userId AND i.hidden = false AND i.lastMessageTime IS NOT NULL " +
+           "ORDER BY i.lastMessageTime DESC, i.chatRoomId DESC")
+    List<ChatInbox> findFirstByUserId(@Param("userId") Integer userId, Pageable limit);
+
+    // 커서 페이지네이션 다음 페이지 - 커서 위치(마지막 메시지 시간, 채팅방 ID) 이후만 조회
+    @Query("SELECT i FROM ChatInbox i " +
+           "WHERE i.userId = :userId AND i.hidden = false AND i.lastMessageTime IS NOT NULL " +
+           "AND (i.lastMessageTime < :lastMessageTime " +
+           "     OR (i.lastMessageTime = :lastMessageTime AND i.chatRoomId < :chatRoomId)) " +
+           "ORDER BY i.lastMessageTime DESC, i.chatRoomId DESC")
+    List<ChatInbox> findNextByUserId(@Param("userId") Integer userId,
+                                     @Param("lastMessageTime") LocalDateTime lastMessageTime,
+                                     @Param("chatRoomId") Integer chatRoomId,
+                                     Pageable limit);
+
+    // 사용자의 전체 읽지 않은 메시지 수
+    @Query("SELECT COALESCE(SUM(i.unreadCount), 0) FROM ChatInbox i WHERE i.userId = :userId AND i.hidden = false")
+    long sumUnreadCountByUserId(@Param("userId") Integer userId);
+
+    // 여러 채팅방의 목록 항목 (읽지 않은 메시지 수 조회용)
+    List<ChatInbox> findByUserIdAndRoomIdIn(Integer userId, Collection<String> roomIds);
+
+    // 읽지 않은 메시지 수 재설정
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.unreadCount = :unreadCount WHERE i.roomId = :roomId AND i.userId = :userId")
+    int updateUnreadCount(@Param("roomId") String roomId, @Param("userId") Integer userId, @Param("unreadCount") int unreadCount);
+
+    // 목록 숨김 여부 변경 (채팅방 나가기, 다시 들어오기)
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.hidden = :hidden WHERE i.roomId = :roomId AND i.userId = :userId")
+    int updateHidden(@Param("roomId") String roomId, @Param("userId") Integer userId, @Param("hidden") boolean hidden);
+
+    // 게시글의 책 정보 변경 반영
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.bookTitle = :bookTitle, i.bookImage = :bookImage WHERE i.rentId = :rentId")
+    int updateBook(@Param("rentId") Integer rentId, @Param("bookTitle") String bookTitle, @Param("bookImage") String bookImage);
+
+    // 상대방 닉네임 변경 반영
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.otherUserNickname = :nickname WHERE i.otherUserId = :otherUserId")
+    int updateOtherUserNickname(@Param("otherUserId") Integer otherUserId, @Param("nickname") String nickname);
+
+    // 채팅방 삭제 시 함께 삭제
+    @Modifying
+    @Query("DELETE FROM ChatInbox i WHERE i.roomId = :roomId")
+    int deleteByRoomId(@Param("roomId") String roomId);
+
+    // 목록 항목이 없는 채팅방 (chat_inbox 도입 전에 만들어진 채팅방 백필용)
+    @Query("SELECT cr FROM ChatRoom cr " +
+           "WHERE cr.id > :lastId " +
+           "AND NOT EXISTS (SELECT 1 FROM ChatInbox i WHERE i.roomId = cr.roomId) " +
+           "ORDER BY cr.id ASC")
+    List<ChatRoom> findRoomsWithoutInbox(@Param("lastId") Integer lastId, Pageable limit);
+}
@@ -0,0 +1,18 @@
+package com.bookbook.domain.chat.repository;
+
+import com.bookbook.domain.chat.entity.ChatMessageIdBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChatMessageIdBlockRepository extends JpaRepository<ChatMessageIdBlock, String> {
+
+    // ID 구간 예약용 조회 (다른 서버의 예약이 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ChatMessageIdBlock b WHERE b.name = :name")
+    Optional<ChatMessageIdBlock> findForUpdate(@Param("name") String name);
+}
@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Integer> {
     
@@ -16,10 +19,37 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Intege
     Page<ChatMessage> findByRoomIdOrderByCreatedDateDesc(String roomId, Pageable pageable);
     
     // 특정 시간 이후의 채팅방 메시지 목록 조회 (최신순)
-    Page<ChatMessage> findByRoomIdAndCreatedDateAfterOrderByCreatedDateDesc(String roomId, java.time.LocalDateTime createdDate, Pageable pageable);
+    Page<ChatMessage> findByRoomIdAndCreatedDateAfterOrderByCreatedDateDesc(String roomId, LocalDateTime createdDate, Pageable pageable);
+    
+    // 커서 기반 메시지 조회 - since 이후이면서 (time, id)보다 이전인 메시지를 최신순으로 조회 (이전 메시지 불러오기)
+    @Query("SELECT cm FROM ChatMessage cm " +
+           "WHERE cm.roomId = :roomId AND cm.createdDate > :since " +
+           "AND (cm.createdDate < :time OR (cm.createdDate = :time AND cm.id < :id)) " +
+           "ORDER BY cm.createdDate DESC, cm.id DESC")
+    List<ChatMessage> findPageBefore(@Param("roomId") String roomId, @Param("since") LocalDateTime since,
+                                     @Param("time") LocalDateTime time, @Param("id") Integer id, Pageable limit);
+    
+    // 커서 기반 메시지 조회 - (time, id) 이후의 메시지를 오래된 순으로 조회 (재연결 후 놓친 메시지 불러오기)
+    @Query("SELECT cm FROM ChatMessage cm " +
+           "WHERE cm.roomId = :roomId " +
+           "AND (cm.createdDate > :time OR (cm.createdDate = :time AND cm.id > :id)) " +
+           "ORDER BY cm.createdDate ASC, cm.id ASC")
+    List<ChatMessage> findPageAfter(@Param("roomId") String roomId,
+                                    @Param("time") LocalDateTime time, @Param("id") Integer id, Pageable limit);
     
     // 특정 채팅방의 메시지 개수
     long countByRoomId(String roomId);
+
+    // 채팅방에 메시지가 있는지 확인
+    boolean existsByRoomId(String roomId);
+
+    // 채팅방의 가장 큰 메시지 ID (마지막으로 읽은 메시지 기록용)
+    @Query("SELECT MAX(cm.id) FROM ChatMessage cm WHERE cm.roomId = :roomId")
+    Integer findMaxIdByRoomId(@Param("roomId") String roomId);
+
+    // 가장 큰 메시지 ID (메시지 ID 발급 시작값 계산용)
+    @Query("SELECT COALESCE(MAX(cm.id), 0) FROM ChatMessage cm")
+    int findMaxId();
     
     // 특정 사용자의 읽지 않은 메시지 개수 (전체) - 시스템 메시지 제외
     @Query("SELECT COUNT(cm) FROM ChatMessage cm " +
@@ -0,0 +1,20 @@
+package com.bookbook.domain.chat.repository;
+
+import com.bookbook.domain.chat.entity.ChatRoom;
+import com.bookbook.domain.chat.entity.ChatRoomMember;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember, Integer> {
+
+    // 참여자 정보가 없는 채팅방 (chat_room_member 도입 전에 만들어진 채팅방 백필용)
+    @Query("SELECT cr FROM ChatRoom cr " +
+           "WHERE cr.id > :lastId " +
+           "AND cr.members IS EMPTY " +
+           "ORDER BY cr.id ASC")
+    List<ChatRoom> findRoomsWithoutMembers(@Param("lastId") Integer lastId, Pageable limit);
+}
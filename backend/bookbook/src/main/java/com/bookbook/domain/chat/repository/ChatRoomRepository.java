@@ -2,28 +2,19 @@ package com.bookbook.domain.chat.repository;
 
 import com.bookbook.domain.chat.entity.ChatRoom;
 import com.bookbook.domain.chat.entity.ChatMessage;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> {
     
-    // 사용자별 채팅방 목록 조회 (최신 메시지 순) - 메시지가 있는 채팅방만
-    @Query("SELECT cr FROM ChatRoom cr " +
-           "WHERE (cr.lenderId = :userId OR cr.borrowerId = :userId) " +
-           "AND cr.isActive = true " +
-           "AND EXISTS (SELECT 1 FROM ChatMessage cm WHERE cm.roomId = cr.roomId) " +
-           "ORDER BY cr.lastMessageTime DESC NULLS LAST, cr.createdDate DESC")
-    Page<ChatRoom> findByUserIdOrderByLastMessageTimeDesc(@Param("userId") Integer userId, Pageable pageable);
-    
     // 특정 대여 게시글에 대한 채팅방 존재 여부 확인
     Optional<ChatRoom> findByRentIdAndLenderIdAndBorrowerId(Integer rentId, Integer lenderId, Integer borrowerId);
     
@@ -38,6 +29,9 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Integer> {
     
     // 채팅방 ID로 조회
     Optional<ChatRoom> findByRoomId(String roomId);
+
+    // 여러 채팅방 조회 (누락된 채팅방 목록 항목 생성용)
+    List<ChatRoom> findByRoomIdIn(Collection<String> roomIds);
     
     // 사용자가 참여한 채팅방인지 확인 (나간 사용자도 포함)
     @Query("SELECT cr FROM ChatRoom cr " +
@@ -0,0 +1,274 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.dto.ChatRoomResponse;
+import com.bookbook.domain.chat.entity.ChatInbox;
+import com.bookbook.domain.chat.entity.ChatRoom;
+import com.bookbook.domain.chat.repository.ChatInboxRepository;
+import com.bookbook.domain.chat.repository.ChatMessageRepository;
+import com.bookbook.domain.chat.repository.ChatRoomRepository;
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.domain.user.entity.User;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import com.bookbook.global.util.CursorResponse;
+import com.bookbook.global.util.CursorToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 목록 항목({@link ChatInbox}) 관리 서비스
+ *
+ * <p>채팅방이 만들어질 때 참여자 두 명의 목록 항목을 만들고, 채팅방 나가기/다시 들어오기, 게시글의 책 정보 변경,
+ * 닉네임 변경을 항목에 반영합니다. 마지막 메시지와 읽지 않은 메시지 수는 메시지를 저장할 때
+ * {@link ChatMessageWriter}와 {@link ChatUnreadCounterService}가 갱신합니다.
+ * 채팅방 목록은 게시글, 회원 테이블을 읽지 않고 이 항목만 조회합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ChatInboxService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final String UNKNOWN_BOOK = "알 수 없는 책";
+    private static final String UNKNOWN_USER = "알 수 없는 사용자";
+
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final RentRepository rentRepository;
+    private final UserNicknameResolver userNicknameResolver;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChatInboxService(ChatInboxRepository chatInboxRepository,
+                            ChatMessageRepository chatMessageRepository,
+                            ChatRoomRepository chatRoomRepository,
+                            RentRepository rentRepository,
+                            UserNicknameResolver userNicknameResolver,
+                            ChatUnreadCounterService chatUnreadCounterService,
+                            PlatformTransactionManager transactionManager) {
+        this.chatInboxRepository = chatInboxRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.rentRepository = rentRepository;
+        this.userNicknameResolver = userNicknameResolver;
+        this.chatUnreadCounterService = chatUnreadCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * chat_inbox 도입 전에 만들어진 채팅방의 목록 항목을 만듭니다.
+     * 나간 상태는 참여자 백필({@link ChatRoomMemberBackfill}) 이후의 값을 사용하고,
+     * 읽지 않은 메시지 수는 메시지 테이블 기준으로 계산합니다. 500건씩 각각 한 트랜잭션에서 저장합니다.
+     * 애플리케이션 기동 시 요청을 받기 전에 실행합니다. ({@link com.bookbook.global.migration.StartupBackfill})
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        try {
+            int lastId = 0;
+            int filled = 0;
+            List<ChatRoom> rooms;
+            while (!(rooms = backfillBatch(lastId)).isEmpty()) {
+                filled += rooms.size();
+                lastId = rooms.get(rooms.size() - 1).getId();
+            }
+            if (filled > 0) {
+                log.info("채팅방 목록 항목 백필 완료 - 채팅방: {}개", filled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("채팅방 목록 항목 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 채팅방 목록을 최신 메시지 순으로 조회합니다.
+     */
+    public Page<ChatRoomResponse> getInbox(Integer userId, Pageable pageable) {
+        return chatInboxRepository.findPageByUserId(userId, pageable).map(ChatInboxService::toResponse);
+    }
+
+    /**
+     * 사용자의 채팅방 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     */
+    public CursorResponse<ChatRoomResponse> getInboxByCursor(Integer userId, String cursor, int size) {
+        CursorToken after = CursorToken.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ChatInbox> rows = after == null
+                ? chatInboxRepository.findFirstByUserId(userId, limit)
+                : chatInboxRepository.findNextByUserId(userId, after.time(), after.id(), limit);
+
+        return CursorResponse.of(rows, size,
+                inbox -> new CursorToken(inbox.getLastMessageTime(), inbox.getChatRoomId()),
+                ChatInboxService::toResponse);
+    }
+
+    /**
+     * 새 채팅방의 참여자 두 명의 목록 항목을 만듭니다.
+     */
+    @Transactional
+    public void createEntries(ChatRoom room, Rent rent, User lender, User borrower) {
+        chatInboxRepository.save(newEntry(room, room.getLenderId(), rent, borrower.getNickname(), 0, false));
+        chatInboxRepository.save(newEntry(room, room.getBorrowerId(), rent, lender.getNickname(), 0, false));
+    }
+
+    /**
+     * 목록 항목이 없는 (채팅방, 받는 사람)의 항목을 읽지 않은 메시지 수와 함께 만듭니다.
+     * 백필되지 않았거나 항목 생성이 누락된 채팅방에 메시지가 저장될 때, 카운터 증가를 잃지 않도록
+     * 메시지를 저장하는 트랜잭션 안에서 호출합니다. ({@link ChatUnreadCounterService#increment(Map)}의 반환값)
+     *
+     * @param unreadCounts (채팅방, 받는 사람) -> 읽지 않은 메시지 수
+     */
+    @Transactional
+    public void createMissingEntries(Map<ChatUnreadCounterService.CounterKey, Integer> unreadCounts) {
+        if (unreadCounts.isEmpty()) {
+            return;
+        }
+
+        List<ChatRoom> rooms = chatRoomRepository.findByRoomIdIn(unreadCounts.keySet().stream()
+                .map(ChatUnreadCounterService.CounterKey::roomId)
+                .distinct()
+                .toList());
+        EntryContext context = loadContext(rooms);
+
+        Map<String, ChatRoom> roomsById = rooms.stream().collect(Collectors.toMap(ChatRoom::getRoomId, Function.identity()));
+        List<ChatInbox> entries = new ArrayList<>();
+        unreadCounts.forEach((key, unreadCount) -> {
+            ChatRoom room = roomsById.get(key.roomId());
+            if (room == null) {
+                log.warn("채팅방 목록 항목 생성 실패 - 채팅방 없음: {}", key.roomId());
+                return;
+            }
+            boolean left = room.hasUserLeft(key.userId());
+            entries.add(context.newEntry(room, key.userId(), unreadCount, left || !room.isActive()));
+        });
+        chatInboxRepository.saveAll(entries);
+        chatUnreadCounterService.invalidate(entries.stream().map(ChatInbox::getUserId).distinct().toList());
+        log.info("누락된 채팅방 목록 항목 생성 - {}건", entries.size());
+    }
+
+    /**
+     * 채팅방을 사용자의 목록에서 숨기거나 다시 표시합니다. (채팅방 나가기, 다시 들어오기)
+     */
+    @Transactional
+    public void setHidden(String roomId, Integer userId, boolean hidden) {
+        chatInboxRepository.updateHidden(roomId, userId, hidden);
+        chatUnreadCounterService.invalidate(List.of(userId));
+    }
+
+    /**
+     * 게시글의 책 제목과 이미지 변경을 목록 항목에 반영합니다.
+     */
+    @Transactional
+    public void syncBook(Rent rent) {
+        chatInboxRepository.updateBook(rent.getId(), rent.getBookTitle(), rent.getBookImage());
+    }
+
+    /**
+     * 사용자의 닉네임 변경을 상대방의 목록 항목에 반영합니다.
+     */
+    @Transactional
+    public void syncNickname(Long userId, String nickname) {
+        chatInboxRepository.updateOtherUserNickname(userId.intValue(), nickname);
+    }
+
+    /**
+     * 채팅방의 목록 항목을 모두 삭제합니다.
+     */
+    @Transactional
+    public void deleteByRoom(ChatRoom room) {
+        chatInboxRepository.deleteByRoomId(room.getRoomId());
+        chatUnreadCounterService.invalidate(List.of(room.getLenderId(), room.getBorrowerId()));
+    }
+
+    private List<ChatRoom> backfillBatch(int lastId) {
+        return transactionTemplate.execute(status -> {
+            List<ChatRoom> rooms = chatInboxRepository.findRoomsWithoutInbox(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            if (rooms.isEmpty()) {
+                return rooms;
+            }
+
+            EntryContext context = loadContext(rooms);
+            List<ChatInbox> entries = new ArrayList<>();
+            for (ChatRoom room : rooms) {
+                for (Integer userId : List.of(room.getLenderId(), room.getBorrowerId())) {
+                    boolean left = room.hasUserLeft(userId);
+                    int unreadCount = left ? 0 : (int) chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(room.getRoomId(), userId);
+                    entries.add(context.newEntry(room, userId, unreadCount, left || !room.isActive()));
+                }
+            }
+            chatInboxRepository.saveAll(entries);
+            return rooms;
+        });
+    }
+
+    // 채팅방들의 게시글과 참여자 닉네임을 한 번에 조회
+    private EntryContext loadContext(List<ChatRoom> rooms) {
+        Map<Integer, Rent> rentsById = rentRepository.findAllById(rooms.stream().map(ChatRoom::getRentId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Rent::getId, Function.identity()));
+        Map<Long, String> nicknames = userNicknameResolver.resolve(rooms.stream()
+                .flatMap(room -> List.of(room.getLenderId().longValue(), room.getBorrowerId().longValue()).stream())
+                .toList());
+        return new EntryContext(rentsById, nicknames);
+    }
+
+    private record EntryContext(Map<Integer, Rent> rentsById, Map<Long, String> nicknames) {
+        ChatInbox newEntry(ChatRoom room, Integer userId, int unreadCount, boolean hidden) {
+            String otherUserNickname = nicknames.get(room.getOtherUserId(userId).longValue());
+            return ChatInboxService.newEntry(room, userId, rentsById.get(room.getRentId()), otherUserNickname, unreadCount, hidden);
+        }
+    }
+
+    private static ChatInbox newEntry(ChatRoom room, Integer userId, Rent rent, String otherUserNickname,
+                                      int unreadCount, boolean hidden) {
+        return ChatInbox.builder()
+                .userId(userId)
+                .roomId(room.getRoomId())
+                .chatRoomId(room.getId())
+                .rentId(room.getRentId())
+                .otherUserId(room.getOtherUserId(userId))
+                .otherUserNickname(otherUserNickname)
+                .bookTitle(rent != null ? rent.getBookTitle() : UNKNOWN_BOOK)
+                .bookImage(rent != null ? rent.getBookImage() : null)
+                .lastMessage(room.getLastMessage())
+                .lastMessageTime(room.getLastMessageTime())
+                .unreadCount(unreadCount)
+                .hidden(hidden)
+                .createdDate(room.getCreatedDate())
+                .build();
+    }
+
+    private static ChatRoomResponse toResponse(ChatInbox inbox) {
+        return ChatRoomResponse.builder()
+                .id(inbox.getChatRoomId())
+                .roomId(inbox.getRoomId())
+                .rentId(inbox.getRentId())
+                .bookTitle(inbox.getBookTitle())
+                .bookImage(inbox.getBookImage())
+                .otherUserId(inbox.getOtherUserId())
+                .otherUserNickname(inbox.getOtherUserNickname() != null ? inbox.getOtherUserNickname() : UNKNOWN_USER)
+                .lastMessage(inbox.getLastMessage())
+                .lastMessageTime(inbox.getLastMessageTime())
+                .unreadCount((long) inbox.getUnreadCount())
+                .isActive(!inbox.isHidden())
+                .createdDate(inbox.getCreatedDate())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.entity.ChatMessageIdBlock;
+import com.bookbook.domain.chat.repository.ChatMessageIdBlockRepository;
+import com.bookbook.domain.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 ID 발급기
+ *
+ * <p>메시지를 저장하기 전에 ID를 정해야 저장을 기다리지 않고 바로 전송할 수 있습니다.
+ * DB에서 {@value #BLOCK_SIZE}개씩 ID 구간을 예약해 두고 메모리에서 순서대로 발급하므로,
+ * 구간을 다 쓸 때만 DB에 접근합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageIdAllocator {
+
+    private static final String BLOCK_NAME = "chat_message";
+    private static final int BLOCK_SIZE = 100;
+
+    private final ChatMessageIdBlockRepository chatMessageIdBlockRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private int nextId;
+    private int limit; // 예약한 구간의 끝 (이 값은 포함하지 않음)
+
+    public ChatMessageIdAllocator(ChatMessageIdBlockRepository chatMessageIdBlockRepository,
+                                  ChatMessageRepository chatMessageRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.chatMessageIdBlockRepository = chatMessageIdBlockRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        // 호출한 쪽 트랜잭션과 관계없이 예약을 바로 커밋하여 잠금을 짧게 유지
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 메시지 ID를 발급합니다.
+     */
+    public synchronized int nextId() {
+        if (nextId >= limit) {
+            nextId = reserveBlock();
+            limit = nextId + BLOCK_SIZE;
+        }
+        return nextId++;
+    }
+
+    private int reserveBlock() {
+        try {
+            return transactionTemplate.execute(status -> reserve());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 동시에 발급 상태를 처음 만든 경우 한 번 더 시도
+            return transactionTemplate.execute(status -> reserve());
+        }
+    }
+
+    private int reserve() {
+        ChatMessageIdBlock block = chatMessageIdBlockRepository.findForUpdate(BLOCK_NAME)
+                .orElseGet(() -> {
+                    // 기존 메시지 ID 다음부터 발급 시작
+                    int start = chatMessageRepository.findMaxId() + 1;
+                    log.info("채팅 메시지 ID 발급 상태 생성 - 시작 ID: {}", start);
+                    return chatMessageIdBlockRepository.saveAndFlush(new ChatMessageIdBlock(BLOCK_NAME, start));
+                });
+        return block.reserve(BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.presence.ChatSessionRegistry;
+import com.bookbook.domain.chat.presence.PresenceChangedEvent;
+import com.bookbook.domain.notification.sse.NotificationEmitterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새 채팅 메시지를 받는 사람에게 알리는 컴포넌트
+ *
+ * <p>받는 사람의 접속 상태에 따라 전달 방법을 정합니다.
+ * <ul>
+ *   <li>채팅방을 보고 있음: 채팅방 구독으로 메시지를 받으므로 따로 알리지 않음</li>
+ *   <li>알림 스트림에 연결됨: 읽지 않은 채팅 메시지 수의 변화량을 알림 스트림으로 바로 보냄 (헤더 배지 갱신)</li>
+ *   <li>접속하지 않음: 보내지 않음. 읽지 않은 메시지 수는 저장되어 다음 접속 때 조회됨</li>
+ * </ul>
+ * 사용자의 마지막 채팅 연결이 끊어지면({@link PresenceChangedEvent}) 채팅 화면에서 읽은 메시지가 배지에 반영되도록
+ * 전체 읽지 않은 메시지 수를 다시 보냅니다.
+ *
+ * <p>접속 상태와 알림 스트림은 서버별로 관리되므로, 다른 서버에 연결된 사용자는 주기적인 조회로 배지를 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageNotifier {
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+
+    /**
+     * 채팅방을 보고 있지 않은 받는 사람에게 읽지 않은 메시지가 하나 늘었음을 알립니다.
+     */
+    public void notifyUnread(Integer recipientId) {
+        Long userId = recipientId.longValue();
+        if (notificationEmitterRegistry.isConnected(userId)) {
+            notificationEmitterRegistry.publishChatUnreadDelta(userId, 1);
+        }
+    }
+
+    @EventListener
+    public void onPresenceChanged(PresenceChangedEvent event) {
+        Long userId = event.userId().longValue();
+        // 그 사이 다시 연결했으면 채팅 화면이 열려 있으므로 보내지 않음
+        if (event.online() || chatSessionRegistry.isOnline(event.userId())
+                || !notificationEmitterRegistry.isConnected(userId)) {
+            return;
+        }
+
+        try {
+            notificationEmitterRegistry.publishChatUnreadCount(userId, chatUnreadCounterService.getTotal(event.userId()));
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 채팅 메시지 수 전송 실패 - userId: {}, {}", event.userId(), e.getMessage());
+        }
+    }
+}
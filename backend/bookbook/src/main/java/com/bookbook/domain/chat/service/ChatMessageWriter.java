@@ -0,0 +1,423 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.entity.ChatMessage;
+import com.bookbook.global.exception.ServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 지연 저장기 (write-behind)
+ *
+ * <p>메시지는 ID만 발급받아 크기가 정해진 대기열에 넣고 바로 반환하므로,
+ * 구독자 전송이 DB 커밋을 기다리지 않습니다. 별도 스레드가 batch-size개가 모이거나
+ * flush-interval-ms가 지나면 대기열을 비워 한 트랜잭션에서 JDBC 배치로 저장합니다.
+ *
+ * <ul>
+ *   <li>채팅방의 마지막 메시지는 배치 안에서 채팅방별로 가장 최근 메시지 하나만 반영합니다.</li>
+ *   <li>받는 사람의 읽지 않은 메시지 수도 같은 트랜잭션에서 (채팅방, 받는 사람)별로 합쳐 늘리며,
+ *       채팅방 목록 항목이 없으면 그 수로 항목을 만듭니다.</li>
+ *   <li>대기열이 가득 차면 잠시 기다린 뒤에도 자리가 없을 때 전송을 거절합니다.</li>
+ *   <li>저장에 실패하면 간격을 늘려가며 다시 시도하고, 특정 메시지 때문에 실패한 배치는 나누어 저장하여
+ *       나머지 메시지는 저장되도록 합니다. 끝내 저장하지 못한 메시지는 버리지 않고 보류 목록에 두었다가
+ *       parked-retry-interval-ms마다 다시 저장합니다.</li>
+ *   <li>애플리케이션 종료 시 대기열에 남은 메시지를 모두 저장한 뒤 종료합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String INSERT_MESSAGE = "INSERT INTO chat_message " +
+            "(id, room_id, sender_id, content, message_type, is_read, read_time, created_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 더 최근 메시지가 이미 반영된 채팅방은 덮어쓰지 않음
+    private static final String UPDATE_LAST_MESSAGE = "UPDATE chat_room SET last_message = ?, last_message_time = ? " +
+            "WHERE room_id = ? AND (last_message_time IS NULL OR last_message_time <= ?)";
+
+    // 채팅방 목록 항목(참여자 두 명)의 마지막 메시지도 같은 조건으로 갱신
+    private static final String UPDATE_INBOX_LAST_MESSAGE = "UPDATE chat_inbox SET last_message = ?, last_message_time = ? " +
+            "WHERE room_id = ? AND (last_message_time IS NULL OR last_message_time <= ?)";
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final ChatInboxService chatInboxService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long retryBackoffMs;
+    private final long parkedRetryIntervalNanos;
+
+    // 저장하지 못해 보류한 메시지 (오래된 순, 대기열 크기만큼만 보관)
+    private final Deque<PendingMessage> parked = new ArrayDeque<>();
+    private final int parkedCapacity;
+    private long nextParkedRetry;
+
+    // 채팅방 ID -> 저장 대기 중인 메시지 수
+    private final Map<String, Integer> pendingByRoom = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public ChatMessageWriter(ChatMessageIdAllocator chatMessageIdAllocator,
+                             ChatUnreadCounterService chatUnreadCounterService,
+                             ChatInboxService chatInboxService,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${chat.write-behind.queue-capacity}") int queueCapacity,
+                             @Value("${chat.write-behind.batch-size}") int batchSize,
+                             @Value("${chat.write-behind.flush-interval-ms}") long flushIntervalMs,
+                             @Value("${chat.write-behind.retry-backoff-ms}") long retryBackoffMs,
+                             @Value("${chat.write-behind.parked-retry-interval-ms}") long parkedRetryIntervalMs) {
+        this.chatMessageIdAllocator = chatMessageIdAllocator;
+        this.chatUnreadCounterService = chatUnreadCounterService;
+        this.chatInboxService = chatInboxService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.parkedRetryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(parkedRetryIntervalMs);
+        this.parkedCapacity = queueCapacity;
+        this.nextParkedRetry = System.nanoTime() + parkedRetryIntervalNanos;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlusher, "chat-message-writer");
+        flusher.start();
+    }
+
+    /**
+     * 애플리케이션 종료 시 저장 스레드를 멈추고 남은 메시지를 모두 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 저장 스레드는 현재 배치를 마친 뒤 flush-interval-ms 안에 종료됨
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("종료 전 남은 채팅 메시지 저장 - {}건", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+
+        // 보류 중인 메시지는 마지막으로 한 번 더 저장하고, 그래도 실패하면 복구할 수 있도록 내용을 남김
+        retryParked();
+        synchronized (parked) {
+            for (PendingMessage pending : parked) {
+                ChatMessage message = pending.message();
+                log.error("저장하지 못한 채팅 메시지 - id: {}, roomId: {}, senderId: {}, type: {}, createdDate: {}, content: {}",
+                        message.getId(), message.getRoomId(), message.getSenderId(), message.getMessageType(),
+                        message.getCreatedDate(), message.getContent());
+            }
+            parked.clear();
+        }
+    }
+
+    /**
+     * 메시지에 ID를 발급하고 저장 대기열에 넣습니다.
+     *
+     * @param message 저장할 메시지 (ID가 채워짐)
+     * @param lastMessage 채팅방 목록에 표시할 마지막 메시지 내용
+     * @param recipientId 읽지 않은 메시지 수를 늘릴 받는 사람 ID (시스템 메시지 등 세지 않을 때는 null)
+     * @throws ServiceException (503) 대기열이 가득 찬 경우
+     */
+    public void enqueue(ChatMessage message, String lastMessage, Integer recipientId) {
+        message.setId(chatMessageIdAllocator.nextId());
+        PendingMessage pending = new PendingMessage(message, lastMessage, recipientId);
+        pendingByRoom.merge(message.getRoomId(), 1, Integer::sum);
+
+        try {
+            if (!queue.offer(pending, flushIntervalMs * 2, TimeUnit.MILLISECONDS)) {
+                release(List.of(pending));
+                throw new ServiceException("503-1", "메시지가 너무 많아 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release(List.of(pending));
+            throw new ServiceException("503-1", "메시지 저장이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 채팅방에 아직 저장되지 않은 메시지가 있는지 확인합니다.
+     */
+    public boolean hasPending(String roomId) {
+        return pendingByRoom.containsKey(roomId);
+    }
+
+    /**
+     * 채팅방의 대기 중인 메시지가 저장될 때까지 기다립니다. (최대 1초)
+     * 읽음 처리처럼 저장된 메시지를 기준으로 갱신하는 작업 전에 호출합니다.
+     */
+    public void awaitFlushed(String roomId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        synchronized (pendingByRoom) {
+            while (pendingByRoom.containsKey(roomId)) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    log.warn("채팅 메시지 저장 대기 시간 초과 - roomId: {}", roomId);
+                    return;
+                }
+                try {
+                    pendingByRoom.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // batch-size개가 모이거나 첫 메시지 이후 flush-interval-ms가 지나면 저장
+    private void runFlusher() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (System.nanoTime() - nextParkedRetry >= 0) {
+                retryParked();
+            }
+
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 모은 메시지는 아래에서 저장하고, 대기열의 나머지는 shutdown()에서 저장
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치를 저장하고 대기 수에서 제외 (저장하지 못한 메시지는 보류 목록으로)
+    private void flush(List<PendingMessage> batch) {
+        List<PendingMessage> failed = persist(batch);
+        release(batch);
+        if (!failed.isEmpty()) {
+            park(failed);
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션에서 저장하고, 저장하지 못한 메시지를 반환합니다.
+     * 일시적인 오류는 retry-backoff-ms부터 두 배씩 늘려가며 다시 시도하고,
+     * 제약 조건 위반처럼 특정 메시지 때문에 실패한 배치는 절반씩 나누어 저장하여 문제가 되는 메시지만 남깁니다.
+     */
+    private List<PendingMessage> persist(List<PendingMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    insertMessages(batch);
+                    updateLastMessages(batch);
+                    incrementUnreadCounts(batch);
+                });
+                return List.of();
+            } catch (DataIntegrityViolationException e) {
+                if (batch.size() > 1) {
+                    int half = batch.size() / 2;
+                    List<PendingMessage> failed = new ArrayList<>(persist(batch.subList(0, half)));
+                    failed.addAll(persist(batch.subList(half, batch.size())));
+                    return failed;
+                }
+                // 이전 시도가 커밋된 뒤 응답만 실패한 경우 - 이미 저장된 메시지
+                if (e instanceof DuplicateKeyException && isStored(batch.get(0).message().getId())) {
+                    return List.of();
+                }
+                log.warn("채팅 메시지 저장 실패 - 메시지 ID: {}: {}", batch.get(0).message().getId(), e.getMessage());
+                return batch;
+            } catch (RuntimeException e) {
+                log.warn("채팅 메시지 저장 실패 ({}/{}) - {}건: {}", attempt, MAX_FLUSH_ATTEMPTS, batch.size(), e.getMessage());
+                if (attempt == MAX_FLUSH_ATTEMPTS || !backoff(attempt)) {
+                    return batch;
+                }
+            }
+        }
+    }
+
+    private boolean isStored(int messageId) {
+        try {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message WHERE id = ?", Integer.class, messageId);
+            return count != null && count > 0;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 다시 시도하기 전 대기 (중단되면 false)
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 보류 목록에 추가 (가득 차면 가장 오래된 메시지부터 내용을 남기고 제외)
+    private void park(List<PendingMessage> failed) {
+        log.error("채팅 메시지 저장 보류 - {}건, 메시지 ID: {}", failed.size(),
+                failed.stream().map(pending -> pending.message().getId()).toList());
+
+        synchronized (parked) {
+            parked.addAll(failed);
+            while (parked.size() > parkedCapacity) {
+                ChatMessage dropped = parked.removeFirst().message();
+                log.error("보류 목록 초과로 제외한 채팅 메시지 - id: {}, roomId: {}, senderId: {}, createdDate: {}, content: {}",
+                        dropped.getId(), dropped.getRoomId(), dropped.getSenderId(), dropped.getCreatedDate(), dropped.getContent());
+            }
+        }
+    }
+
+    // 보류 중인 메시지를 다시 저장 (대기 수에서는 이미 제외되어 있음)
+    private void retryParked() {
+        nextParkedRetry = System.nanoTime() + parkedRetryIntervalNanos;
+
+        List<PendingMessage> retry;
+        synchronized (parked) {
+            if (parked.isEmpty()) {
+                return;
+            }
+            retry = new ArrayList<>(parked);
+            parked.clear();
+        }
+
+        List<PendingMessage> failed = new ArrayList<>();
+        int from = 0;
+        while (from < retry.size()) {
+            List<PendingMessage> chunk = retry.subList(from, Math.min(from + batchSize, retry.size()));
+            List<PendingMessage> chunkFailed = persist(chunk);
+            failed.addAll(chunkFailed);
+            from += chunk.size();
+            if (chunkFailed.size() == chunk.size()) {
+                // 배치 전체가 실패하면 DB 장애일 수 있으므로 나머지는 다음 주기에 다시 시도
+                failed.addAll(retry.subList(from, retry.size()));
+                break;
+            }
+        }
+        log.info("보류 중인 채팅 메시지 재저장 - 성공: {}건, 실패: {}건", retry.size() - failed.size(), failed.size());
+
+        if (!failed.isEmpty()) {
+            synchronized (parked) {
+                // 재시도 중 새로 보류된 메시지보다 앞에 두어 오래된 순서 유지
+                for (int i = failed.size() - 1; i >= 0; i--) {
+                    parked.addFirst(failed.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장하지 못해 보류 중인 메시지 수를 반환합니다.
+     */
+    public int parkedCount() {
+        synchronized (parked) {
+            return parked.size();
+        }
+    }
+
+    private void insertMessages(List<PendingMessage> batch) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, batch, batch.size(), (ps, pending) -> {
+            ChatMessage message = pending.message();
+            ps.setInt(1, message.getId());
+            ps.setString(2, message.getRoomId());
+            ps.setInt(3, message.getSenderId());
+            ps.setString(4, message.getContent());
+            ps.setString(5, message.getMessageType().name());
+            ps.setBoolean(6, message.isRead());
+            ps.setTimestamp(7, message.getReadTime() != null ? Timestamp.valueOf(message.getReadTime()) : null);
+            ps.setTimestamp(8, Timestamp.valueOf(message.getCreatedDate()));
+        });
+    }
+
+    // 채팅방별로 가장 최근 메시지만 반영
+    private void updateLastMessages(List<PendingMessage> batch) {
+        Map<String, PendingMessage> latestByRoom = new HashMap<>();
+        for (PendingMessage pending : batch) {
+            latestByRoom.merge(pending.message().getRoomId(), pending,
+                    (current, candidate) -> candidate.message().getCreatedDate().isBefore(current.message().getCreatedDate())
+                            ? current : candidate);
+        }
+
+        for (String sql : List.of(UPDATE_LAST_MESSAGE, UPDATE_INBOX_LAST_MESSAGE)) {
+            jdbcTemplate.batchUpdate(sql, latestByRoom.values(), latestByRoom.size(), (ps, pending) -> {
+                Timestamp time = Timestamp.valueOf(pending.message().getCreatedDate());
+                ps.setString(1, pending.lastMessage());
+                ps.setTimestamp(2, time);
+                ps.setString(3, pending.message().getRoomId());
+                ps.setTimestamp(4, time);
+            });
+        }
+    }
+
+    private void incrementUnreadCounts(List<PendingMessage> batch) {
+        Map<ChatUnreadCounterService.CounterKey, Integer> increments = new HashMap<>();
+        for (PendingMessage pending : batch) {
+            if (pending.recipientId() != null) {
+                increments.merge(new ChatUnreadCounterService.CounterKey(pending.message().getRoomId(), pending.recipientId()),
+                        1, Integer::sum);
+            }
+        }
+        chatInboxService.createMissingEntries(chatUnreadCounterService.increment(increments));
+    }
+
+    // 저장이 끝난(또는 포기한) 메시지를 대기 수에서 제외하고 기다리는 쪽을 깨움
+    private void release(List<PendingMessage> batch) {
+        synchronized (pendingByRoom) {
+            for (PendingMessage pending : batch) {
+                pendingByRoom.computeIfPresent(pending.message().getRoomId(), (roomId, count) -> count > 1 ? count - 1 : null);
+            }
+            pendingByRoom.notifyAll();
+        }
+    }
+
+    private record PendingMessage(ChatMessage message, String lastMessage, Integer recipientId) {
+    }
+}
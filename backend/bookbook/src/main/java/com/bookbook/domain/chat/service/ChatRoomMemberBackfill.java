@@ -0,0 +1,108 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.entity.ChatRoom;
+import com.bookbook.domain.chat.entity.ChatRoomMember;
+import com.bookbook.domain.chat.repository.ChatRoomMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 참여자 백필 작업
+ *
+ * <p>chat_room_member가 추가되기 전에 만들어진 채팅방은 나간 사용자를 쉼표로 구분한 TEXT 컬럼
+ * (left_user_ids, user_left_times)에만 기록되어 있으므로, 애플리케이션 기동 시 요청을 받기 전에
+ * ({@link com.bookbook.global.migration.StartupBackfill}) 참여자 행으로 옮기고 이전 컬럼을 비웁니다.
+ * 500건씩 ID 순서로 나누어 각각 한 트랜잭션에서 저장합니다.
+ * 채팅방 목록 항목 백필({@link ChatInboxService#backfill()})이 나간 상태를 참조하므로 그보다 먼저 실행합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMemberBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChatRoomMemberBackfill(ChatRoomMemberRepository chatRoomMemberRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void backfill() {
+        try {
+            int lastId = 0;
+            int filled = 0;
+            List<ChatRoom> rooms;
+            while (!(rooms = migrateBatch(lastId)).isEmpty()) {
+                filled += rooms.size();
+                lastId = rooms.get(rooms.size() - 1).getId();
+            }
+            if (filled > 0) {
+                log.info("채팅방 참여자 백필 완료 - 채팅방: {}개", filled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("채팅방 참여자 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<ChatRoom> migrateBatch(int lastId) {
+        return transactionTemplate.execute(status -> {
+            List<ChatRoom> rooms = chatRoomMemberRepository.findRoomsWithoutMembers(lastId, PageRequest.of(0, BATCH_SIZE));
+            rooms.forEach(ChatRoomMemberBackfill::migrate);
+            return rooms;
+        });
+    }
+
+    private static void migrate(ChatRoom room) {
+        Map<Integer, LocalDateTime> leftTimes = parseLeftTimes(room);
+        for (Integer userId : List.of(room.getLenderId(), room.getBorrowerId())) {
+            ChatRoomMember member = room.addMember(userId, room.getCreatedDate());
+            if (leftTimes.containsKey(userId)) {
+                member.leave(leftTimes.get(userId));
+            }
+        }
+        room.setLeftUserIds(null);
+        room.setUserLeftTimes(null);
+    }
+
+    // "userId,userId" 와 "userId:시간,userId:시간" 형식의 이전 기록을 사용자별 나간 시간으로 변환
+    private static Map<Integer, LocalDateTime> parseLeftTimes(ChatRoom room) {
+        Map<Integer, LocalDateTime> leftTimes = new HashMap<>();
+        if (room.getLeftUserIds() == null || room.getLeftUserIds().isBlank()) {
+            return leftTimes;
+        }
+
+        Map<String, LocalDateTime> recorded = new HashMap<>();
+        if (room.getUserLeftTimes() != null) {
+            for (String record : room.getUserLeftTimes().split(",")) {
+                int colon = record.indexOf(':');
+                if (colon > 0) {
+                    try {
+                        recorded.put(record.substring(0, colon).trim(), LocalDateTime.parse(record.substring(colon + 1).trim()));
+                    } catch (RuntimeException e) {
+                        // 시간 형식이 잘못된 기록은 나간 시간을 알 수 없는 것으로 처리
+                    }
+                }
+            }
+        }
+
+        for (String leftId : room.getLeftUserIds().split(",")) {
+            String id = leftId.trim();
+            if (id.matches("\\d+")) {
+                // 나간 시간 기록이 없으면 채팅방 생성 시간을 나간 시간으로 사용
+                leftTimes.put(Integer.valueOf(id), recorded.getOrDefault(id, room.getCreatedDate()));
+            }
+        }
+        return leftTimes;
+    }
+}
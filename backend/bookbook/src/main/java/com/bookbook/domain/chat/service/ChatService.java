@@ -4,24 +4,31 @@ import com.bookbook.domain.chat.dto.*;
 import com.bookbook.domain.chat.entity.ChatMessage;
 import com.bookbook.domain.chat.entity.ChatRoom;
 import com.bookbook.domain.chat.enums.MessageType;
+import com.bookbook.domain.chat.presence.ChatSessionRegistry;
 import com.bookbook.domain.chat.repository.ChatMessageRepository;
 import com.bookbook.domain.chat.repository.ChatRoomRepository;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.repository.RentRepository;
 import com.bookbook.domain.user.entity.User;
 import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameCache;
+import com.bookbook.domain.user.service.UserNicknameResolver;
 import com.bookbook.global.exception.ServiceException;
+import com.bookbook.global.util.CursorResponse;
+import com.bookbook.global.util.CursorToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +36,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatService {
 
+    // 커서 조회 범위의 기본 하한/상한 (MySQL DATETIME 범위 안의 값)
+    private static final LocalDateTime MIN_MESSAGE_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_MESSAGE_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
+    private final UserNicknameResolver userNicknameResolver;
+    private final UserNicknameCache userNicknameCache;
     private final RentRepository rentRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final ChatInboxService chatInboxService;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatMessageNotifier chatMessageNotifier;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public ChatRoomResponse createOrGetChatRoom(ChatRoomCreateRequest request, Integer borrowerId) {
@@ -98,9 +117,13 @@ public class ChatService {
                     // 나간 상태 해제
                     if (lenderLeft) {
                         room.rejoinUser(request.getLenderId());
+                        chatUnreadCounterService.recount(room.getRoomId(), request.getLenderId());
+                        chatInboxService.setHidden(room.getRoomId(), request.getLenderId(), false);
                     }
                     if (borrowerLeft) {
                         room.rejoinUser(borrowerId);
+                        chatUnreadCounterService.recount(room.getRoomId(), borrowerId);
+                        chatInboxService.setHidden(room.getRoomId(), borrowerId, false);
                     }
 
                     chatRoomRepository.save(room);
@@ -146,8 +169,11 @@ public class ChatService {
                     .isActive(true)
                     .createdDate(LocalDateTime.now())
                     .build();
+            newRoom.addMember(request.getLenderId(), newRoom.getCreatedDate());
+            newRoom.addMember(borrowerId, newRoom.getCreatedDate());
 
             ChatRoom savedRoom = chatRoomRepository.save(newRoom);
+            chatInboxService.createEntries(savedRoom, rent, lender, borrower);
             log.info("새 채팅방 생성 완료 - roomId: {}", savedRoom.getRoomId());
 
             return buildChatRoomResponse(savedRoom, rent, lender, borrower, borrowerId);
@@ -164,32 +190,24 @@ public class ChatService {
     public Page<ChatRoomResponse> getChatRooms(Integer userId, Pageable pageable) {
         log.info("채팅방 목록 조회 - userId: {}", userId);
 
-        Page<ChatRoom> chatRooms = chatRoomRepository.findByUserIdOrderByLastMessageTimeDesc(userId, pageable);
-
-        // 나가지 않은 채팅방만 필터링하여 리스트로 변환
-        List<ChatRoomResponse> validChatRooms = chatRooms.getContent().stream()
-                .filter(room -> !room.hasUserLeft(userId)) // 나가지 않은 채팅방만
-                .map(room -> {
-                    Rent rent = rentRepository.findById(room.getRentId()).orElse(null);
-                    String bookTitle = rent != null ? rent.getBookTitle() : "알 수 없는 책";
-                    String bookImage = rent != null ? rent.getBookImage() : null;
-
-                    Integer otherUserId = room.getOtherUserId(userId);
-                    User otherUser = userRepository.findById(otherUserId.longValue()).orElse(null);
-                    String otherUserNickname = otherUser != null ? otherUser.getNickname() : "알 수 없는 사용자";
-
-                    Long unreadCount = chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(room.getRoomId(), userId);
-
-                    ChatRoomResponse response = ChatRoomResponse.from(room, bookTitle, bookImage,
-                            otherUserNickname, null, unreadCount);
-                    response.setOtherUserId(otherUserId);
+        // 나간 채팅방은 목록 항목에서 숨김 처리되어 조회되지 않음
+        return chatInboxService.getInbox(userId, pageable);
+    }
 
-                    return response;
-                })
-                .collect(Collectors.toList());
+    /**
+     * 채팅방 목록을 커서 기반으로 조회합니다.
+     * 이전 응답의 커서(마지막 메시지 시간, ID) 이후 채팅방만 조회하므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     * 책 정보, 상대방 닉네임, 읽지 않은 메시지 수는 사용자별 목록 항목에 함께 저장되어 있어 추가 조회가 없습니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 채팅방 목록과 다음 페이지 커서
+     */
+    public CursorResponse<ChatRoomResponse> getChatRoomsByCursor(Integer userId, String cursor, int size) {
+        log.info("채팅방 목록 조회 (커서) - userId: {}, size: {}", userId, size);
 
-        // 새로운 Page 객체 생성 (실제 결과 개수로 totalElements 조정)
-        return new PageImpl<>(validChatRooms, pageable, validChatRooms.size());
+        return chatInboxService.getInboxByCursor(userId, cursor, size);
     }
 
     public ChatRoomResponse getChatRoom(String roomId, Integer userId) {
@@ -203,6 +221,8 @@ public class ChatService {
             log.info("나간 사용자 재참여 처리 - roomId: {}, userId: {}", roomId, userId);
             chatRoom.rejoinUser(userId);
             chatRoomRepository.save(chatRoom);
+            chatUnreadCounterService.recount(roomId, userId);
+            chatInboxService.setHidden(roomId, userId, false);
         }
 
         Rent rent = rentRepository.findById(chatRoom.getRentId()).orElse(null);
@@ -213,7 +233,7 @@ public class ChatService {
         User otherUser = userRepository.findById(otherUserId.longValue()).orElse(null);
         String otherUserNickname = otherUser != null ? otherUser.getNickname() : "알 수 없는 사용자";
 
-        Long unreadCount = chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(roomId, userId);
+        Long unreadCount = chatUnreadCounterService.getUnreadCount(roomId, userId);
 
         ChatRoomResponse response = ChatRoomResponse.from(chatRoom, bookTitle, bookImage,
                 otherUserNickname, null, unreadCount);
@@ -244,31 +264,109 @@ public class ChatService {
             messages = chatMessageRepository.findByRoomIdOrderByCreatedDateDesc(roomId, pageable);
         }
 
-        return messages.map(message -> {
+        return messages.map(messageMapper(messages.getContent(), userId));
+    }
+
+    /**
+     * 채팅 메시지를 (보낸 시간, 메시지 ID) 기준 커서로 조회합니다.
+     * (room_id, created_date, id) 인덱스의 범위 조회만 사용하므로 오래된 메시지로 거슬러 올라가도 페이지마다 같은 비용으로 조회됩니다.
+     * 메시지 ID는 서버별로 구간을 나누어 발급하므로 여러 서버에서는 보낸 순서와 ID 순서가 다를 수 있어,
+     * 보낸 시간을 먼저 비교하고 같은 시간이면 ID로 순서를 정합니다.
+     *
+     * <ul>
+     *   <li>before: 커서보다 이전 메시지를 최신순으로 조회 (없으면 가장 최근 메시지부터)</li>
+     *   <li>after: 커서 이후 메시지를 오래된 순으로 조회 (재연결 후 놓친 메시지 조회용)</li>
+     * </ul>
+     * 채팅방을 나간 사용자는 나간 이후의 메시지만 조회됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @param before 이 커서보다 이전 메시지 조회 (after와 함께 사용할 수 없음)
+     * @param after 이 커서보다 이후 메시지 조회
+     * @param size 페이지 크기
+     * @return 메시지 목록과 다음 요청에 사용할 커서
+     * @throws ServiceException 커서 형식이 올바르지 않은 경우
+     */
+    public CursorResponse<MessageResponse> getChatMessagesByCursor(String roomId, Integer userId,
+                                                                   String before, String after, int size) {
+        log.info("채팅 메시지 조회 (커서) - roomId: {}, userId: {}, before: {}, after: {}, size: {}",
+                roomId, userId, before, after, size);
+
+        if (before != null && after != null) {
+            throw new ServiceException("before와 after는 함께 사용할 수 없습니다.");
+        }
+
+        ChatRoom chatRoom = chatRoomRepository.findByRoomIdAndUserId(roomId, userId)
+                .orElseThrow(() -> new ServiceException("채팅방에 접근할 권한이 없습니다."));
+
+        CursorToken beforeCursor = CursorToken.decode(before);
+        CursorToken afterCursor = CursorToken.decode(after);
+
+        // 나간 사용자는 나간 시간 이후의 메시지만 조회 (나간 시간과 같은 메시지는 제외)
+        LocalDateTime userLeftTime = chatRoom.getUserLeftTime(userId);
+        LocalDateTime since = userLeftTime != null ? userLeftTime : MIN_MESSAGE_TIME;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ChatMessage> rows;
+        if (afterCursor != null) {
+            CursorToken from = afterCursor.time() == null || afterCursor.time().isBefore(since)
+                    ? new CursorToken(since, Integer.MAX_VALUE)
+                    : afterCursor;
+            rows = chatMessageRepository.findPageAfter(roomId, from.time(), from.id(), limit);
+        } else {
+            CursorToken to = beforeCursor != null && beforeCursor.time() != null
+                    ? beforeCursor
+                    : new CursorToken(MAX_MESSAGE_TIME, Integer.MAX_VALUE);
+            rows = chatMessageRepository.findPageBefore(roomId, since, to.time(), to.id(), limit);
+        }
+
+        return CursorResponse.of(rows, size,
+                message -> new CursorToken(message.getCreatedDate(), message.getId()),
+                messageMapper(rows, userId));
+    }
+
+    // 메시지 응답 생성 함수 (발신자 닉네임은 페이지 전체에 대해 한 번에 조회)
+    private Function<ChatMessage, MessageResponse> messageMapper(List<ChatMessage> messages, Integer userId) {
+        Map<Long, String> senderNicknames = userNicknameResolver.resolve(messages.stream()
+                .filter(message -> message.getSenderId() != 0)
+                .map(message -> message.getSenderId().longValue())
+                .toList());
+
+        return message -> {
             // 시스템 메시지 처리 (senderId가 0인 경우)
             if (message.getSenderId() == 0) {
                 return MessageResponse.from(message, "시스템", null, false);
             }
 
-            User sender = userRepository.findById(message.getSenderId().longValue()).orElse(null);
-            String senderNickname = sender != null ? sender.getNickname() : "알 수 없는 사용자";
+            String senderNickname = senderNicknames.getOrDefault(message.getSenderId().longValue(), "알 수 없는 사용자");
 
             // isMine 계산: 현재 사용자의 ID와 메시지 발신자 ID가 같은지 확인
             boolean isMine = message.getSenderId().equals(userId);
 
             return MessageResponse.from(message, senderNickname, null, isMine);
-        });
+        };
     }
 
-    @Transactional
-    public MessageResponse sendMessage(MessageSendRequest request, Integer senderId) {
+    /**
+     * 메시지를 전송합니다.
+     * 메시지는 ID만 발급받아 저장 대기열에 넣고 바로 반환하므로, 호출한 쪽은 DB 저장을 기다리지 않고
+     * 구독자에게 전송할 수 있습니다. 메시지와 채팅방의 마지막 메시지는 {@link ChatMessageWriter}가 모아서 저장합니다.
+     *
+     * @param request 전송할 메시지
+     * @param senderId 보낸 사람 ID
+     * @param senderNickname 보낸 사람 닉네임 (인증 정보의 값, null이면 DB에서 조회)
+     * @return 전송된 메시지
+     */
+    public MessageResponse sendMessage(MessageSendRequest request, Integer senderId, String senderNickname) {
         log.info("메시지 전송 - roomId: {}, senderId: {}", request.getRoomId(), senderId);
 
         ChatRoom chatRoom = chatRoomRepository.findByRoomIdAndUserId(request.getRoomId(), senderId)
                 .orElseThrow(() -> new ServiceException("채팅방에 접근할 권한이 없습니다."));
 
-        // 채팅방에 메시지가 있는지 확인 (첫 번째 메시지인지 체크)
-        boolean isFirstMessage = chatMessageRepository.countByRoomId(request.getRoomId()) == 0L;
+        // 채팅방에 메시지가 있는지 확인 (첫 번째 메시지인지 체크, 저장 대기 중인 메시지 포함)
+        boolean isFirstMessage = !chatMessageWriter.hasPending(request.getRoomId())
+                && !chatMessageRepository.existsByRoomId(request.getRoomId());
 
         // 첫 번째 메시지인 경우 시스템 메시지 생성
         if (isFirstMessage) {
@@ -283,22 +381,32 @@ public class ChatService {
             }
         }
 
+        // 상대방이 지금 채팅방을 보고 있으면 읽은 메시지로 저장하고 읽지 않은 메시지 수를 늘리지 않음
+        Integer recipientId = chatRoom.getOtherUserId(senderId);
+        boolean recipientViewing = chatSessionRegistry.isViewing(request.getRoomId(), recipientId);
+        LocalDateTime now = LocalDateTime.now();
+
         ChatMessage message = ChatMessage.builder()
                 .roomId(request.getRoomId())
                 .senderId(senderId)
                 .content(request.getContent())
                 .messageType(request.getMessageType())
-                .isRead(false)
-                .createdDate(LocalDateTime.now())
+                .isRead(recipientViewing)
+                .readTime(recipientViewing ? now : null)
+                .createdDate(now)
                 .build();
 
-        chatMessageRepository.save(message);
-
-        chatRoom.updateLastMessage(request.getContent(), LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        // 상대방이 나간 채팅방에서도 읽지 않은 메시지 수를 늘리지 않음 (다시 들어올 때 다시 계산)
+        boolean countUnread = !recipientViewing && !chatRoom.hasUserLeft(recipientId);
+        chatMessageWriter.enqueue(message, request.getContent(), countUnread ? recipientId : null);
+        if (countUnread) {
+            // 채팅방을 보고 있지 않은 상대방에게는 알림 스트림으로 알림
+            chatMessageNotifier.notifyUnread(recipientId);
+        }
 
-        User sender = userRepository.findById(senderId.longValue()).orElse(null);
-        String senderNickname = sender != null ? sender.getNickname() : "알 수 없는 사용자";
+        if (senderNickname == null) {
+            senderNickname = Objects.requireNonNullElse(userNicknameCache.get(senderId.longValue()), "알 수 없는 사용자");
+        }
 
         // 메시지를 보낸 사람이므로 항상 isMine = true
         MessageResponse response = MessageResponse.from(message, senderNickname, null, true);
@@ -307,39 +415,44 @@ public class ChatService {
         return response;
     }
 
-    @Transactional
+    // 저장 대기 중인 메시지까지 읽음 처리되도록 트랜잭션을 시작하기 전에 저장을 기다림 (기다리는 동안 DB 커넥션을 잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void markMessagesAsRead(String roomId, Integer userId) {
+        chatMessageWriter.awaitFlushed(roomId);
+        transactionTemplate.executeWithoutResult(status -> markFlushedMessagesAsRead(roomId, userId));
+    }
+
+    private void markFlushedMessagesAsRead(String roomId, Integer userId) {
         log.info("메시지 읽음 처리 - roomId: {}, userId: {}", roomId, userId);
 
-        chatRoomRepository.findByRoomIdAndUserId(roomId, userId)
+        ChatRoom chatRoom = chatRoomRepository.findByRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new ServiceException("채팅방에 접근할 권한이 없습니다."));
 
         Integer updatedCount = chatMessageRepository.markAllMessagesAsReadInRoom(roomId, userId);
+        chatUnreadCounterService.reset(roomId, userId);
+
+        Integer lastMessageId = chatMessageRepository.findMaxIdByRoomId(roomId);
+        chatRoom.findMember(userId).ifPresent(member -> member.markRead(lastMessageId));
         log.info("읽음 처리 완료 - 업데이트된 메시지 수: {}", updatedCount);
     }
 
+    /**
+     * 사용자의 전체 읽지 않은 메시지 수를 반환합니다.
+     * 채팅방별 카운터의 합계를 사용하므로 채팅방 수와 관계없이 한 번만 조회합니다.
+     * (나간 채팅방은 나갈 때 0이 되고 이후 메시지도 세지 않으므로 합계에서 빠짐)
+     */
     public Long getUnreadMessageCount(Integer userId) {
-        // 사용자가 참여한 모든 채팅방 중 나가지 않은 채팅방에서만 읽지 않은 메시지 카운트
-        List<ChatRoom> userChatRooms = chatRoomRepository.findByLenderIdOrBorrowerId(userId, userId);
-
-        long totalUnreadCount = 0;
-
-        for (ChatRoom chatRoom : userChatRooms) {
-            // 사용자가 나간 채팅방은 제외
-            if (chatRoom.hasUserLeft(userId)) {
-                continue;
-            }
-
-            // 해당 채팅방의 읽지 않은 메시지 수 조회
-            Long roomUnreadCount = chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(chatRoom.getRoomId(), userId);
-            totalUnreadCount += roomUnreadCount;
-        }
-
-        return totalUnreadCount;
+        return chatUnreadCounterService.getTotal(userId);
     }
 
-    @Transactional
+    // 저장 대기 중인 메시지까지 읽음 처리되도록 트랜잭션을 시작하기 전에 저장을 기다림
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void leaveChatRoom(String roomId, Integer userId) {
+        chatMessageWriter.awaitFlushed(roomId);
+        transactionTemplate.executeWithoutResult(status -> leaveFlushedChatRoom(roomId, userId));
+    }
+
+    private void leaveFlushedChatRoom(String roomId, Integer userId) {
         log.info("채팅방 나가기 시작 - roomId: {}, userId: {}", roomId, userId);
 
         // 채팅방 존재 여부 및 권한 확인
@@ -356,8 +469,9 @@ public class ChatService {
                 return; // 이미 나간 상태면 그대로 종료
             }
 
-            // 채팅방을 나가기 전에 모든 읽지 않은 메시지를 읽음 처리
+            // 채팅방을 나가기 전에 모든 읽지 않은 메시지를 읽음 처리 (저장 대기 중이던 메시지 포함)
             Integer markedAsReadCount = chatMessageRepository.markAllMessagesAsReadInRoom(roomId, userId);
+            chatUnreadCounterService.reset(roomId, userId);
             log.info("채팅방 나가기 - 읽음 처리된 메시지 수: {}", markedAsReadCount);
 
             // 상대방에게 나가기 알림 메시지 전송
@@ -374,6 +488,7 @@ public class ChatService {
 
             // 해당 사용자만 "나가기" 표시 (채팅방은 유지)
             chatRoom.markUserAsLeft(userId);
+            chatInboxService.setHidden(roomId, userId, true);
             ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
 
             log.info("사용자 채팅방 나가기 완료 - roomId: {}, userId: {}, isEmpty: {}",
@@ -385,7 +500,6 @@ public class ChatService {
         }
     }
 
-    @Transactional
     public void createSystemMessage(String roomId, String content) {
         ChatMessage systemMessage = ChatMessage.builder()
                 .roomId(roomId)
@@ -396,16 +510,9 @@ public class ChatService {
                 .createdDate(LocalDateTime.now())
                 .build();
 
-        chatMessageRepository.save(systemMessage);
-
-        ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId).orElse(null);
-        if (chatRoom != null) {
-            chatRoom.updateLastMessage(content, LocalDateTime.now());
-            chatRoomRepository.save(chatRoom);
-        }
+        chatMessageWriter.enqueue(systemMessage, content, null);
     }
 
-    @Transactional
     public void createBookCardMessage(String roomId, Integer rentId, String bookTitle, String bookImage, String message) {
         String jsonContent = String.format(
                 "{\"type\":\"BOOK_CARD\",\"rentId\":%d,\"bookTitle\":\"%s\",\"bookImage\":\"%s\",\"message\":\"%s\"}",
@@ -421,13 +528,7 @@ public class ChatService {
                 .createdDate(LocalDateTime.now())
                 .build();
 
-        chatMessageRepository.save(systemMessage);
-
-        ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId).orElse(null);
-        if (chatRoom != null) {
-            chatRoom.updateLastMessage(message, LocalDateTime.now());
-            chatRoomRepository.save(chatRoom);
-        }
+        chatMessageWriter.enqueue(systemMessage, message, null);
     }
 
     private ChatRoomResponse buildChatRoomResponse(ChatRoom room, Rent rent, User lender, User borrower, Integer currentUserId) {
@@ -435,7 +536,7 @@ public class ChatService {
         User otherUser = isCurrentUserLender ? borrower : lender;
         Integer otherUserId = otherUser.getId().intValue();
 
-        Long unreadCount = chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(room.getRoomId(), currentUserId);
+        Long unreadCount = chatUnreadCounterService.getUnreadCount(room.getRoomId(), currentUserId);
 
         ChatRoomResponse response = ChatRoomResponse.from(
                 room,
@@ -479,6 +580,7 @@ public class ChatService {
                 try {
                     // 1. 관련 메시지들 먼저 삭제
                     Integer deletedMessages = chatMessageRepository.deleteByRoomId(duplicateRoom.getRoomId());
+                    chatInboxService.deleteByRoom(duplicateRoom);
                     log.info("채팅방 메시지 삭제 완료 - roomId: {}, 삭제된 메시지 수: {}",
                             duplicateRoom.getRoomId(), deletedMessages);
 
@@ -0,0 +1,153 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.entity.ChatInbox;
+import com.bookbook.domain.chat.repository.ChatInboxRepository;
+import com.bookbook.domain.chat.repository.ChatMessageRepository;
+import com.bookbook.global.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 읽지 않은 채팅 메시지 수 관리 서비스
+ *
+ * <p>채팅방별 사용자의 읽지 않은 메시지 수를 채팅방 목록 항목({@link ChatInbox})에 저장해 두고,
+ * 메시지가 저장될 때 받는 사람의 값을 늘리고 읽음 처리 시 0으로 되돌립니다.
+ * 사용자별 합계는 일정 시간 메모리에 캐시하며, 이 서버에서 생긴 변경은 커밋 후 캐시에 바로 반영합니다.
+ * 다른 서버에서 생긴 변경은 캐시가 만료되면 반영됩니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ChatUnreadCounterService {
+
+    private static final String INCREMENT = "UPDATE chat_inbox SET unread_count = unread_count + ? " +
+            "WHERE room_id = ? AND user_id = ?";
+
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사용자 ID -> 전체 읽지 않은 메시지 수
+    private final Cache<Integer, Long> totals;
+
+    public ChatUnreadCounterService(ChatInboxRepository chatInboxRepository,
+                                    ChatMessageRepository chatMessageRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${chat.unread.cache.max-size:10000}") long maxSize,
+                                    @Value("${chat.unread.cache.ttl-in-seconds:30}") long ttlInSeconds) {
+        this.chatInboxRepository = chatInboxRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자의 전체 읽지 않은 메시지 수를 반환합니다. (캐시가 없을 때만 DB 합계 조회 한 번)
+     */
+    public long getTotal(Integer userId) {
+        return totals.get(userId, chatInboxRepository::sumUnreadCountByUserId);
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수를 반환합니다.
+     */
+    public long getUnreadCount(String roomId, Integer userId) {
+        return getUnreadCounts(userId, List.of(roomId)).getOrDefault(roomId, 0L);
+    }
+
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수를 한 번에 조회합니다.
+     *
+     * @return 채팅방 ID -> 읽지 않은 메시지 수 (목록 항목이 없는 채팅방은 빠짐)
+     */
+    public Map<String, Long> getUnreadCounts(Integer userId, Collection<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        return chatInboxRepository.findByUserIdAndRoomIdIn(userId, roomIds).stream()
+                .collect(Collectors.toMap(ChatInbox::getRoomId, inbox -> (long) inbox.getUnreadCount()));
+    }
+
+    /**
+     * 받은 메시지 수만큼 카운터를 늘립니다. 메시지를 저장하는 트랜잭션 안에서 호출합니다.
+     * 목록 항목이 없는 카운터는 늘리지 않고 반환하므로, 호출한 쪽에서 같은 트랜잭션 안에 항목을 만들어야 합니다.
+     * ({@link ChatInboxService#createMissingEntries(Map)})
+     *
+     * @param increments (채팅방, 받는 사람) -> 늘릴 수
+     * @return 목록 항목이 없어 늘리지 못한 카운터 (채팅방, 받는 사람) -> 늘릴 수
+     */
+    @Transactional
+    public Map<CounterKey, Integer> increment(Map<CounterKey, Integer> increments) {
+        if (increments.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map.Entry<CounterKey, Integer>> entries = List.copyOf(increments.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT, entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey().roomId(), entry.getKey().userId()})
+                .toList());
+
+        Map<CounterKey, Integer> missing = new HashMap<>();
+        Map<Integer, Integer> byUser = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<CounterKey, Integer> entry = entries.get(i);
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 처리
+            if (updated[i] == 0) {
+                missing.put(entry.getKey(), entry.getValue());
+            } else {
+                byUser.merge(entry.getKey().userId(), entry.getValue(), Integer::sum);
+            }
+        }
+
+        AfterCommit.run(() -> byUser.forEach((userId, count) ->
+                totals.asMap().computeIfPresent(userId, (id, total) -> total + count)));
+        return missing;
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수를 0으로 되돌립니다. (읽음 처리, 채팅방 나가기)
+     */
+    @Transactional
+    public void reset(String roomId, Integer userId) {
+        set(roomId, userId, 0);
+    }
+
+    /**
+     * 채팅방의 읽지 않은 메시지 수를 메시지 테이블 기준으로 다시 계산합니다.
+     * 나간 동안 받은 메시지는 세지 않으므로 채팅방에 다시 들어올 때 호출합니다.
+     */
+    @Transactional
+    public void recount(String roomId, Integer userId) {
+        set(roomId, userId, (int) chatMessageRepository.countUnreadMessagesByRoomIdAndUserId(roomId, userId));
+    }
+
+    /**
+     * 사용자들의 합계 캐시를 커밋 후 비웁니다. (채팅방 삭제, 목록 숨김 변경 등)
+     */
+    public void invalidate(Collection<Integer> userIds) {
+        AfterCommit.run(() -> totals.invalidateAll(userIds));
+    }
+
+    private void set(String roomId, Integer userId, int unreadCount) {
+        chatInboxRepository.updateUnreadCount(roomId, userId, unreadCount);
+        invalidate(List.of(userId));
+    }
+
+    /**
+     * 카운터 키 (채팅방 ID, 사용자 ID)
+     */
+    public record CounterKey(String roomId, Integer userId) {
+    }
+}
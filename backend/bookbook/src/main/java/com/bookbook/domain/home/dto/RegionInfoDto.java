@@ -19,4 +19,9 @@ public class RegionInfoDto {
      * 지역 코드
      */
     private String code;
+
+    /**
+     * 지역의 대여 가능한 도서 개수
+     */
+    private Long count;
 }
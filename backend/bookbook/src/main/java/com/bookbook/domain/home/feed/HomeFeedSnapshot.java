@@ -0,0 +1,198 @@
+package com.bookbook.domain.home.feed;
+
+import com.bookbook.domain.home.entity.Book;
+import com.bookbook.domain.home.repository.BookRepository;
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
+import com.bookbook.global.region.RegionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메인페이지용 지역별 최신 도서 스냅샷
+ *
+ * <p>이미지가 있는 대여 가능 게시글을 메모리에 보관하고, 지역별 최신 5개 도서와 도서 개수를
+ * 미리 계산해 둡니다. 메인페이지 조회는 DB를 거치지 않고 이 스냅샷을 그대로 반환합니다.
+ *
+ * <p>게시글이 등록되거나 상태가 바뀌면 커밋 이후 {@link RentChangedEvent}를 받아 바뀐 게시글만 반영하고,
+ * 놓친 변경이 있더라도 주기적인 {@link #reconcile()}에서 DB 기준으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeFeedSnapshot {
+
+    public static final String ALL_REGIONS = ""; // 전체 지역
+
+    private static final int FEED_SIZE = 5;
+
+    private final BookRepository bookRepository;
+
+    // 게시글 ID 역순(최신순)으로 정렬된 이미지가 있는 대여 가능 게시글
+    private final NavigableMap<Long, HomeBook> books = new TreeMap<>(Comparator.reverseOrder());
+
+    // 시/도 코드 -> 미리 계산한 피드 (읽기 전용 값으로 교체하여 읽기는 잠금 없이 처리)
+    private final Map<String, RegionFeed> feeds = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 기동 시 스냅샷을 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcile();
+    }
+
+    /**
+     * DB에서 이미지가 있는 대여 가능 게시글을 다시 읽어 스냅샷을 교체합니다.
+     * 증분 반영 중 놓친 변경(초기 데이터, 직접 수정된 행 등)을 바로잡기 위해 주기적으로 실행합니다.
+     */
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public synchronized void reconcile() {
+        long before = books.size();
+
+        books.clear();
+        for (Book book : bookRepository.findAllAvailableWithImage()) {
+            books.put(book.getId(), HomeBook.of(book.getId(), book.getImage(), book.getTitle(), book.getRegion()));
+        }
+
+        // 캐시된 지역 피드는 새 스냅샷 기준으로 다시 계산
+        Set<String> regions = new HashSet<>(feeds.keySet());
+        regions.add(ALL_REGIONS);
+        feeds.clear();
+        for (String region : regions) {
+            feeds.put(region, compute(region));
+        }
+
+        if (before != books.size()) {
+            log.info("메인페이지 스냅샷 재계산 - 도서: {}개 -> {}개", before, books.size());
+        }
+    }
+
+    /**
+     * 변경된 게시글의 현재 상태를 스냅샷에 반영합니다. (커밋 이후 실행되므로 롤백된 변경은 반영되지 않음)
+     * 이미지가 있는 대여 가능 게시글이면 추가(또는 갱신)하고, 그 외에는 제거합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentChanged(RentChangedEvent event) {
+        Rent rent = event.rent();
+        long rentId = rent.getId();
+        apply(rentId, isFeedBook(rent)
+                ? HomeBook.of(rentId, rent.getBookImage(), rent.getBookTitle(), rent.getAddress())
+                : null);
+    }
+
+    /**
+     * 지역의 최신 도서 피드를 반환합니다.
+     *
+     * @param region 시/도 코드 (예: "seoul"), {@link #ALL_REGIONS}이면 전체
+     * @return 최신 5개 도서와 도서 개수
+     */
+    public RegionFeed feed(String region) {
+        RegionFeed feed = feeds.get(region);
+        if (feed != null) {
+            return feed;
+        }
+        synchronized (this) {
+            feed = feeds.get(region);
+            if (feed == null) {
+                feed = compute(region);
+                feeds.put(region, feed);
+            }
+            return feed;
+        }
+    }
+
+    private synchronized void apply(long rentId, HomeBook book) {
+        HomeBook previous = book != null ? books.put(rentId, book) : books.remove(rentId);
+        if (previous == null && book == null) {
+            return;
+        }
+
+        // 이전 지역 또는 새 지역의 피드만 갱신
+        feeds.replaceAll((region, feed) -> {
+            boolean wasIn = previous != null && previous.inRegion(region);
+            boolean isIn = book != null && book.inRegion(region);
+            if (!wasIn && !isIn) {
+                return feed;
+            }
+            return feed.update(region, rentId, wasIn, isIn, books);
+        });
+    }
+
+    // 스냅샷 전체를 훑어 지역 피드 계산 (지역 피드가 처음 요청되거나 재계산할 때만 사용)
+    private RegionFeed compute(String region) {
+        List<HomeBook> latest = new ArrayList<>(FEED_SIZE);
+        long count = 0;
+        for (HomeBook book : books.values()) {
+            if (book.inRegion(region)) {
+                if (latest.size() < FEED_SIZE) {
+                    latest.add(book);
+                }
+                count++;
+            }
+        }
+        return new RegionFeed(List.copyOf(latest), count);
+    }
+
+    private static boolean isFeedBook(Rent rent) {
+        return rent.getRentStatus() == RentStatus.AVAILABLE
+                && rent.getBookImage() != null
+                && !rent.getBookImage().isEmpty();
+    }
+
+    /**
+     * 메인페이지에 노출되는 도서 정보
+     */
+    public record HomeBook(long id, String image, String title, String sido) {
+        static HomeBook of(long id, String image, String title, String address) {
+            RegionCode regionCode = RegionCode.parse(address);
+            return new HomeBook(id, image, title, regionCode != null ? regionCode.sido() : null);
+        }
+
+        boolean inRegion(String region) {
+            return ALL_REGIONS.equals(region) || region.equals(sido);
+        }
+    }
+
+    /**
+     * 지역별 최신 도서 피드
+     *
+     * @param latest 최신 도서 (최대 5개, 최신순)
+     * @param count 이미지가 있는 대여 가능 도서 개수
+     */
+    public record RegionFeed(List<HomeBook> latest, long count) {
+
+        // 게시글 하나의 변경을 반영한 새 피드 (latest는 변경된 게시글이 들어가거나 빠질 때만 다시 채움)
+        RegionFeed update(String region, long rentId, boolean wasIn, boolean isIn,
+                          NavigableMap<Long, HomeBook> books) {
+            long newCount = count + (isIn ? 1 : 0) - (wasIn ? 1 : 0);
+
+            boolean inLatest = latest.stream().anyMatch(latestBook -> latestBook.id() == rentId);
+            boolean entersLatest = isIn && (latest.size() < FEED_SIZE || rentId > latest.get(latest.size() - 1).id());
+            if (!inLatest && !entersLatest) {
+                return new RegionFeed(latest, newCount);
+            }
+
+            List<HomeBook> newLatest = new ArrayList<>(FEED_SIZE);
+            for (HomeBook candidate : books.values()) {
+                if (candidate.inRegion(region)) {
+                    newLatest.add(candidate);
+                    if (newLatest.size() == FEED_SIZE) {
+                        break;
+                    }
+                }
+            }
+            return new RegionFeed(List.copyOf(newLatest), newCount);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.bookbook.domain.home.feed;
+
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
+import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.global.region.RegionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지역별 대여 가능 게시글 수 레지스트리
+ *
+ * <p>대여 가능한 게시글이 어느 시/도에 속하는지 기억해 두고, 시/도별 게시글 수를 참조 카운트로 관리합니다.
+ * 게시글이 등록되거나 상태/주소가 바뀌면 커밋 이후 {@link RentChangedEvent}를 받아 이전 지역의 수를 줄이고 새 지역의 수를 늘리며,
+ * 수가 0이 된 지역은 목록에서 빠집니다. 지역 목록 조회는 rent 테이블을 읽지 않고 이 값을 그대로 반환합니다.
+ */
+@Slf4j
+@Component
+public class RegionRegistry {
+
+    private final RentRepository rentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게시글 ID -> 시/도 코드 (대여 가능한 게시글만)
+    private final Map<Integer, String> rentRegions = new HashMap<>();
+
+    // 시/도 코드 -> 대여 가능 게시글 수 (읽기 전용 값으로 교체하여 읽기는 잠금 없이 처리)
+    private volatile Map<String, Long> counts = Map.of();
+
+    public RegionRegistry(RentRepository rentRepository, PlatformTransactionManager transactionManager) {
+        this.rentRepository = rentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 애플리케이션 기동 시 레지스트리를 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcile();
+    }
+
+    /**
+     * DB의 대여 가능한 게시글로 레지스트리를 다시 만듭니다. (증분 반영 중 놓친 변경 보정용)
+     * 시/도별 수는 GROUP BY 집계로, 게시글별 시/도는 ID와 시/도 코드만 읽어 채우며
+     * 두 조회는 같은 읽기 전용 트랜잭션에서 실행하여 서로 어긋나지 않도록 합니다.
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public synchronized void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Long> recounted = new HashMap<>();
+            for (Object[] row : rentRepository.countBySidoCode(RentStatus.AVAILABLE)) {
+                recounted.put((String) row[0], (Long) row[1]);
+            }
+
+            rentRegions.clear();
+            for (Object[] row : rentRepository.findIdAndSidoCode(RentStatus.AVAILABLE)) {
+                rentRegions.put((Integer) row[0], (String) row[1]);
+            }
+            counts = Map.copyOf(recounted);
+        });
+
+        log.debug("지역 레지스트리 재계산 - 지역: {}개, 게시글: {}개", counts.size(), rentRegions.size());
+    }
+
+    /**
+     * 변경된 게시글의 현재 상태를 레지스트리에 반영합니다. (커밋 이후 실행되므로 롤백된 변경은 반영되지 않음)
+     * 대여 가능한 게시글이면 해당 시/도에 등록하고, 그 외에는 등록을 해제합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentChanged(RentChangedEvent event) {
+        Rent rent = event.rent();
+        apply(rent.getId(), rent.getRentStatus() == RentStatus.AVAILABLE ? sidoOf(rent) : null);
+    }
+
+    /**
+     * 시/도 코드별 대여 가능 게시글 수를 반환합니다. (게시글이 있는 지역만 포함)
+     */
+    public Map<String, Long> counts() {
+        return counts;
+    }
+
+    private synchronized void apply(int rentId, String sido) {
+        String previous = sido != null ? rentRegions.put(rentId, sido) : rentRegions.remove(rentId);
+        if (previous == null ? sido == null : previous.equals(sido)) {
+            return;
+        }
+
+        Map<String, Long> updated = new HashMap<>(counts);
+        if (previous != null) {
+            // 참조 카운트가 0이 되면 지역 제거
+            updated.computeIfPresent(previous, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (sido != null) {
+            updated.merge(sido, 1L, Long::sum);
+        }
+        counts = Map.copyOf(updated);
+    }
+
+    // 저장된 시/도 코드를 우선 사용 (집계 쿼리와 같은 기준), 아직 채워지지 않았으면 주소에서 계산
+    private static String sidoOf(Rent rent) {
+        if (rent.getSidoCode() != null) {
+            return rent.getSidoCode();
+        }
+        RegionCode regionCode = RegionCode.parse(rent.getAddress());
+        return regionCode != null ? regionCode.sido() : null;
+    }
+}
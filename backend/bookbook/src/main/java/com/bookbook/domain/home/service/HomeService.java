@@ -3,8 +3,10 @@ package com.bookbook.domain.home.service;
 import com.bookbook.domain.home.dto.BookInfoDto;
 import com.bookbook.domain.home.dto.HomeResponseDto;
 import com.bookbook.domain.home.dto.RegionInfoDto;
-import com.bookbook.domain.home.entity.Book;
-import com.bookbook.domain.home.repository.BookRepository;
+import com.bookbook.domain.home.feed.HomeFeedSnapshot;
+import com.bookbook.domain.home.feed.RegionRegistry;
+import com.bookbook.global.region.RegionCode;
+import com.bookbook.global.region.Sido;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,7 +30,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HomeService {
 
-    private final BookRepository bookRepository;
+    private final HomeFeedSnapshot homeFeedSnapshot;
+    private final RegionRegistry regionRegistry;
 
     /**
      * 메인페이지 데이터 조회 - 지역별 최신 5개 도서 이미지
@@ -35,34 +39,24 @@ public class HomeService {
      * @param request HTTP 요청 (사용자 지역 감지용)
      */
     public HomeResponseDto getHomeData(String region, HttpServletRequest request) {
-        List<Book> books;
-        Long totalCount;
-        String actualRegion;
         String userRegion = detectUserRegion(request);
-
-        if (region != null && !region.trim().isEmpty() && !"전체".equals(region)) {
-            // 특정 지역의 도서 조회 - 지역명을 단순화하여 검색
-            String searchRegion = simplifyRegionName(region);
-            log.debug("지역별 도서 조회: {} -> {}", region, searchRegion);
-            books = bookRepository.findTop5WithImageByRegionOrderByIdDesc(searchRegion);
-            totalCount = bookRepository.countBooksWithImageByRegion(searchRegion);
-            actualRegion = region;
-        } else {
-            // 전체 지역의 도서 조회
-            books = bookRepository.findTop5WithImageOrderByIdDesc();
-            totalCount = bookRepository.countBooksWithImage();
-            actualRegion = "전체";
+        boolean regional = isRegional(region);
+        if (regional) {
+            log.debug("지역별 도서 조회: {} -> {}", region, searchRegion(region));
         }
 
+        // 지역별 최신 도서와 개수는 미리 계산된 스냅샷에서 조회 (DB 조회 없음)
+        HomeFeedSnapshot.RegionFeed feed = homeFeedSnapshot.feed(searchRegion(region));
+
         // 이미지 URL만 추출
-        List<String> bookImages = books.stream()
-                .map(Book::getImage)
+        List<String> bookImages = feed.latest().stream()
+                .map(HomeFeedSnapshot.HomeBook::image)
                 .collect(Collectors.toList());
 
         return HomeResponseDto.builder()
-                .region(actualRegion)
+                .region(regional ? region : "전체")
                 .bookImages(bookImages)
-                .totalBooksInRegion(totalCount)
+                .totalBooksInRegion(feed.count())
                 .userRegion(userRegion)
                 .build();
     }
@@ -72,67 +66,32 @@ public class HomeService {
      * @param region 지역명 (선택적)
      */
     public List<BookInfoDto> getBooksWithId(String region) {
-        List<Book> books;
-
-        if (region != null && !region.trim().isEmpty() && !"전체".equals(region)) {
-            // 특정 지역의 도서 조회 - 지역명을 단순화하여 검색
-            String searchRegion = simplifyRegionName(region);
-            books = bookRepository.findTop5WithImageByRegionOrderByIdDesc(searchRegion);
-        } else {
-            // 전체 지역의 도서 조회
-            books = bookRepository.findTop5WithImageOrderByIdDesc();
-        }
-
-        return books.stream()
+        return homeFeedSnapshot.feed(searchRegion(region)).latest().stream()
                 .map(book -> BookInfoDto.builder()
-                        .id(book.getId())
-                        .imageUrl(book.getImage())
-                        .title(book.getTitle() != null ? book.getTitle() : "도서 " + book.getId())
-                        .bookTitle(book.getTitle() != null ? book.getTitle() : "도서 " + book.getId())
+                        .id(book.id())
+                        .imageUrl(book.image())
+                        .title(book.title() != null ? book.title() : "도서 " + book.id())
+                        .bookTitle(book.title() != null ? book.title() : "도서 " + book.id())
                         .build())
                 .collect(Collectors.toList());
     }
 
     /**
      * 지역 목록 조회
+     * 대여 가능한 도서가 있는 광역자치단체와 도서 개수를 반환합니다. (rent 테이블 조회 없음)
      */
     public List<RegionInfoDto> getRegions() {
-        // 한국의 광역자치단체 목록 (기본값)
-        List<RegionInfoDto> defaultRegions = Arrays.asList(
-                RegionInfoDto.builder().name("서울특별시").code("seoul").build(),
-                RegionInfoDto.builder().name("부산광역시").code("busan").build(),
-                RegionInfoDto.builder().name("대구광역시").code("daegu").build(),
-                RegionInfoDto.builder().name("인천광역시").code("incheon").build(),
-                RegionInfoDto.builder().name("광주광역시").code("gwangju").build(),
-                RegionInfoDto.builder().name("대전광역시").code("daejeon").build(),
-                RegionInfoDto.builder().name("울산광역시").code("ulsan").build(),
-                RegionInfoDto.builder().name("경기도").code("gyeonggi").build(),
-                RegionInfoDto.builder().name("강원특별자치도").code("gangwon").build(),
-                RegionInfoDto.builder().name("충청북도").code("chungbuk").build(),
-                RegionInfoDto.builder().name("충청남도").code("chungnam").build(),
-                RegionInfoDto.builder().name("전북특별자치도").code("jeonbuk").build(),
-                RegionInfoDto.builder().name("전라남도").code("jeonnam").build(),
-                RegionInfoDto.builder().name("경상북도").code("gyeongbuk").build(),
-                RegionInfoDto.builder().name("경상남도").code("gyeongnam").build(),
-                RegionInfoDto.builder().name("제주특별자치도").code("jeju").build()
-        );
-
-        try {
-            // DB에서 실제 등록된 지역들을 조회
-            List<String> dbRegions = bookRepository.findDistinctRegions();
-            
-            if (!dbRegions.isEmpty()) {
-                // DB에 등록된 지역들을 기본 지역 목록과 매칭하여 반환
-                return defaultRegions.stream()
-                        .filter(defaultRegion -> dbRegions.contains(defaultRegion.getName()))
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            log.warn("DB에서 지역 목록 조회 실패, 기본값 사용: {}", e.getMessage());
-        }
-
-        // DB 조회 실패시 기본 지역 목록 반환
-        return defaultRegions;
+        Map<String, Long> counts = regionRegistry.counts();
+
+        // 등록된 도서가 하나도 없으면 전체 광역자치단체 목록 반환
+        return Arrays.stream(Sido.values())
+                .filter(sido -> counts.isEmpty() || counts.containsKey(sido.getCode()))
+                .map(sido -> RegionInfoDto.builder()
+                        .name(sido.getOfficialName())
+                        .code(sido.getCode())
+                        .count(counts.getOrDefault(sido.getCode(), 0L))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -206,23 +165,15 @@ public class HomeService {
         return null;
     }
 
+    private boolean isRegional(String region) {
+        return region != null && !region.trim().isEmpty() && !"전체".equals(region);
+    }
+
     /**
-     * 지역명을 검색하기 쉽게 단순화
-     * 예: "서울특별시" -> "서울", "경기도" -> "경기"
+     * 스냅샷 조회에 사용할 지역 키
+     * 특정 지역이면 시/도 코드(예: "서울특별시" -> "seoul"), 전체이면 {@link HomeFeedSnapshot#ALL_REGIONS}
      */
-    private String simplifyRegionName(String region) {
-        if (region == null || region.trim().isEmpty()) {
-            return region;
-        }
-        
-        // 특별시, 광역시, 도 등을 제거하여 핵심 지역명만 추출
-        String simplified = region
-                .replace("특별시", "")
-                .replace("광역시", "")
-                .replace("특별자치도", "")
-                .replace("자치도", "")
-                .replace("도", "");
-        
-        return simplified.trim();
+    private String searchRegion(String region) {
+        return isRegional(region) ? RegionCode.filterOf(region).sido() : HomeFeedSnapshot.ALL_REGIONS;
     }
 }
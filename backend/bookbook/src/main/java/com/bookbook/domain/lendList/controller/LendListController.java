@@ -6,12 +6,16 @@ import com.bookbook.domain.review.dto.ReviewCreateRequestDto;
 import com.bookbook.domain.review.dto.ReviewResponseDto;
 import com.bookbook.domain.review.service.ReviewService;
 import com.bookbook.global.rsdata.RsData;
+import com.bookbook.global.util.CursorResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -20,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
  * 사용자가 등록한 도서 게시글의 조회, 삭제 및 대여자가 대여받은 사람에게 리뷰를 작성하는 기능을 제공합니다.
  */
 @RestController
+@Validated
 @RequestMapping("/api/v1/user/{userId}/lendlist")
 @RequiredArgsConstructor
 public class LendListController {
@@ -50,6 +55,24 @@ public class LendListController {
         return ResponseEntity.ok(RsData.of("200", "등록한 도서 목록을 조회했습니다.", lendList));
     }
     
+    /**
+     * 내가 등록한 도서 목록 조회 (커서 기반 페이지네이션)
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (기본: 10개)
+     * @return 등록한 도서 게시글 목록과 다음 페이지 커서
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<RsData<CursorResponse<LendListResponseDto>>> getLendListByUserIdAndCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+
+        CursorResponse<LendListResponseDto> lendList = lendListService.getLendListByUserIdAndCursor(userId, cursor, size);
+        return ResponseEntity.ok(RsData.of("200", "등록한 도서 목록을 조회했습니다.", lendList));
+    }
+    
     /**
      * 내가 등록한 도서 게시글 삭제
      * 
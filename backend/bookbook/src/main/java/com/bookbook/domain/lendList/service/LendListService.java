@@ -2,20 +2,33 @@ package com.bookbook.domain.lendList.service;
 
 import com.bookbook.domain.lendList.dto.LendListResponseDto;
 import com.bookbook.domain.lendList.repository.LendListRepository;
+import com.bookbook.domain.notification.enums.NotificationType;
+import com.bookbook.domain.notification.service.NotificationService;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
 import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.domain.rent.search.RentSearchIndex;
 import com.bookbook.domain.rentList.repository.RentListRepository;
-import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.rentList.service.RentListService;
 import com.bookbook.domain.review.repository.ReviewRepository;
 import com.bookbook.domain.rentList.entity.RentList;
+import com.bookbook.global.util.CursorResponse;
+import com.bookbook.global.util.CursorToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 내가 등록한 도서 목록 관리 서비스
@@ -32,8 +45,11 @@ public class LendListService {
     private final LendListRepository lendListRepository;
     private final RentRepository rentRepository;
     private final RentListRepository rentListRepository;
-    private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final RentSearchIndex rentSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RentListService rentListService;
+    private final NotificationService notificationService;
 
     /**
      * 사용자가 등록한 도서 목록을 페이징하여 조회
@@ -44,41 +60,7 @@ public class LendListService {
      */
     public Page<LendListResponseDto> getLendListByUserId(Long userId, Pageable pageable) {
         Page<Rent> rentPage = lendListRepository.findByLenderUserId(userId, pageable);
-        return rentPage.map(rent -> {
-            // 초기값 설정 - 대여자 닉네임은 null로 시작
-            String borrowerNickname = null;
-            
-            // 조건문 - 대여 중이거나 완료된 상태인 경우에만 대여자 닉네임 조회
-            // LOANED: 현재 대여 중, FINISHED: 대여 완료 상태
-            if (rent.getRentStatus() == RentStatus.LOANED || rent.getRentStatus() == RentStatus.FINISHED) {
-                borrowerNickname = rentListRepository.findByRentId(rent.getId())
-                        .stream()
-                        .findFirst()
-                        .flatMap(rentList -> userRepository.findById(rentList.getBorrowerUser().getId()))
-                        .map(user -> user.getNickname())
-                        .orElse(null);
-            }
-            // 반납 날짜 조회
-            LocalDateTime returnDate = null;
-            boolean hasReview = false;
-            
-            if (rent.getRentStatus() == RentStatus.LOANED || rent.getRentStatus() == RentStatus.FINISHED) {
-                RentList rentList = rentListRepository.findByRentId(rent.getId())
-                        .stream()
-                        .findFirst()
-                        .orElse(null);
-                        
-                if (rentList != null) {
-                    returnDate = rentList.getReturnDate();
-                    
-                    // 리뷰 작성 여부 확인 (대여자가 대여받은 사람에 대한 리뷰)
-                    hasReview = reviewRepository.findByRentIdAndReviewerId(rent.getId(), userId)
-                            .isPresent();
-                }
-            }
-            
-            return LendListResponseDto.from(rent, borrowerNickname, returnDate, hasReview);
-        });
+        return rentPage.map(responseMapper(rentPage.getContent(), userId));
     }
     
     /**
@@ -94,46 +76,43 @@ public class LendListService {
         if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
             rentPage = lendListRepository.findByLenderUserId(userId, pageable);
         } else {
-            rentPage = lendListRepository.findByLenderUserIdAndSearchKeyword(userId, searchKeyword.trim(), pageable);
+            // 검색어가 있으면 인메모리 색인에서 검색 (띄어쓰기/초성 검색 지원)
+            rentPage = rentSearchIndex.searchByLender(userId, searchKeyword.trim(), pageable);
         }
         
-        return rentPage.map(rent -> {
-            String borrowerNickname = null;
-            if (rent.getRentStatus() == RentStatus.LOANED || rent.getRentStatus() == RentStatus.FINISHED) {
-                borrowerNickname = rentListRepository.findByRentId(rent.getId())
-                        .stream()
-                        .findFirst()
-                        .flatMap(rentList -> userRepository.findById(rentList.getBorrowerUser().getId()))
-                        .map(user -> user.getNickname())
-                        .orElse(null);
-            }
-            // 반납 날짜 조회
-            LocalDateTime returnDate = null;
-            boolean hasReview = false;
-            
-            if (rent.getRentStatus() == RentStatus.LOANED || rent.getRentStatus() == RentStatus.FINISHED) {
-                RentList rentList = rentListRepository.findByRentId(rent.getId())
-                        .stream()
-                        .findFirst()
-                        .orElse(null);
-                        
-                if (rentList != null) {
-                    returnDate = rentList.getReturnDate();
-                    
-                    // 리뷰 작성 여부 확인 (대여자가 대여받은 사람에 대한 리뷰)
-                    hasReview = reviewRepository.findByRentIdAndReviewerId(rent.getId(), userId)
-                            .isPresent();
-                }
-            }
-            
-            return LendListResponseDto.from(rent, borrowerNickname, returnDate, hasReview);
-        });
+        return rentPage.map(responseMapper(rentPage.getContent(), userId));
+    }
+    
+    /**
+     * 사용자가 등록한 도서 목록을 커서 기반으로 조회
+     * 
+     * 페이지 번호 대신 이전 응답의 커서(등록일, ID) 이후 게시글만 조회하므로
+     * 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 등록한 도서 게시글 목록과 다음 페이지 커서
+     */
+    public CursorResponse<LendListResponseDto> getLendListByUserIdAndCursor(Long userId, String cursor, int size) {
+        CursorToken after = CursorToken.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Rent> rents = after == null
+                ? lendListRepository.findFirstByLenderUserId(userId, limit)
+                : lendListRepository.findNextByLenderUserId(userId, after.time(), after.id(), limit);
+
+        return CursorResponse.of(rents, size,
+                rent -> new CursorToken(rent.getCreatedDate(), rent.getId()),
+                responseMapper(rents, userId));
     }
     
     /**
      * 내가 등록한 도서 게시글 삭제
      * 
      * 본인이 작성한 게시글만 삭제 가능하며, 현재 대출 중인 도서는 삭제할 수 없습니다.
+     * 삭제된 게시글에 남아 있던 대기 중인 대여 신청은 한 번에 거절하고 신청자에게 알립니다.
      * 
      * @param userId 사용자 ID (작성자 확인용)
      * @param rentId 삭제할 도서 게시글 ID
@@ -144,8 +123,8 @@ public class LendListService {
     // readOnly = false (기본값)이므로 데이터 변경 가능
     @Transactional
     public void deleteLendList(Long userId, Integer rentId) {
-        // 대여 게시글 조회
-        Rent rent = rentRepository.findById(rentId)
+        // 대여 게시글 조회 (삭제 도중 대여 신청 수락/등록이 겹치지 않도록 잠금)
+        Rent rent = rentRepository.findByIdForUpdate(rentId)
                 .orElseThrow(() -> new IllegalArgumentException("대여 게시글을 찾을 수 없습니다. rentId: " + rentId));
         
         // 작성자인지 확인
@@ -161,5 +140,58 @@ public class LendListService {
         // Soft Delete 실행 - 상태를 DELETED로 변경
         rent.setRentStatus(RentStatus.DELETED);
         rentRepository.save(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
+
+        // 대기 중인 신청 일괄 거절 및 신청자 알림 (발송 대기 이벤트 한 건만 기록)
+        List<Long> rejectedBorrowerIds = rentListService.rejectPendingRequests(rentId);
+        notificationService.enqueueNotification(
+                rejectedBorrowerIds,
+                null,
+                NotificationType.RENT_REJECTED,
+                String.format("'%s' 게시글이 삭제되어 대여 요청이 거절되었습니다.", rent.getBookTitle()),
+                rent.getBookTitle(),
+                rent.getBookImage(),
+                (long) rent.getId()
+        );
+    }
+    
+    /**
+     * 게시글 목록을 응답 DTO로 변환하는 함수를 만듭니다.
+     * 
+     * 대여 기록(대여자 닉네임, 반납 날짜)과 리뷰 작성 여부는 목록 전체에 대해 한 번에 조회하여
+     * 게시글 수와 관계없이 조회 쿼리 수가 일정하도록 합니다.
+     * 
+     * @param rents 변환할 게시글 목록
+     * @param userId 사용자 ID (리뷰 작성 여부 확인용)
+     * @return 게시글 -> 응답 DTO 변환 함수
+     */
+    private Function<Rent, LendListResponseDto> responseMapper(List<Rent> rents, Long userId) {
+        // 대여 중이거나 완료된 상태인 경우에만 대여 기록 조회
+        // LOANED: 현재 대여 중, FINISHED: 대여 완료 상태
+        List<Integer> lentRentIds = rents.stream()
+                .filter(rent -> rent.getRentStatus() == RentStatus.LOANED || rent.getRentStatus() == RentStatus.FINISHED)
+                .map(Rent::getId)
+                .toList();
+
+        Map<Integer, RentList> rentListByRentId = new HashMap<>();
+        Set<Integer> reviewedRentIds = new HashSet<>();
+        if (!lentRentIds.isEmpty()) {
+            for (RentList rentList : rentListRepository.findByRentIdIn(lentRentIds)) {
+                rentListByRentId.putIfAbsent(rentList.getRent().getId(), rentList);
+            }
+            // 리뷰 작성 여부 확인 (대여자가 대여받은 사람에 대한 리뷰)
+            reviewedRentIds.addAll(reviewRepository.findReviewedRentIds(userId, lentRentIds));
+        }
+
+        return rent -> {
+            RentList rentList = rentListByRentId.get(rent.getId());
+            if (rentList == null) {
+                return LendListResponseDto.from(rent, null, null, false);
+            }
+            
+            String borrowerNickname = rentList.getBorrowerUser() != null ? rentList.getBorrowerUser().getNickname() : null;
+            return LendListResponseDto.from(rent, borrowerNickname, rentList.getReturnDate(),
+                    reviewedRentIds.contains(rent.getId()));
+        };
     }
-}
\ No newline at end of file
+}
@@ -6,18 +6,26 @@ import com.bookbook.domain.notification.enums.NotificationType;
 import com.bookbook.domain.notification.service.NotificationService;
 import com.bookbook.domain.user.entity.User;
 import com.bookbook.domain.user.service.UserService;
+import com.bookbook.global.exception.ServiceException;
 import com.bookbook.global.rsdata.RsData;
 import com.bookbook.global.security.CustomOAuth2User;
+import com.bookbook.global.util.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/bookbook/user/notifications")
 @Slf4j
@@ -71,6 +79,45 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 알림 목록 조회 (커서 기반 페이지네이션)
+     */
+    @GetMapping(value = "/cursor", produces = "application/json")
+    @Operation(summary = "사용자 알림 조회 (커서)", description = "현재 로그인한 사용자의 알림을 최신순으로 size개씩 조회합니다.")
+    public RsData<CursorResponse<NotificationResponseDto>> getNotificationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User
+    ) {
+        if (customOAuth2User == null || customOAuth2User.getUserId() == null) {
+            return new RsData<>("401-1", "로그인 후 사용해주세요.", null);
+        }
+
+        CursorResponse<NotificationResponseDto> notifications =
+                notificationService.getNotificationsByCursor(customOAuth2User.getUserId(), cursor, size);
+        return new RsData<>("200-1", "알림 목록을 조회했습니다.", notifications);
+    }
+
+    /**
+     * 알림 스트림 (SSE)
+     * 새 알림과 읽지 않은 알림 수 변화를 실시간으로 받으므로 목록/개수를 주기적으로 조회할 필요가 없습니다.
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 알림 ID
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "알림 스트림 구독", description = "새 알림과 읽지 않은 알림 수 변화를 SSE로 받습니다. 재연결 시 Last-Event-ID 이후의 알림을 이어서 보냅니다.")
+    public SseEmitter subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User
+    ) {
+        if (customOAuth2User == null || customOAuth2User.getUserId() == null) {
+            throw new ServiceException("401-1", "로그인 후 사용해주세요.");
+        }
+
+        Long lastId = lastEventId != null && lastEventId.matches("\\d{1,18}") ? Long.valueOf(lastEventId) : null;
+        return notificationService.subscribe(customOAuth2User.getUserId(), lastId);
+    }
+
     @Transactional(readOnly = true)
     @GetMapping(value = "/unread-count", produces = "application/json")
     @Operation(summary = "읽지 않은 알림 개수", description = "현재 사용자의 읽지 않은 알림 개수를 조회합니다.")
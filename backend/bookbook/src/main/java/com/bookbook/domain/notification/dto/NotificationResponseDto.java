@@ -43,6 +43,21 @@ public class NotificationResponseDto {
     @JsonProperty("rentId")
     private Long rentId; // rent ID 추가
 
+    public static NotificationResponseDto from(NotificationSummaryDto notification) {
+        NotificationResponseDto dto = new NotificationResponseDto();
+        dto.setId(notification.id());
+        dto.setMessage(notification.title());
+        dto.setTime(formatTime(notification.createAt()));
+        dto.setRead(Boolean.TRUE.equals(notification.isRead()));
+        dto.setBookTitle(notification.bookTitle() != null ? notification.bookTitle() : "");
+        dto.setDetailMessage(notification.message() != null ? notification.message() : "");
+        dto.setImageUrl(formatImageUrl(notification.bookImageUrl()));
+        dto.setRequester(notification.senderId() != null ? notification.senderNickname() : "시스템");
+        dto.setType(notification.type().name());
+        dto.setRentId(notification.relatedId());
+        return dto;
+    }
+
     public static NotificationResponseDto from(Notification notification) {
         NotificationResponseDto dto = new NotificationResponseDto();
         dto.setId(notification.getId());
@@ -0,0 +1,21 @@
+package com.bookbook.domain.notification.dto;
+
+import com.bookbook.domain.notification.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+// 알림 목록 조회용 프로젝션 (발송자 닉네임을 같은 쿼리에서 함께 조회하여 사용자 엔티티를 불러오지 않음)
+public record NotificationSummaryDto(
+        Long id,
+        NotificationType type,
+        String title,
+        String message,
+        String bookTitle,
+        String bookImageUrl,
+        Long relatedId,
+        Boolean isRead,
+        LocalDateTime createAt,
+        Long senderId,
+        String senderNickname
+) {
+}
@@ -18,6 +18,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, create_at DESC, id DESC"),
+        @Index(name = "idx_notification_read_created", columnList = "is_read, create_at"),
+        // 중복 알림 정리에서 같은 받는 사람/타입/관련 데이터의 더 최근 알림 존재 여부 확인용
+        @Index(name = "idx_notification_receiver_type_related", columnList = "receiver_id, type, related_id, id")
+})
 public class Notification extends BaseEntity {
 
     @Id
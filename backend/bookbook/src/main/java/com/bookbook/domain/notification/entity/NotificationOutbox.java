@@ -0,0 +1,92 @@
+package com.bookbook.domain.notification.entity;
+
+import com.bookbook.domain.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기 이벤트 (트랜잭셔널 아웃박스)
+ *
+ * <p>여러 사용자에게 같은 알림을 보내야 할 때, 업무 트랜잭션에서는 받는 사람 목록과 알림 내용을
+ * 이 테이블에 한 행으로 기록하고, 받는 사람은 {@link NotificationOutboxReceiver}에 한 명당 한 행씩 기록합니다.
+ * 업무 트랜잭션과 함께 커밋되므로 알림이 빠지거나 롤백된 변경의 알림이 나가는 일이 없고,
+ * 실제 알림 생성은 발송기가 커밋 이후에 모아서 처리합니다.
+ *
+ * <p>발송에 실패한 이벤트는 시도 횟수와 마지막 오류를 기록하고 시도할 때마다 두 배씩 늘어나는 간격 뒤에 다시 처리하며,
+ * 정해진 횟수를 넘으면 보류(parked) 상태로 두어 다른 이벤트의 발송을 막지 않도록 합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_parked_id", columnList = "parked_at, id"))
+public class NotificationOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long senderId; // 알림을 발생시킨 사용자 ID (시스템 알림이면 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    private String message;
+
+    private String bookTitle;
+
+    private String bookImageUrl;
+
+    private Long relatedId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts; // 실패한 발송 시도 횟수
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError; // 마지막 발송 실패 사유
+
+    private LocalDateTime nextAttemptAt; // 다음 발송 시도 시간 (null이면 바로 처리)
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt; // 보류된 시간 (보류된 이벤트는 발송하지 않음)
+
+    public NotificationOutbox(Long senderId, NotificationType type,
+                              String message, String bookTitle, String bookImageUrl, Long relatedId) {
+        this.senderId = senderId;
+        this.type = type;
+        this.message = message;
+        this.bookTitle = bookTitle;
+        this.bookImageUrl = bookImageUrl;
+        this.relatedId = relatedId;
+        this.createdDate = LocalDateTime.now();
+    }
+
+    /**
+     * 발송 실패를 기록합니다. 시도 횟수가 maxAttempts에 이르면 보류하고,
+     * 그 전에는 2^시도 횟수 초 뒤에 다시 시도하도록 합니다.
+     *
+     * @return 보류되었으면 true
+     */
+    public boolean recordFailure(String error, LocalDateTime now, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.parkedAt = now;
+            return true;
+        }
+        this.nextAttemptAt = now.plusSeconds(1L << attempts);
+        return false;
+    }
+}
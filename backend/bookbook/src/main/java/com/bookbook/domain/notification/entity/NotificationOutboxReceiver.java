@@ -0,0 +1,30 @@
+package com.bookbook.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 대기 이벤트의 받는 사람 (이벤트당 받는 사람 수만큼의 행)
+ *
+ * <p>이벤트({@link NotificationOutbox})에는 알림 내용만 한 번 기록하고 받는 사람은 이 테이블에 한 행씩 둡니다.
+ * 저장/조회/삭제는 JDBC 배치로 처리합니다. ({@link com.bookbook.domain.notification.repository.NotificationOutboxReceiverRepository})
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox_receiver",
+        indexes = @Index(name = "idx_notification_outbox_receiver_outbox", columnList = "outbox_id"))
+public class NotificationOutboxReceiver {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "outbox_id", nullable = false)
+    private Long outboxId;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+}
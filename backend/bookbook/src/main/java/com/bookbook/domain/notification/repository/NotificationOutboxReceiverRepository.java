@@ -0,0 +1,59 @@
+package com.bookbook.domain.notification.repository;
+
+import com.bookbook.domain.notification.entity.NotificationOutboxReceiver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 알림 발송 대기 이벤트의 받는 사람({@link NotificationOutboxReceiver}) 저장소
+ * 받는 사람 수만큼 행이 생기므로 JPA 대신 JDBC 배치로 저장하고, 이벤트 여러 개의 받는 사람을 한 번에 조회/삭제합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxReceiverRepository {
+
+    private static final String INSERT = "INSERT INTO notification_outbox_receiver (outbox_id, receiver_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long outboxId, Collection<Long> receiverIds) {
+        jdbcTemplate.batchUpdate(INSERT, receiverIds.stream()
+                .map(receiverId -> new Object[]{outboxId, receiverId})
+                .toList());
+    }
+
+    /**
+     * 이벤트별 받는 사람 ID 목록을 조회합니다.
+     *
+     * @return 이벤트 ID -> 받는 사람 ID 목록 (받는 사람이 없는 이벤트는 빠짐)
+     */
+    public Map<Long, List<Long>> findReceiverIds(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Long>> receivers = new HashMap<>();
+        jdbcTemplate.query("SELECT outbox_id, receiver_id FROM notification_outbox_receiver WHERE outbox_id IN ("
+                        + placeholders(outboxIds.size()) + ") ORDER BY id",
+                rs -> {
+                    receivers.computeIfAbsent(rs.getLong(1), key -> new ArrayList<>()).add(rs.getLong(2));
+                },
+                outboxIds.toArray());
+        return receivers;
+    }
+
+    public void deleteByOutboxIds(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM notification_outbox_receiver WHERE outbox_id IN ("
+                + placeholders(outboxIds.size()) + ")", outboxIds.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookbook.domain.notification.repository;
+
+import com.bookbook.domain.notification.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송할 이벤트를 오래된 순으로 잠그고 조회 (보류되었거나 다시 시도할 시간이 되지 않은 이벤트, 다른 서버가 잠근 행은 건너뜀)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT o FROM NotificationOutbox o
+        WHERE o.parkedAt IS NULL AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now)
+        ORDER BY o.id ASC
+    """)
+    List<NotificationOutbox> findNextBatchForUpdate(@Param("now") LocalDateTime now, Pageable limit);
+
+    // 이벤트 하나를 잠그고 조회 (이벤트별 발송용, 다른 서버가 잠근 행이면 빈 값)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.id = :id AND o.parkedAt IS NULL")
+    Optional<NotificationOutbox> findByIdForUpdate(@Param("id") Long id);
+}
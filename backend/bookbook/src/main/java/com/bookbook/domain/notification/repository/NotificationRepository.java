@@ -1,25 +1,73 @@
 package com.bookbook.domain.notification.repository;
 
+import com.bookbook.domain.notification.dto.NotificationSummaryDto;
 import com.bookbook.domain.notification.entity.Notification;
 import com.bookbook.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    // 사용자별 알림 조회 (최신순)
-    List<Notification> findByReceiverOrderByCreateAtDesc(User receiver);
+    // 사용자별 알림 목록 (최신순, 발송자 닉네임 포함 프로젝션)
+    @Query("SELECT new com.bookbook.domain.notification.dto.NotificationSummaryDto(" +
+           "n.id, n.type, n.title, n.message, n.bookTitle, n.bookImageUrl, n.relatedId, n.isRead, n.createAt, s.id, s.nickname) " +
+           "FROM Notification n LEFT JOIN n.sender s " +
+           "WHERE n.receiver.id = :receiverId " +
+           "ORDER BY n.createAt DESC, n.id DESC")
+    List<NotificationSummaryDto> findSummariesByReceiverId(@Param("receiverId") Long receiverId, Pageable limit);
+
+    // 커서 페이지네이션 다음 페이지 - 커서 위치(생성 시간, 알림 ID) 이후만 조회
+    @Query("SELECT new com.bookbook.domain.notification.dto.NotificationSummaryDto(" +
+           "n.id, n.type, n.title, n.message, n.bookTitle, n.bookImageUrl, n.relatedId, n.isRead, n.createAt, s.id, s.nickname) " +
+           "FROM Notification n LEFT JOIN n.sender s " +
+           "WHERE n.receiver.id = :receiverId " +
+           "AND (n.createAt < :createAt OR (n.createAt = :createAt AND n.id < :id)) " +
+           "ORDER BY n.createAt DESC, n.id DESC")
+    List<NotificationSummaryDto> findSummariesAfter(@Param("receiverId") Long receiverId,
+                                                    @Param("createAt") LocalDateTime createAt,
+                                                    @Param("id") Long id,
+                                                    Pageable limit);
 
     // 사용자별 읽지 않은 알림 개수
     long countByReceiverAndIsReadFalse(User receiver);
 
+    long countByReceiver_IdAndIsReadFalse(Long receiverId);
+
+    // 알림 스트림 재연결 시 놓친 알림 조회 (Last-Event-ID 이후, 오래된 순)
+    @Query("SELECT new com.bookbook.domain.notification.dto.NotificationSummaryDto(" +
+           "n.id, n.type, n.title, n.message, n.bookTitle, n.bookImageUrl, n.relatedId, n.isRead, n.createAt, s.id, s.nickname) " +
+           "FROM Notification n LEFT JOIN n.sender s " +
+           "WHERE n.receiver.id = :receiverId AND n.id > :lastId " +
+           "ORDER BY n.id ASC")
+    List<NotificationSummaryDto> findSummariesSince(@Param("receiverId") Long receiverId,
+                                                    @Param("lastId") Long lastId,
+                                                    Pageable limit);
+
     // 사용자별 읽지 않은 알림 조회
     List<Notification> findByReceiverAndIsReadFalseOrderByCreateAtDesc(User receiver);
 
-    // 사용자의 모든 알림을 읽음 처리하는 쿼리
+    // 보관 기간이 지난 읽은 알림 ID (보관 정리용, lastId 이후 오래된 순)
+    @Query("SELECT n.id FROM Notification n WHERE n.id > :lastId AND n.isRead = true AND n.createAt < :cutoff ORDER BY n.id ASC")
+    List<Long> findReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("lastId") Long lastId, Pageable limit);
+
+    // 같은 받는 사람/타입/관련 데이터/발송자의 더 최근 알림이 있는 읽은 알림 ID (중복 정리용, lastId 이후 오래된 순)
+    // 더 최근 알림 확인은 (receiver_id, type, related_id, id) 인덱스 범위 조회
+    @Query("SELECT n.id FROM Notification n " +
+           "WHERE n.id > :lastId AND n.isRead = true AND n.relatedId IS NOT NULL " +
+           "AND EXISTS (SELECT 1 FROM Notification m " +
+           "            WHERE m.receiver.id = n.receiver.id AND m.type = n.type AND m.relatedId = n.relatedId " +
+           "            AND COALESCE(m.sender.id, 0) = COALESCE(n.sender.id, 0) AND m.id > n.id) " +
+           "ORDER BY n.id ASC")
+    List<Long> findSupersededReadIds(@Param("lastId") Long lastId, Pageable limit);
+
+    // 사용자의 모든 알림을 읽음 처리하는 쿼리 (읽음 처리한 알림 수 반환)
+    @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver = :receiver AND n.isRead = false")
-    void markAllAsReadByReceiver(@Param("receiver") User receiver);
+    int markAllAsReadByReceiver(@Param("receiver") User receiver);
 }
\ No newline at end of file
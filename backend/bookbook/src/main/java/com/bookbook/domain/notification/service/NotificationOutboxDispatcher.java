@@ -0,0 +1,235 @@
+package com.bookbook.domain.notification.service;
+
+import com.bookbook.domain.notification.dto.NotificationResponseDto;
+import com.bookbook.domain.notification.dto.NotificationSummaryDto;
+import com.bookbook.domain.notification.entity.NotificationOutbox;
+import com.bookbook.domain.notification.repository.NotificationOutboxReceiverRepository;
+import com.bookbook.domain.notification.repository.NotificationOutboxRepository;
+import com.bookbook.domain.notification.sse.NotificationEmitterRegistry;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * 알림 발송기 (아웃박스 처리)
+ *
+ * <p>주기적으로 {@link NotificationOutbox}에 쌓인 이벤트를 오래된 순으로 batch-size개씩 잠그고,
+ * 받는 사람별 알림을 JDBC 배치 한 번으로 저장한 뒤 이벤트를 삭제합니다.
+ * 저장한 알림은 커밋 이후 알림 스트림에 연결된 사용자에게 바로 전달합니다.
+ *
+ * <p>여러 서버가 동시에 실행해도 다른 서버가 잠근 이벤트는 건너뛰므로 같은 알림이 두 번 만들어지지 않습니다.
+ * 배치 저장에 실패하면 이벤트마다 따로 처리하여 실패한 이벤트만 남기고, 실패한 이벤트는 시도 횟수를 늘려
+ * 간격을 두고 다시 처리합니다. max-attempts번 실패한 이벤트는 보류하여 다른 이벤트의 발송을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final String INSERT_NOTIFICATION = "INSERT INTO notification " +
+            "(receiver_id, sender_id, type, title, message, book_title, book_image_url, related_id, is_read, create_at, update_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxReceiverRepository notificationOutboxReceiverRepository;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+    private final UserNicknameResolver userNicknameResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        NotificationOutboxReceiverRepository notificationOutboxReceiverRepository,
+                                        NotificationEmitterRegistry notificationEmitterRegistry,
+                                        UserNicknameResolver userNicknameResolver,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notification.outbox.max-attempts:5}") int maxAttempts) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationOutboxReceiverRepository = notificationOutboxReceiverRepository;
+        this.notificationEmitterRegistry = notificationEmitterRegistry;
+        this.userNicknameResolver = userNicknameResolver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 쌓인 이벤트가 없을 때까지 batch-size개씩 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:300}")
+    public void dispatch() {
+        try {
+            Integer dispatched;
+            do {
+                dispatched = dispatchNext();
+            } while (dispatched == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("알림 발송 실패 - 다음 주기에 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다음 batch-size개의 이벤트를 한 트랜잭션에서 처리합니다.
+     * 실패하면 같은 이벤트들을 각각의 트랜잭션에서 다시 처리하여, 문제가 되는 이벤트만 실패로 기록합니다.
+     *
+     * @return 처리를 시도한 이벤트 수
+     */
+    int dispatchNext() {
+        List<Long> ids;
+        try {
+            return Objects.requireNonNull(transactionTemplate.execute(status -> {
+                List<NotificationOutbox> events = notificationOutboxRepository
+                        .findNextBatchForUpdate(LocalDateTime.now(), PageRequest.of(0, batchSize));
+                dispatchEvents(events);
+                return events.size();
+            }));
+        } catch (RuntimeException e) {
+            log.warn("알림 일괄 발송 실패 - 이벤트별로 다시 처리: {}", e.getMessage());
+            ids = transactionTemplate.execute(status -> notificationOutboxRepository
+                    .findNextBatchForUpdate(LocalDateTime.now(), PageRequest.of(0, batchSize))
+                    .stream()
+                    .map(NotificationOutbox::getId)
+                    .toList());
+        }
+
+        for (Long id : Objects.requireNonNull(ids)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.findByIdForUpdate(id)
+                        .ifPresent(event -> dispatchEvents(List.of(event))));
+            } catch (RuntimeException e) {
+                recordFailure(id, e);
+            }
+        }
+        return ids.size();
+    }
+
+    // 실패한 이벤트의 시도 횟수를 늘리고, max-attempts번 실패했으면 보류
+    private void recordFailure(Long id, RuntimeException cause) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<NotificationOutbox> event = notificationOutboxRepository.findById(id);
+            if (event.isEmpty()) {
+                return;
+            }
+            if (event.get().recordFailure(cause.getMessage(), LocalDateTime.now(), maxAttempts)) {
+                log.error("알림 발송 보류 - 이벤트 ID: {}, 시도: {}회, 사유: {}", id, maxAttempts, cause.getMessage());
+            } else {
+                log.warn("알림 발송 실패 - 이벤트 ID: {}, 시도: {}회, 다음 시도: {}, 사유: {}", id,
+                        event.get().getAttempts(), event.get().getNextAttemptAt(), cause.getMessage());
+            }
+        });
+    }
+
+    // 이벤트들의 받는 사람별 알림을 저장하고 이벤트를 삭제 (호출한 트랜잭션 안에서 실행)
+    private void dispatchEvents(List<NotificationOutbox> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Long> eventIds = events.stream().map(NotificationOutbox::getId).toList();
+        Map<Long, List<Long>> receiverIds = notificationOutboxReceiverRepository.findReceiverIds(eventIds);
+        List<PendingNotification> pending = events.stream()
+                .flatMap(event -> receiverIds.getOrDefault(event.getId(), List.of()).stream()
+                        .map(receiverId -> new PendingNotification(receiverId, event)))
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        if (!pending.isEmpty()) {
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_NOTIFICATION, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setInsertValues(ps, pending.get(i), now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return pending.size();
+                        }
+                    }, keyHolder);
+        }
+
+        notificationOutboxReceiverRepository.deleteByOutboxIds(eventIds);
+        notificationOutboxRepository.deleteAllInBatch(events);
+        publish(pending, keyHolder.getKeyList(), now);
+
+        log.debug("알림 발송 - 이벤트: {}건, 알림: {}건", events.size(), pending.size());
+    }
+
+    private static void setInsertValues(PreparedStatement ps, PendingNotification notification, LocalDateTime now)
+            throws SQLException {
+        NotificationOutbox event = notification.event();
+        Timestamp time = Timestamp.valueOf(now);
+        ps.setLong(1, notification.receiverId());
+        ps.setObject(2, event.getSenderId(), Types.BIGINT);
+        ps.setString(3, event.getType().name());
+        ps.setString(4, event.getType().getDefaultTitle());
+        ps.setString(5, event.getMessage());
+        ps.setString(6, event.getBookTitle());
+        ps.setString(7, event.getBookImageUrl());
+        ps.setObject(8, event.getRelatedId(), Types.BIGINT);
+        ps.setBoolean(9, false);
+        ps.setTimestamp(10, time);
+        ps.setTimestamp(11, time);
+    }
+
+    // 알림 스트림에 연결된 받는 사람에게만 전달 (커밋 이후 전송)
+    private void publish(List<PendingNotification> pending, List<Map<String, Object>> keys, LocalDateTime now) {
+        if (keys.size() != pending.size()) {
+            // 드라이버가 생성된 ID를 돌려주지 않으면 다음 재연결 때 받도록 둠
+            log.debug("생성된 알림 ID를 받지 못해 실시간 전달 생략 - {}건", pending.size());
+            return;
+        }
+
+        List<Integer> connected = IntStream.range(0, pending.size())
+                .filter(i -> notificationEmitterRegistry.isConnected(pending.get(i).receiverId()))
+                .boxed()
+                .toList();
+        if (connected.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> senderNicknames = userNicknameResolver.resolve(connected.stream()
+                .map(i -> pending.get(i).event().getSenderId())
+                .filter(Objects::nonNull)
+                .toList());
+
+        for (int i : connected) {
+            PendingNotification notification = pending.get(i);
+            NotificationOutbox event = notification.event();
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+
+            NotificationSummaryDto summary = new NotificationSummaryDto(id, event.getType(), event.getType().getDefaultTitle(),
+                    event.getMessage(), event.getBookTitle(), event.getBookImageUrl(), event.getRelatedId(), false, now,
+                    event.getSenderId(), event.getSenderId() != null ? senderNicknames.get(event.getSenderId()) : null);
+            notificationEmitterRegistry.publish(notification.receiverId(), NotificationResponseDto.from(summary));
+            notificationEmitterRegistry.publishUnreadDelta(notification.receiverId(), 1);
+        }
+    }
+
+    private record PendingNotification(Long receiverId, NotificationOutbox event) {
+    }
+}
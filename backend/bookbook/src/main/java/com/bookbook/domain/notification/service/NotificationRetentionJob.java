@@ -0,0 +1,104 @@
+package com.bookbook.domain.notification.service;
+
+import com.bookbook.domain.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 알림 보관 정리 작업
+ *
+ * <p>알림 테이블이 계속 커지지 않도록 매일 한 번 다음 알림을 삭제합니다.
+ * <ul>
+ *   <li>읽은 지 오래된 알림: 보관 기간(retention-days)보다 먼저 생성된 읽은 알림</li>
+ *   <li>중복 알림: 같은 받는 사람/타입/관련 데이터/발송자의 더 최근 알림이 있는 읽은 알림 (가장 최근 알림만 남김)</li>
+ * </ul>
+ * 읽지 않은 알림은 삭제하지 않으므로 읽지 않은 알림 수는 바뀌지 않습니다.
+ * 잠금이 길어지지 않도록 batch-size건씩 ID를 조회하여 각각 한 트랜잭션에서 삭제하며,
+ * 다음 배치는 마지막으로 조회한 ID 이후부터 조회하여(키셋) 이미 확인한 행을 다시 읽지 않습니다.
+ * 실행마다 처리한 건수를 로그로 남깁니다.
+ * 도서 카탈로그 갱신(매일 4시 30분)과 겹치지 않도록 기본 실행 시각은 매일 3시 30분입니다.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionDays;
+    private final int batchSize;
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${notification.retention.retention-days:90}") long retentionDays,
+                                    @Value("${notification.retention.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 오래된 알림과 중복 알림을 정리합니다.
+     *
+     * @return 이번 실행에서 삭제한 알림 수
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public RetentionResult run() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        int expired = 0;
+        int collapsed = 0;
+        try {
+            expired = deleteInBatches((lastId, limit) -> notificationRepository.findReadIdsCreatedBefore(cutoff, lastId, limit));
+            collapsed = deleteInBatches(notificationRepository::findSupersededReadIds);
+        } catch (RuntimeException e) {
+            log.warn("알림 보관 정리 실패 - 다음 실행에 이어서 정리: {}", e.getMessage());
+        }
+
+        RetentionResult result = new RetentionResult(expired, collapsed, System.currentTimeMillis() - startedAt);
+        log.info("알림 보관 정리 완료 - 기간 만료: {}건, 중복: {}건, 소요: {}ms",
+                result.expired(), result.collapsed(), result.elapsedMs());
+        return result;
+    }
+
+    // 조회 결과가 없을 때까지 batch-size건씩 (마지막 ID 이후, ID 순) 삭제하고 삭제한 건수를 반환
+    private int deleteInBatches(BiFunction<Long, Pageable, List<Long>> findIds) {
+        Pageable limit = PageRequest.of(0, batchSize);
+        long lastId = 0L;
+        int deleted = 0;
+        while (true) {
+            long after = lastId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> found = findIds.apply(after, limit);
+                notificationRepository.deleteAllByIdInBatch(found);
+                return found;
+            });
+            if (ids == null || ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * 알림 보관 정리 결과
+     *
+     * @param expired 보관 기간이 지나 삭제한 읽은 알림 수
+     * @param collapsed 더 최근 알림이 있어 삭제한 중복 알림 수
+     * @param elapsedMs 소요 시간
+     */
+    public record RetentionResult(int expired, int collapsed, long elapsedMs) {
+    }
+}
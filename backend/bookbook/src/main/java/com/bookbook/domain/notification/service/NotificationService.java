@@ -1,9 +1,14 @@
 package com.bookbook.domain.notification.service;
 //08-06 유효상
 import com.bookbook.domain.notification.dto.NotificationResponseDto;
+import com.bookbook.domain.notification.dto.NotificationSummaryDto;
 import com.bookbook.domain.notification.entity.Notification;
+import com.bookbook.domain.notification.entity.NotificationOutbox;
 import com.bookbook.domain.notification.enums.NotificationType;
+import com.bookbook.domain.notification.repository.NotificationOutboxReceiverRepository;
+import com.bookbook.domain.notification.repository.NotificationOutboxRepository;
 import com.bookbook.domain.notification.repository.NotificationRepository;
+import com.bookbook.domain.notification.sse.NotificationEmitterRegistry;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
 import com.bookbook.domain.rent.repository.RentRepository;
@@ -11,11 +16,17 @@ import com.bookbook.domain.rentList.entity.RentList;
 import com.bookbook.domain.rentList.entity.RentRequestStatus;
 import com.bookbook.domain.rentList.repository.RentListRepository;
 import com.bookbook.domain.user.entity.User;
+import com.bookbook.global.util.CursorResponse;
+import com.bookbook.global.util.CursorToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,20 +36,46 @@ import java.util.Map;
 @Slf4j
 public class NotificationService {
 
+    private static final int MAX_REPLAY = 100; // 재연결 시 다시 보내는 최대 알림 수
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxReceiverRepository notificationOutboxReceiverRepository;
     private final RentListRepository rentListRepository;
     private final RentRepository rentRepository;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
 
     // 사용자별 알림 조회
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getNotificationsByUser(User user) {
-        List<Notification> notifications = notificationRepository.findByReceiverOrderByCreateAtDesc(user);
+        List<NotificationSummaryDto> notifications = notificationRepository.findSummariesByReceiverId(user.getId(), Pageable.unpaged());
 
         return notifications.stream()
                 .map(NotificationResponseDto::from)
                 .toList();
     }
 
+    /**
+     * 사용자의 알림을 최신순으로 커서 기반 조회합니다.
+     * 전체 개수를 세지 않고 한 건 더 조회하여 다음 페이지 여부를 판단하므로, 알림이 많이 쌓여도 조회 비용이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationResponseDto> getNotificationsByCursor(Long userId, String cursor, int size) {
+        CursorToken after = CursorToken.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<NotificationSummaryDto> rows = after == null
+                ? notificationRepository.findSummariesByReceiverId(userId, limit)
+                : notificationRepository.findSummariesAfter(userId, after.time(), (long) after.id(), limit);
+
+        return CursorResponse.of(rows, size,
+                notification -> new CursorToken(notification.createAt(), Math.toIntExact(notification.id())),
+                NotificationResponseDto::from);
+    }
+
     // 읽지 않은 알림 개수
     @Transactional(readOnly = true)
     public long getUnreadCount(User user) {
@@ -56,6 +93,9 @@ public class NotificationService {
             throw new RuntimeException("다른 사용자의 알림에 접근할 수 없습니다.");
         }
 
+        if (!notification.getIsRead()) {
+            notificationEmitterRegistry.publishUnreadDelta(user.getId(), -1);
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
     }
@@ -63,7 +103,8 @@ public class NotificationService {
     // 모든 알림 읽음 처리
     @Transactional
     public void markAllAsRead(User user) {
-        notificationRepository.markAllAsReadByReceiver(user);
+        int updated = notificationRepository.markAllAsReadByReceiver(user);
+        notificationEmitterRegistry.publishUnreadDelta(user.getId(), -updated);
     }
 
     // 새 알림 생성 (다른 서비스에서 호출용)
@@ -74,7 +115,68 @@ public class NotificationService {
                 receiver, sender, type, message, bookTitle, bookImageUrl, relatedId
         );
 
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+
+        // 알림 스트림에 연결된 사용자에게 커밋 후 바로 전달
+        notificationEmitterRegistry.publish(receiver.getId(), NotificationResponseDto.from(saved));
+        notificationEmitterRegistry.publishUnreadDelta(receiver.getId(), 1);
+        return saved;
+    }
+
+    /**
+     * 여러 사용자에게 같은 알림을 보내도록 발송 대기 이벤트로 기록합니다.
+     * 알림 내용은 한 행만 저장하고 받는 사람은 JDBC 배치로 한 명당 한 행씩 저장하며, 호출한 트랜잭션과 함께 커밋되고,
+     * 실제 알림은 {@link NotificationOutboxDispatcher}가 커밋 이후에 모아서 생성합니다.
+     *
+     * @param receiverIds 받는 사람 ID 목록 (비어 있으면 기록하지 않음)
+     * @param sender 알림을 발생시킨 사용자 (시스템 알림이면 null)
+     */
+    @Transactional
+    public void enqueueNotification(Collection<Long> receiverIds, User sender, NotificationType type,
+                                    String message, String bookTitle, String bookImageUrl, Long relatedId) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        if (type == null) {
+            throw new RuntimeException("알림 타입이 필요합니다.");
+        }
+
+        NotificationOutbox event = notificationOutboxRepository.save(new NotificationOutbox(
+                sender != null ? sender.getId() : null, type, message, bookTitle, bookImageUrl, relatedId
+        ));
+        notificationOutboxReceiverRepository.insertAll(event.getId(), receiverIds);
+    }
+
+    /**
+     * 사용자의 알림 스트림을 엽니다.
+     * 재연결이면 Last-Event-ID 이후에 생긴 알림을 먼저 보내고, 이어서 현재 읽지 않은 알림 수를 보냅니다.
+     *
+     * @param userId 사용자 ID
+     * @param lastEventId 마지막으로 받은 알림 ID (첫 연결이면 null)
+     * @return 알림 스트림
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = notificationEmitterRegistry.register(userId);
+
+        if (lastEventId != null) {
+            List<NotificationSummaryDto> missed = notificationRepository
+                    .findSummariesSince(userId, lastEventId, PageRequest.of(0, MAX_REPLAY));
+            for (NotificationSummaryDto notification : missed) {
+                boolean sent = notificationEmitterRegistry.send(userId, emitter, SseEmitter.event()
+                        .id(String.valueOf(notification.id()))
+                        .name(NotificationEmitterRegistry.NOTIFICATION_EVENT)
+                        .data(NotificationResponseDto.from(notification)));
+                if (!sent) {
+                    return emitter;
+                }
+            }
+        }
+
+        notificationEmitterRegistry.send(userId, emitter, SseEmitter.event()
+                .name(NotificationEmitterRegistry.UNREAD_COUNT_EVENT)
+                .data(notificationRepository.countByReceiver_IdAndIsReadFalse(userId)));
+        return emitter;
     }
 
     // 알림 삭제
@@ -88,6 +190,9 @@ public class NotificationService {
             throw new RuntimeException("다른 사용자의 알림을 삭제할 수 없습니다.");
         }
 
+        if (!notification.getIsRead()) {
+            notificationEmitterRegistry.publishUnreadDelta(user.getId(), -1);
+        }
         notificationRepository.delete(notification);
     }
     
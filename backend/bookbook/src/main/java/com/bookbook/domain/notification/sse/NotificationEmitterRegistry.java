@@ -0,0 +1,215 @@
+package com.bookbook.domain.notification.sse;
+
+import com.bookbook.domain.notification.dto.NotificationResponseDto;
+import com.bookbook.global.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 알림 SSE 연결 레지스트리
+ *
+ * <p>이 서버에 연결된 알림 스트림({@link SseEmitter})을 사용자별로 기억해 두고,
+ * 새 알림과 읽지 않은 알림 수의 변화를 해당 사용자의 모든 연결(여러 탭)로 보냅니다.
+ * <ul>
+ *   <li>{@value #NOTIFICATION_EVENT}: 새 알림 (이벤트 ID는 알림 ID이며, 재연결 시 Last-Event-ID로 이어 받음)</li>
+ *   <li>{@value #UNREAD_COUNT_EVENT}: 연결 직후 읽지 않은 알림 수</li>
+ *   <li>{@value #UNREAD_DELTA_EVENT}: 읽지 않은 알림 수의 변화량 (+1, -1, 모두 읽음 처리 시 -N)</li>
+ *   <li>{@value #CHAT_UNREAD_COUNT_EVENT}: 읽지 않은 채팅 메시지 수 (채팅 연결이 모두 끊어질 때 다시 맞춤)</li>
+ *   <li>{@value #CHAT_UNREAD_DELTA_EVENT}: 읽지 않은 채팅 메시지 수의 변화량 (새 메시지마다 +1)</li>
+ * </ul>
+ * 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보내며, 보내기에 실패한 연결은 바로 제거합니다.
+ *
+ * <p>새 알림, 변화량, 주석 이벤트는 전용 전송 스레드(send-threads)에서 보내므로, 응답이 느린 연결이
+ * 알림 발송기나 스케줄러 스레드를 붙잡지 않습니다. 전송 대기열(send-queue-capacity)이 가득 차면 이벤트를 버리며,
+ * 버린 알림은 다음 재연결 때 Last-Event-ID로 이어 받습니다.
+ * 사용자당 연결은 max-emitters-per-user개까지 유지하고, 넘으면 가장 오래된 연결을 닫습니다.
+ *
+ * <p>서버별 레지스트리이므로 다른 서버에 연결된 사용자에게는 전달되지 않으며, 다음 재연결 때 이어 받습니다.
+ */
+@Slf4j
+@Component
+public class NotificationEmitterRegistry {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+    public static final String UNREAD_DELTA_EVENT = "unread-delta";
+    public static final String CHAT_UNREAD_COUNT_EVENT = "chat-unread-count";
+    public static final String CHAT_UNREAD_DELTA_EVENT = "chat-unread-delta";
+
+    private final long timeoutMs;
+    private final int maxEmittersPerUser;
+    private final ThreadPoolExecutor sendExecutor;
+
+    // 사용자 ID -> 연결 목록 (등록 순)
+    private final Map<Long, Deque<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    public NotificationEmitterRegistry(@Value("${notification.sse.timeout-ms:1800000}") long timeoutMs,
+                                       @Value("${notification.sse.max-emitters-per-user:5}") int maxEmittersPerUser,
+                                       @Value("${notification.sse.send-threads:4}") int sendThreads,
+                                       @Value("${notification.sse.send-queue-capacity:10000}") int sendQueueCapacity) {
+        this.timeoutMs = timeoutMs;
+        this.maxEmittersPerUser = maxEmittersPerUser;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-sse-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> log.warn("알림 스트림 전송 대기열 초과 - 이벤트를 버림 (재연결 시 이어 받음)"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 사용자의 새 알림 스트림을 등록합니다. 연결이 끝나거나 시간이 초과되면 자동으로 제거됩니다.
+     * 사용자의 연결이 max-emitters-per-user개를 넘으면 가장 오래된 연결을 닫습니다.
+     */
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUser.compute(userId, (id, emitters) -> {
+            if (emitters == null) {
+                emitters = new ConcurrentLinkedDeque<>();
+            }
+            emitters.addLast(emitter);
+            while (emitters.size() > maxEmittersPerUser) {
+                evicted.add(emitters.pollFirst());
+            }
+            return emitters;
+        });
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        // 닫힌 연결의 브라우저는 다시 연결하지 않도록 완료 처리 (compute 밖에서 호출해야 onCompletion의 remove와 겹치지 않음)
+        evicted.forEach(SseEmitter::complete);
+        if (!evicted.isEmpty()) {
+            log.debug("알림 스트림 연결 수 초과로 오래된 연결 종료 - userId: {}, {}개", userId, evicted.size());
+        }
+        return emitter;
+    }
+
+    // 새 연결 생성 (테스트에서 전송된 이벤트를 기록하는 연결로 바꿀 수 있도록 분리)
+    protected SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    /**
+     * 새 알림을 사용자에게 보냅니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 보내, 롤백된 알림이 전달되지 않도록 합니다.
+     */
+    public void publish(Long userId, NotificationResponseDto notification) {
+        AfterCommit.run(() -> sendAsync(userId, () -> SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(NOTIFICATION_EVENT)
+                .data(notification)));
+    }
+
+    /**
+     * 읽지 않은 알림 수의 변화량을 사용자에게 보냅니다. (커밋 이후 전송)
+     */
+    public void publishUnreadDelta(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> sendAsync(userId, () -> SseEmitter.event()
+                .name(UNREAD_DELTA_EVENT)
+                .data(delta)));
+    }
+
+    /**
+     * 읽지 않은 채팅 메시지 수를 사용자에게 보냅니다.
+     */
+    public void publishChatUnreadCount(Long userId, long count) {
+        sendAsync(userId, () -> SseEmitter.event()
+                .name(CHAT_UNREAD_COUNT_EVENT)
+                .data(count));
+    }
+
+    /**
+     * 읽지 않은 채팅 메시지 수의 변화량을 사용자에게 보냅니다.
+     */
+    public void publishChatUnreadDelta(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        sendAsync(userId, () -> SseEmitter.event()
+                .name(CHAT_UNREAD_DELTA_EVENT)
+                .data(delta));
+    }
+
+    /**
+     * 특정 연결 하나에 이벤트를 보냅니다. (연결 직후 놓친 알림과 현재 상태 전송용)
+     *
+     * @return 전송 성공 여부 (실패한 연결은 제거됨)
+     */
+    public boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("알림 스트림 전송 실패 - userId: {}, {}", userId, e.getMessage());
+            remove(userId, emitter);
+            return false;
+        }
+    }
+
+    /**
+     * 사용자가 이 서버의 알림 스트림에 연결되어 있는지 확인합니다.
+     */
+    public boolean isConnected(Long userId) {
+        return emittersByUser.containsKey(userId);
+    }
+
+    /**
+     * 이 서버에 연결된 알림 스트림 수를 반환합니다.
+     */
+    public int emitterCount() {
+        return emittersByUser.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * 유휴 연결이 끊기지 않도록 모든 연결에 주석 이벤트를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emittersByUser.keySet().forEach(userId -> sendAsync(userId, () -> SseEmitter.event().comment("ping")));
+    }
+
+    // 사용자의 모든 연결에 전송 스레드에서 이벤트를 보냄 (연결마다 이벤트를 새로 만들어 보냄)
+    private void sendAsync(Long userId, Supplier<SseEmitter.SseEventBuilder> event) {
+        if (!emittersByUser.containsKey(userId)) {
+            return;
+        }
+        sendExecutor.execute(() -> {
+            Deque<SseEmitter> emitters = emittersByUser.get(userId);
+            if (emitters != null) {
+                emitters.forEach(emitter -> send(userId, emitter, event.get()));
+            }
+        });
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -2,16 +2,21 @@ package com.bookbook.domain.rent.controller;
 
 import com.bookbook.domain.rent.dto.BookSearchResponseDto;
 import com.bookbook.domain.rent.service.BookSearchService;
+import com.bookbook.global.exception.ServiceException;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 책 검색 및 이미지 업로드 API 컨트롤러
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/bookbook")
 @RequiredArgsConstructor
@@ -19,23 +24,38 @@ public class BookSearchController {
 
     private final BookSearchService bookSearchService;
 
+    // 알라딘 응답을 기다리는 동안 요청 스레드를 반환하도록 비동기로 처리
     @GetMapping("/searchbook")
     @Operation(summary = "알라딘 API를 이용한 책 검색")
-    public ResponseEntity<List<BookSearchResponseDto>> searchBooks(
+    public CompletableFuture<ResponseEntity<List<BookSearchResponseDto>>> searchBooks(
             @RequestParam String query,
             @RequestParam(defaultValue = "1") int start
     ){
-        try{
-            List<BookSearchResponseDto> searchResults = bookSearchService.searchBooks(query, start);
-            if(searchResults.isEmpty()){
-                return ResponseEntity.noContent().build();
-            }
-            return ResponseEntity.ok(searchResults);
-
-        } catch (Exception e){
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(null);
-        }
+        return bookSearchService.searchBooksAsync(query, start)
+                .thenApply(searchResults -> {
+                    if(searchResults.isEmpty()){
+                        return ResponseEntity.noContent().<List<BookSearchResponseDto>>build();
+                    }
+                    return ResponseEntity.ok(searchResults);
+                })
+                .exceptionally(e -> {
+                    // 알라딘 호출 실패(ServiceException: 502/503/504)는 전역 예외 처리기가 해당 상태 코드로 응답
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (!(cause instanceof ServiceException)) {
+                        log.error("책 검색 실패 - query: {}", query, cause);
+                    }
+                    if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    // 로컬 카탈로그를 먼저 조회하고, 없으면 알라딘에서 받아와 저장
+    @GetMapping("/searchbook/isbn/{isbn}")
+    @Operation(summary = "ISBN으로 책 정보 조회")
+    public ResponseEntity<BookSearchResponseDto> getBookByIsbn(@PathVariable String isbn) {
+        return ResponseEntity.ok(bookSearchService.findByIsbn(isbn));
     }
 
 
@@ -18,4 +18,5 @@ public class BookSearchResponseDto {
     private String category;        // 카테고리 (Aladin API 'categoryName' 파싱)
     private String bookDescription; // 책 설명 (Aladin API 'description' 매핑)
     private String coverImageUrl;   // 책 표지 이미지 URL (Aladin API 'cover' 매핑)
+    private String isbn;            // ISBN13 (Aladin API 'isbn13' 매핑, 없으면 'isbn')
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public record RentRequestDto(
 
         @Size(max = 500, message = "내용은 500자를 초과할 수 없습니다.")
         @NotBlank(message = "책 설명을 입력해주세요.")
-        String description
+        String description,
+
+        String isbn // 알라딘 검색 결과의 ISBN13 (선택사항, 있으면 카탈로그에 연결하고 카탈로그와 같은 설명은 저장하지 않음)
 ) {
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ public record RentResponseDto(
         String publisher,
         String category, // 책 카테고리
         String description, // 책 설명
+        String isbn, // 도서 카탈로그 ISBN13 (카탈로그에 연결되지 않은 게시글은 null)
         LocalDateTime createdDate,
         LocalDateTime modifiedDate,
 
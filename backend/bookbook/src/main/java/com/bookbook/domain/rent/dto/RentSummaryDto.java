@@ -0,0 +1,24 @@
+package com.bookbook.domain.rent.dto;
+
+import com.bookbook.domain.rent.entity.RentStatus;
+
+import java.time.LocalDateTime;
+
+// 대여 가능한 책 목록 조회용 프로젝션 (책 설명 등 목록에 필요 없는 컬럼은 조회하지 않음)
+public record RentSummaryDto(
+        Integer id,
+        Long lenderUserId,
+        String title,
+        String bookCondition,
+        String bookImage,
+        String address,
+        String contents,
+        RentStatus rentStatus,
+        String bookTitle,
+        String author,
+        String publisher,
+        String category,
+        LocalDateTime createdDate,
+        LocalDateTime modifiedDate
+) {
+}
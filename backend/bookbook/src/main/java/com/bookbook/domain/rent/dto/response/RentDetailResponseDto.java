@@ -25,7 +25,7 @@ public record RentDetailResponseDto (
     LocalDateTime createdDate,
     LocalDateTime modifiedDate
 ) {
-    public static RentDetailResponseDto from(Rent rent) {
+    public static RentDetailResponseDto from(Rent rent, String description) {
         return RentDetailResponseDto.builder()
                 .id(rent.getId())
                 .lenderUserId(rent.getLenderUserId())
@@ -39,7 +39,7 @@ public record RentDetailResponseDto (
                 .author(rent.getAuthor())
                 .publisher(rent.getPublisher())
                 .category(rent.getCategory())
-                .description(rent.getDescription())
+                .description(description)
                 .createdDate(rent.getCreatedDate())
                 .modifiedDate(rent.getModifiedDate())
                 .build();
@@ -1,10 +1,17 @@
 package com.bookbook.domain.rent.entity;
 import com.bookbook.global.jpa.entity.BaseEntity;
+import com.bookbook.global.region.RegionCode;
 import jakarta.persistence.*;
 import lombok.*;
 
 // 25.08.04 현준
 @Entity
+@Table(indexes = {
+        // 대여 가능한 책 목록 조회 (상태 + 지역 코드 + 카테고리 일치 조건, 최신순 정렬)
+        @Index(name = "idx_rent_status_sido_sigungu_category_id", columnList = "rent_status, sido_code, sigungu, category, id"),
+        // 내가 등록한 도서 목록 커서 조회 (작성자별 등록일, ID 역순)
+        @Index(name = "idx_rent_lender_created_id", columnList = "lender_user_id, created_date, id")
+})
 @Getter
 @Setter
 @Builder
@@ -17,6 +24,12 @@ public class Rent extends BaseEntity {
     private String bookCondition; // 책 상태
     private String bookImage; // 글쓴이가 올린 책 이미지 URL
     private String address; // 사용자 주소
+
+    // 주소에서 추출한 지역 코드 (저장 시 address로부터 자동 계산, 지역 조건 조회용)
+    @Column(length = 20)
+    private String sidoCode; // 시/도 코드 (예: seoul)
+    @Column(length = 20)
+    private String sigungu; // 시/군/구 (예: 강남구)
     private String contents; // 대여 내용
 
     @Enumerated(EnumType.STRING) // enum 이름을 String으로 DB에 저장하도록 지정
@@ -27,5 +40,18 @@ public class Rent extends BaseEntity {
     private String author; // 책 저자
     private String publisher; // 책 출판사
     private String category; // 책 카테고리
-    private String description; // 책 설명
+
+    @Column(length = 13)
+    private String isbn; // 도서 카탈로그(book_catalog) ISBN13
+
+    private String description; // 책 설명 (카탈로그 설명과 다르게 입력한 경우만 저장, 같으면 null)
+
+    // 저장/수정 시 주소로부터 지역 코드 계산
+    @PrePersist
+    @PreUpdate
+    public void applyRegionCode() {
+        RegionCode regionCode = RegionCode.parse(address);
+        this.sidoCode = regionCode != null ? regionCode.sido() : null;
+        this.sigungu = regionCode != null ? regionCode.sigungu() : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bookbook.domain.rent.event;
+
+import com.bookbook.domain.rent.entity.Rent;
+
+/**
+ * 대여 게시글 변경 이벤트
+ * 게시글이 등록되거나 내용/상태가 바뀔 때 발행되며, 검색 색인과 메인페이지 스냅샷, 지역 레지스트리가
+ * 트랜잭션 커밋 이후에 받아 게시글의 최종 상태를 반영합니다.
+ *
+ * @param rent 변경된 대여 게시글
+ */
+public record RentChangedEvent(
+        Rent rent
+) {
+}
@@ -0,0 +1,147 @@
+package com.bookbook.domain.rent.repository;
+
+import com.bookbook.domain.rent.dto.RentSummaryDto;
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대여 가능한 책 목록 조회용 동적 쿼리 Repository
+ *
+ * <p>지역/카테고리/검색 결과 ID 조건을 조합하여 요청마다 하나의 SELECT 문을 만듭니다.
+ * 엔티티 대신 {@link RentSummaryDto} 프로젝션을 조회하고,
+ * 전체 개수가 필요 없는 요청은 COUNT 쿼리 없이 {@link Slice}로 반환합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RentQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 대여 가능한 게시글을 전체 개수와 함께 조회합니다.
+     */
+    public Page<RentSummaryDto> findAvailablePage(RentSearchCondition condition, Pageable pageable) {
+        List<RentSummaryDto> content = fetch(condition, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, count(condition));
+    }
+
+    /**
+     * 조건에 맞는 대여 가능한 게시글을 COUNT 쿼리 없이 조회합니다.
+     * 다음 페이지 존재 여부는 한 건을 더 조회하여 판단합니다.
+     */
+    public Slice<RentSummaryDto> findAvailableSlice(RentSearchCondition condition, Pageable pageable) {
+        List<RentSummaryDto> content = new ArrayList<>(
+                fetch(condition, (int) pageable.getOffset(), pageable.getPageSize() + 1));
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 조건에 맞는 대여 가능한 게시글을 최신순으로 최대 limit건 조회합니다. (커서 페이지네이션용)
+     */
+    public List<RentSummaryDto> findAvailable(RentSearchCondition condition, int limit) {
+        return fetch(condition, 0, limit);
+    }
+
+    /**
+     * 검색 색인에서 찾은 게시글 ID에 해당하는 대여 가능한 게시글을 조회합니다.
+     * 결과는 전달받은 ID 순서(색인의 정렬 순서)를 그대로 따릅니다.
+     */
+    public List<RentSummaryDto> findAvailableByIds(List<Integer> rentIds) {
+        Map<Integer, RentSummaryDto> rentsById = fetch(new RentSearchCondition(null, null, rentIds, null), 0, rentIds.size())
+                .stream()
+                .collect(Collectors.toMap(RentSummaryDto::id, Function.identity()));
+
+        return rentIds.stream()
+                .map(rentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<RentSummaryDto> fetch(RentSearchCondition condition, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RentSummaryDto> query = cb.createQuery(RentSummaryDto.class);
+        Root<Rent> rent = query.from(Rent.class);
+
+        query.select(cb.construct(RentSummaryDto.class,
+                        rent.get("id"),
+                        rent.get("lenderUserId"),
+                        rent.get("title"),
+                        rent.get("bookCondition"),
+                        rent.get("bookImage"),
+                        rent.get("address"),
+                        rent.get("contents"),
+                        rent.get("rentStatus"),
+                        rent.get("bookTitle"),
+                        rent.get("author"),
+                        rent.get("publisher"),
+                        rent.get("category"),
+                        rent.get("createdDate"),
+                        rent.get("modifiedDate")))
+                .where(predicates(cb, rent, condition))
+                // id는 등록 순서대로 증가하므로 최신순 정렬을 인덱스 컬럼으로 처리
+                .orderBy(cb.desc(rent.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(RentSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Rent> rent = query.from(Rent.class);
+
+        query.select(cb.count(rent))
+                .where(predicates(cb, rent, condition));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Rent> rent, RentSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(rent.get("rentStatus"), RentStatus.AVAILABLE));
+
+        if (condition.region() != null) {
+            // 주소 LIKE 대신 저장 시 계산한 지역 코드의 일치 비교 (인덱스 탐색)
+            predicates.add(cb.equal(rent.get("sidoCode"), condition.region().sido()));
+            if (condition.region().sigungu() != null) {
+                predicates.add(cb.equal(rent.get("sigungu"), condition.region().sigungu()));
+            }
+        }
+        if (condition.category() != null) {
+            predicates.add(cb.equal(rent.get("category"), condition.category()));
+        }
+        if (condition.rentIds() != null) {
+            predicates.add(rent.get("id").in(condition.rentIds()));
+        }
+        if (condition.beforeId() != null) {
+            predicates.add(cb.lessThan(rent.get("id"), condition.beforeId()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
@@ -4,60 +4,47 @@ import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface RentRepository extends JpaRepository<Rent, Integer> { // findById의 반환 타입이 Optional<Rent> 이므로, .orElseThrow()로 예외처리
 
+    // 대여 신청 수락/반납/게시글 삭제용 조회 - 같은 게시글의 상태 변경을 한 번에 하나씩 처리
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rent r WHERE r.id = :id")
+    Optional<Rent> findByIdForUpdate(@Param("id") Integer id);
+
+    // 대여 신청 등록용 조회 - 신청끼리는 동시에 처리하되 수락/삭제 도중에는 대기
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT r FROM Rent r WHERE r.id = :id")
+    Optional<Rent> findByIdForShare(@Param("id") Integer id);
+
     // 대여자가 작성한 글 갯수 조회
     int countByLenderUserId(Long lenderUserId);
 
-    // 대여 가능한 책 목록 조회 (기본)
-    Page<Rent> findByRentStatus(RentStatus rentStatus, Pageable pageable);
-    
-    // 지역 필터링이 포함된 대여 가능한 책 목록 조회
-    Page<Rent> findByRentStatusAndAddressContaining(RentStatus rentStatus, String address, Pageable pageable);
-    
-    // 카테고리 필터링이 포함된 대여 가능한 책 목록 조회
-    Page<Rent> findByRentStatusAndCategoryContaining(RentStatus rentStatus, String category, Pageable pageable);
-    
-    // 검색어 필터링이 포함된 대여 가능한 책 목록 조회 (책 제목, 저자, 출판사에서 검색)
-    @Query("SELECT r FROM Rent r WHERE r.rentStatus = :rentStatus AND " +
-           "(r.bookTitle LIKE %:searchKeyword% OR r.author LIKE %:searchKeyword% OR r.publisher LIKE %:searchKeyword%)")
-    Page<Rent> findByRentStatusAndSearchKeyword(@Param("rentStatus") RentStatus rentStatus, 
-                                               @Param("searchKeyword") String searchKeyword, 
-                                               Pageable pageable);
-    
-    // 지역 + 카테고리 필터링
-    Page<Rent> findByRentStatusAndAddressContainingAndCategoryContaining(RentStatus rentStatus, String address, String category, Pageable pageable);
-    
-    // 지역 + 검색어 필터링
-    @Query("SELECT r FROM Rent r WHERE r.rentStatus = :rentStatus AND r.address LIKE %:address% AND " +
-           "(r.bookTitle LIKE %:searchKeyword% OR r.author LIKE %:searchKeyword% OR r.publisher LIKE %:searchKeyword%)")
-    Page<Rent> findByRentStatusAndAddressAndSearchKeyword(@Param("rentStatus") RentStatus rentStatus, 
-                                                         @Param("address") String address, 
-                                                         @Param("searchKeyword") String searchKeyword, 
-                                                         Pageable pageable);
-    
-    // 카테고리 + 검색어 필터링
-    @Query("SELECT r FROM Rent r WHERE r.rentStatus = :rentStatus AND r.category LIKE %:category% AND " +
-           "(r.bookTitle LIKE %:searchKeyword% OR r.author LIKE %:searchKeyword% OR r.publisher LIKE %:searchKeyword%)")
-    Page<Rent> findByRentStatusAndCategoryAndSearchKeyword(@Param("rentStatus") RentStatus rentStatus, 
-                                                          @Param("category") String category, 
-                                                          @Param("searchKeyword") String searchKeyword, 
-                                                          Pageable pageable);
-    
-    // 모든 필터링 조건 (지역 + 카테고리 + 검색어)
-    @Query("SELECT r FROM Rent r WHERE r.rentStatus = :rentStatus AND r.address LIKE %:address% AND r.category LIKE %:category% AND " +
-           "(r.bookTitle LIKE %:searchKeyword% OR r.author LIKE %:searchKeyword% OR r.publisher LIKE %:searchKeyword%)")
-    Page<Rent> findByRentStatusAndAddressAndCategoryAndSearchKeyword(@Param("rentStatus") RentStatus rentStatus, 
-                                                                    @Param("address") String address, 
-                                                                    @Param("category") String category, 
-                                                                    @Param("searchKeyword") String searchKeyword, 
-                                                                    Pageable pageable);
+    // 상태별 전체 게시글 조회 (검색 색인 생성용)
+    List<Rent> findAllByRentStatusNot(RentStatus rentStatus);
+
+    // 시/도 코드별 게시글 수 (지역 레지스트리 생성용, (rent_status, sido_code) 인덱스만으로 집계)
+    @Query("""
+        SELECT r.sidoCode, COUNT(r) FROM Rent r
+        WHERE r.rentStatus = :status AND r.sidoCode IS NOT NULL
+        GROUP BY r.sidoCode
+    """)
+    List<Object[]> countBySidoCode(@Param("status") RentStatus status);
+
+    // 게시글 ID와 시/도 코드만 조회 (지역 레지스트리 생성용, 엔티티를 읽지 않음)
+    @Query("""
+        SELECT r.id, r.sidoCode FROM Rent r
+        WHERE r.rentStatus = :status AND r.sidoCode IS NOT NULL
+    """)
+    List<Object[]> findIdAndSidoCode(@Param("status") RentStatus status);
 
     // 조건에 따른 게시글 내역 검색
     // 대여 내역 상태 or 대여 게시글 작성자
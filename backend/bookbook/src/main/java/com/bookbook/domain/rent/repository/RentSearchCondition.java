@@ -0,0 +1,21 @@
+package com.bookbook.domain.rent.repository;
+
+import com.bookbook.global.region.RegionCode;
+
+import java.util.List;
+
+/**
+ * 대여 가능한 책 목록 조회 조건
+ *
+ * @param region 지역 코드 (null이면 조건 없음, 시/군/구가 없으면 시/도만 비교)
+ * @param category 카테고리 (null이면 조건 없음)
+ * @param rentIds 검색 색인에서 찾은 게시글 ID 목록 (null이면 조건 없음)
+ * @param beforeId 커서 페이지네이션에서 이 ID보다 작은(이전에 등록된) 게시글만 조회 (null이면 조건 없음)
+ */
+public record RentSearchCondition(
+        RegionCode region,
+        String category,
+        List<Integer> rentIds,
+        Integer beforeId
+) {
+}
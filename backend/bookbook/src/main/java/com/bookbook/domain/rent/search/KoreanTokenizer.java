@@ -0,0 +1,161 @@
+package com.bookbook.domain.rent.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한글 도서 검색용 토크나이저
+ *
+ * <ul>
+ *   <li>정규화: 소문자 변환 + 공백 제거 ("해리 포터" → "해리포터")</li>
+ *   <li>n-gram: 한 글자(unigram), 두 글자(bigram) 토큰</li>
+ *   <li>초성 키: 한글 음절을 초성으로 바꾼 문자열 ("해리포터" → "ㅎㄹㅍㅌ")</li>
+ * </ul>
+ *
+ * <p>입력 중인 검색어처럼 마지막 글자가 초성뿐인 경우("해리ㅍ")도
+ * 다음 음절의 초성과 비교하여 일치 여부를 판단합니다.
+ */
+public final class KoreanTokenizer {
+
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28; // 중성 21개 * 종성 28개
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanTokenizer() {
+    }
+
+    /**
+     * 소문자로 바꾸고 모든 공백을 제거합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 한글 음절을 초성으로 바꿉니다. 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            sb.append(choseongOf(normalized.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인에 저장할 토큰 (원문과 초성 키의 unigram + bigram)
+     */
+    public static Set<String> indexTokens(String text) {
+        String normalized = normalize(text);
+        Set<String> tokens = new HashSet<>();
+        addNGrams(normalized, tokens);
+        addNGrams(choseong(normalized), tokens);
+        return tokens;
+    }
+
+    /**
+     * 검색어로 색인을 조회할 때 사용할 토큰
+     * 모든 토큰을 포함하는 게시글만 후보가 되며, 빈 목록이면 전체가 후보입니다.
+     */
+    public static List<String> queryTokens(String query) {
+        String normalized = normalize(query);
+        if (isPartialSyllableQuery(normalized)) {
+            // 마지막 초성은 다음 음절과 비교해야 하므로 토큰에서 제외
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+
+        List<String> tokens = new ArrayList<>();
+        if (normalized.length() == 1) {
+            tokens.add(normalized);
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    /**
+     * 정규화된 필드가 검색어와 일치하는지 확인합니다.
+     *
+     * @param normalized {@link #normalize(String)}로 정규화한 필드 값
+     * @param choseongKey {@link #choseong(String)}로 만든 필드의 초성 키
+     * @param normalizedQuery 정규화한 검색어
+     */
+    public static boolean matches(String normalized, String choseongKey, String normalizedQuery) {
+        if (normalizedQuery.isEmpty()) {
+            return true;
+        }
+        if (isChoseongOnly(normalizedQuery)) {
+            return choseongKey.contains(normalizedQuery);
+        }
+        if (isPartialSyllableQuery(normalizedQuery)) {
+            String prefix = normalizedQuery.substring(0, normalizedQuery.length() - 1);
+            char initial = normalizedQuery.charAt(normalizedQuery.length() - 1);
+
+            int from = normalized.indexOf(prefix);
+            while (from >= 0) {
+                int next = from + prefix.length();
+                if (next < normalized.length() && choseongOf(normalized.charAt(next)) == initial) {
+                    return true;
+                }
+                from = normalized.indexOf(prefix, from + 1);
+            }
+            return false;
+        }
+        return normalized.contains(normalizedQuery);
+    }
+
+    private static void addNGrams(String value, Set<String> tokens) {
+        for (int i = 0; i < value.length(); i++) {
+            tokens.add(value.substring(i, i + 1));
+            if (i + 2 <= value.length()) {
+                tokens.add(value.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static char choseongOf(char c) {
+        if (c < HANGUL_SYLLABLE_BEGIN || c > HANGUL_SYLLABLE_END) {
+            return c;
+        }
+        return CHOSEONG[(c - HANGUL_SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    private static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // "ㅎㄹㅍㅌ"처럼 초성으로만 이루어진 검색어
+    private static boolean isChoseongOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isChoseong(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // "해리ㅍ"처럼 마지막 글자만 초성인 검색어 (입력 중인 음절)
+    private static boolean isPartialSyllableQuery(String value) {
+        return value.length() >= 2
+                && isChoseong(value.charAt(value.length() - 1))
+                && !isChoseongOnly(value);
+    }
+}
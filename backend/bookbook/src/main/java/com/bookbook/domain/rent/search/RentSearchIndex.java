@@ -0,0 +1,305 @@
+package com.bookbook.domain.rent.search;
+
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
+import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.global.region.RegionCode;
+import com.bookbook.global.util.CursorToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 대여 게시글 검색용 인메모리 역색인
+ *
+ * <p>삭제되지 않은 게시글의 책 제목, 저자, 출판사, 글 제목을 {@link KoreanTokenizer}로 잘라
+ * 게시글 ID 목록에 매핑합니다. 검색어도 같은 방식으로 잘라 후보를 좁힌 뒤
+ * 원문(또는 초성 키)과 다시 비교하여 최종 결과를 만듭니다.
+ *
+ * <p>검색 결과는 요청한 페이지에 해당하는 게시글 ID(또는 게시글)만 ID 역순(최신순)으로 반환하며,
+ * 검색어가 없을 때의 목록 조회({@link com.bookbook.domain.rent.repository.RentQueryRepository})와 같은 순서를 사용합니다.
+ * 색인(게시글 정보와 토큰 목록)은 하나의 {@link Index}로 묶어 한 번에 교체하므로, 검색 중에 재생성이 끝나도
+ * 서로 다른 세대의 게시글 정보와 토큰 목록을 섞어 읽지 않습니다.
+ * 게시글이 등록/수정되거나 상태가 바뀌면 커밋 이후 {@link RentChangedEvent}를 받아 색인을 갱신하고,
+ * 놓친 변경이 있더라도 주기적인 {@link #reconcile()}에서 DB 기준으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RentSearchIndex {
+
+    private static final Comparator<IndexedRent> LATEST_FIRST = Comparator.comparing(IndexedRent::id, Comparator.reverseOrder());
+
+    private final RentRepository rentRepository;
+
+    // 현재 색인 (재생성 시 새 색인으로 교체)
+    private volatile Index index = Index.empty();
+
+    /**
+     * 애플리케이션 기동 시 색인을 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcile();
+    }
+
+    /**
+     * 삭제되지 않은 게시글 전체로 색인을 다시 만들어 교체합니다.
+     * 증분 반영 중 놓친 변경(직접 수정된 행, 커밋 후 반영 실패 등)을 바로잡기 위해 주기적으로 실행하며,
+     * 새 색인을 모두 만든 뒤 교체하므로 재생성 중에도 검색은 이전 색인으로 처리됩니다.
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public synchronized void reconcile() {
+        int before = index.documents().size();
+
+        Index rebuilt = Index.empty();
+        for (Rent rent : rentRepository.findAllByRentStatusNot(RentStatus.DELETED)) {
+            rebuilt.put(IndexedRent.from(rent));
+        }
+        index = rebuilt;
+
+        if (before != rebuilt.documents().size()) {
+            log.info("대여글 검색 색인 재생성 - 게시글: {}개 -> {}개, 토큰: {}개",
+                    before, rebuilt.documents().size(), rebuilt.postings().size());
+        }
+    }
+
+    /**
+     * 변경된 게시글의 현재 상태를 색인에 반영합니다. (커밋 이후 실행되므로 롤백된 변경은 반영되지 않음)
+     * 삭제된 게시글은 색인에서 제거하고, 그 외에는 색인에 추가(또는 갱신)합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentChanged(RentChangedEvent event) {
+        Rent rent = event.rent();
+        apply(rent.getId(), rent.getRentStatus() != RentStatus.DELETED ? IndexedRent.from(rent) : null);
+    }
+
+    /**
+     * 대여 가능한 게시글 중 검색어와 지역/카테고리 조건에 맞는 게시글 ID를 최신순으로 반환합니다.
+     *
+     * @param region 지역 코드 (null이면 조건 없음)
+     * @param category 카테고리 (null이면 조건 없음)
+     * @param keyword 검색어 (책 제목, 저자, 출판사에서 검색)
+     * @param pageable 페이지 정보
+     * @return 조건에 맞는 게시글 ID 페이지
+     */
+    public Page<Integer> search(RegionCode region, String category, String keyword, Pageable pageable) {
+        String query = KoreanTokenizer.normalize(keyword);
+
+        return matchIds(index, query, pageable, available(query, region, category));
+    }
+
+    /**
+     * {@link #search}의 커서 페이지네이션 버전입니다.
+     * 커서 위치의 게시글 ID보다 작은 게시글 ID를 최대 size + 1개까지 최신순으로 반환합니다.
+     *
+     * @param region 지역 코드 (null이면 조건 없음)
+     * @param category 카테고리 (null이면 조건 없음)
+     * @param keyword 검색어 (책 제목, 저자, 출판사에서 검색)
+     * @param cursor 마지막으로 반환한 게시글 위치 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 커서 이후의 게시글 ID 목록 (size보다 많으면 다음 페이지가 있음)
+     */
+    public List<Integer> searchAfter(RegionCode region, String category, String keyword, CursorToken cursor, int size) {
+        String query = KoreanTokenizer.normalize(keyword);
+        Index current = index;
+
+        return current.candidates(query).stream()
+                .map(current.documents()::get)
+                .filter(Objects::nonNull)
+                .filter(doc -> cursor == null || doc.id() < cursor.id())
+                .filter(available(query, region, category))
+                .sorted(LATEST_FIRST)
+                .limit(size + 1L)
+                .map(IndexedRent::id)
+                .toList();
+    }
+
+    /**
+     * 특정 사용자가 등록한 게시글 중 검색어에 맞는 게시글을 최신순으로 반환합니다.
+     *
+     * @param lenderUserId 게시글 작성자 ID
+     * @param keyword 검색어 (책 제목, 저자, 출판사, 게시글 제목에서 검색)
+     * @param pageable 페이지 정보
+     * @return 조건에 맞는 게시글 페이지
+     */
+    public Page<Rent> searchByLender(Long lenderUserId, String keyword, Pageable pageable) {
+        String query = KoreanTokenizer.normalize(keyword);
+
+        Page<Integer> idPage = matchIds(index, query, pageable, doc -> lenderUserId.equals(doc.lenderUserId())
+                && (doc.matchesBook(query) || doc.matchesPostTitle(query)));
+
+        return new PageImpl<>(load(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
+
+    // 대여 가능하고 검색어와 지역/카테고리 조건에 맞는 게시글
+    private static Predicate<IndexedRent> available(String query, RegionCode region, String category) {
+        return doc -> doc.rentStatus() == RentStatus.AVAILABLE
+                && doc.matchesBook(query)
+                && (region == null || region.contains(doc.region()))
+                && (category == null || category.equals(doc.category()));
+    }
+
+    private static Page<Integer> matchIds(Index index, String query, Pageable pageable, Predicate<IndexedRent> filter) {
+        List<IndexedRent> matches = index.candidates(query).stream()
+                .map(index.documents()::get)
+                .filter(Objects::nonNull)
+                .filter(filter)
+                .sorted(LATEST_FIRST)
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        List<Integer> pageIds = matches.subList(from, to).stream()
+                .map(IndexedRent::id)
+                .toList();
+
+        return new PageImpl<>(pageIds, pageable, matches.size());
+    }
+
+    // ID 순서를 유지한 채로 해당 페이지의 게시글만 조회
+    private List<Rent> load(List<Integer> ids) {
+        Map<Integer, Rent> rentsById = rentRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Rent::getId, Function.identity()));
+
+        return ids.stream()
+                .map(rentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private synchronized void apply(int rentId, IndexedRent snapshot) {
+        Index current = index;
+        current.remove(rentId);
+        if (snapshot != null) {
+            current.put(snapshot);
+        }
+    }
+
+    /**
+     * 색인 한 세대 (게시글 ID -> 색인된 게시글 정보, 토큰 -> 게시글 ID 목록)
+     * 재생성 시에는 새 세대를 만들어 참조를 교체하고, 게시글 단위의 변경은 현재 세대에 반영합니다.
+     */
+    private record Index(
+            Map<Integer, IndexedRent> documents,
+            Map<String, Set<Integer>> postings
+    ) {
+        static Index empty() {
+            return new Index(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        // 검색어의 모든 토큰을 포함하는 게시글 ID 후보 (작은 목록부터 교집합)
+        Collection<Integer> candidates(String query) {
+            List<String> tokens = KoreanTokenizer.queryTokens(query);
+            if (tokens.isEmpty()) {
+                return documents.keySet();
+            }
+
+            List<Set<Integer>> lists = new ArrayList<>();
+            for (String token : tokens) {
+                Set<Integer> ids = postings.get(token);
+                if (ids == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<Integer> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+
+        void put(IndexedRent doc) {
+            documents.put(doc.id(), doc);
+            for (String token : doc.tokens()) {
+                postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(doc.id());
+            }
+        }
+
+        void remove(int rentId) {
+            IndexedRent previous = documents.remove(rentId);
+            if (previous == null) {
+                return;
+            }
+            for (String token : previous.tokens()) {
+                Set<Integer> ids = postings.get(token);
+                if (ids != null) {
+                    ids.remove(rentId);
+                    if (ids.isEmpty()) {
+                        postings.remove(token, ids);
+                    }
+                }
+            }
+        }
+    }
+
+    // 정규화된 값과 초성 키를 함께 보관하는 검색 대상 필드
+    private record SearchField(String normalized, String choseongKey) {
+        static SearchField of(String value) {
+            String normalized = KoreanTokenizer.normalize(value);
+            return new SearchField(normalized, KoreanTokenizer.choseong(normalized));
+        }
+
+        boolean matches(String query) {
+            return KoreanTokenizer.matches(normalized, choseongKey, query);
+        }
+    }
+
+    // 색인에 저장되는 게시글 정보 (검색/정렬/필터에 필요한 값만 보관)
+    private record IndexedRent(
+            int id,
+            Long lenderUserId,
+            RentStatus rentStatus,
+            RegionCode region,
+            String category,
+            List<SearchField> bookFields,
+            SearchField postTitle,
+            Set<String> tokens
+    ) {
+        static IndexedRent from(Rent rent) {
+            List<SearchField> bookFields = new ArrayList<>();
+            Set<String> tokens = new HashSet<>();
+            for (String field : Arrays.asList(rent.getBookTitle(), rent.getAuthor(), rent.getPublisher())) {
+                if (field != null) {
+                    bookFields.add(SearchField.of(field));
+                    tokens.addAll(KoreanTokenizer.indexTokens(field));
+                }
+            }
+            if (rent.getTitle() != null) {
+                tokens.addAll(KoreanTokenizer.indexTokens(rent.getTitle()));
+            }
+
+            return new IndexedRent(rent.getId(), rent.getLenderUserId(), rent.getRentStatus(),
+                    RegionCode.parse(rent.getAddress()), rent.getCategory(),
+                    List.copyOf(bookFields), SearchField.of(rent.getTitle()), Set.copyOf(tokens));
+        }
+
+        boolean matchesBook(String query) {
+            return bookFields.stream().anyMatch(field -> field.matches(query));
+        }
+
+        boolean matchesPostTitle(String query) {
+            return postTitle.matches(query);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.bookbook.domain.rent.service;
+
+import com.bookbook.domain.rent.dto.BookSearchResponseDto;
+import com.bookbook.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알라딘 Open API 호출 클라이언트
+ *
+ * <ul>
+ *   <li>JDK HttpClient 하나를 공유하여 keep-alive 연결을 재사용</li>
+ *   <li>연결 제한 시간과, 호출 대기부터 응답 본문을 다 읽을 때까지의 전체 제한 시간을 두어 알라딘 응답이 느려도 요청이 무한정 묶이지 않도록 함</li>
+ *   <li>동시에 알라딘으로 나가는 요청 수를 제한</li>
+ *   <li>호출은 가상 스레드에서 수행하고 CompletableFuture로 반환하여 요청 스레드를 점유하지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AladinApiClient {
+
+    private final String ttbKey;
+    private final String baseUrl;
+    private final Duration readTimeout;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final HttpClient httpClient;
+
+    public AladinApiClient(@Value("${aladin.ttbkey}") String ttbKey,
+                           @Value("${aladin.base-url:http://www.aladin.co.kr}") String baseUrl,
+                           @Value("${aladin.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                           @Value("${aladin.client.read-timeout-ms:5000}") long readTimeoutMs,
+                           @Value("${aladin.client.max-concurrency:20}") int maxConcurrency) {
+        this.ttbKey = ttbKey;
+        this.baseUrl = baseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.permits = new Semaphore(maxConcurrency);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 알라딘 상품 검색 API(ItemSearch)를 호출하고 응답을 검색 결과 목록으로 변환합니다.
+     * 응답 본문은 문자열로 모으지 않고 스트림에서 바로 읽습니다.
+     *
+     * @param query 검색어
+     * @param start 검색 결과 시작 페이지
+     * @return 검색 결과 목록 (호출 실패 시 ServiceException으로 완료)
+     */
+    public CompletableFuture<List<BookSearchResponseDto>> searchItems(String query, int start) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl + "/ttb/api/ItemSearch.aspx")
+                .queryParam("ttbkey", ttbKey)
+                .queryParam("Query", query)
+                .queryParam("QueryType", "Title")
+                .queryParam("MaxResults", 10)
+                .queryParam("start", start)
+                .queryParam("SearchTarget", "Book")
+                .queryParam("Output", "JS")
+                .queryParam("Version", "20131101")
+                .encode()
+                .build()
+                .toUri();
+
+        return CompletableFuture.supplyAsync(() -> get(uri), executor);
+    }
+
+    /**
+     * 알라딘 상품 조회 API(ItemLookUp)로 ISBN13에 해당하는 책 정보를 조회합니다.
+     *
+     * @param isbn ISBN13
+     * @return 조회 결과 목록 (없으면 빈 목록, 호출 실패 시 ServiceException으로 완료)
+     */
+    public CompletableFuture<List<BookSearchResponseDto>> lookupItem(String isbn) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl + "/ttb/api/ItemLookUp.aspx")
+                .queryParam("ttbkey", ttbKey)
+                .queryParam("ItemIdType", "ISBN13")
+                .queryParam("ItemId", isbn)
+                .queryParam("Output", "JS")
+                .queryParam("Version", "20131101")
+                .encode()
+                .build()
+                .toUri();
+
+        return CompletableFuture.supplyAsync(() -> get(uri), executor);
+    }
+
+    // 동시 호출 수 제한 안에서 GET 요청 후 응답 변환 (가상 스레드에서 실행)
+    private List<BookSearchResponseDto> get(URI uri) {
+        long deadline = System.nanoTime() + readTimeout.toNanos();
+        try {
+            // 호출 가능 순서를 기다리는 시간도 응답 제한 시간을 넘지 않도록 함
+            if (!permits.tryAcquire(readTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("알라딘 API 동시 호출 한도 초과 - 대기 시간 만료");
+                throw new ServiceException("503-1", "도서 검색 요청이 많아 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("503-1", "도서 검색 요청이 취소되었습니다.");
+        }
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(readTimeout)
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            // HttpRequest.timeout은 응답 헤더를 받을 때까지만 제한하므로,
+            // 남은 시간 안에 본문을 다 읽지 못하면 읽고 있는 스레드를 인터럽트하여 읽기를 중단
+            CompletableFuture<Void> readDeadline = CompletableFuture.runAsync(Thread.currentThread()::interrupt,
+                    CompletableFuture.delayedExecutor(remainingMillis(deadline), TimeUnit.MILLISECONDS));
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    log.warn("알라딘 API 오류 응답 - status: {}", response.statusCode());
+                    throw new ServiceException("502-1", "알라딘 API 호출에 실패했습니다.");
+                }
+                return parse(body);
+            } finally {
+                readDeadline.cancel(false);
+            }
+        } catch (IOException e) {
+            log.warn("알라딘 API 호출 실패 - {}", e.getMessage());
+            throw new ServiceException("504-1", "알라딘 API 응답이 지연되고 있습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("503-1", "도서 검색 요청이 취소되었습니다.");
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 응답 형식 오류만 파싱 오류로 처리하고, 본문 읽기 실패(시간 초과 포함)는 IOException으로 그대로 전달
+    private static List<BookSearchResponseDto> parse(InputStream body) throws IOException {
+        try {
+            return AladinSearchResponseParser.parse(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("알라딘 API 응답 파싱 중 오류 발생: " + e.getMessage(), e);
+        }
+    }
+
+    private static long remainingMillis(long deadline) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
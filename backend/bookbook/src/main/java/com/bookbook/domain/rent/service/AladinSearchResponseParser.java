@@ -0,0 +1,119 @@
+package com.bookbook.domain.rent.service;
+
+import com.bookbook.domain.rent.dto.BookSearchResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 알라딘 상품 검색 API 응답 파서
+ *
+ * <p>응답 본문을 문자열이나 JsonNode 트리로 만들지 않고, 스트림에서 토큰을 읽으면서
+ * "item" 배열의 각 항목을 바로 {@link BookSearchResponseDto}로 변환합니다.
+ * 사용하지 않는 필드는 값을 만들지 않고 건너뜁니다.
+ */
+public final class AladinSearchResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 저자 정보에서 제거할 역할 표기: "(지은이)", "(옮긴이)", "(감수)"
+    private static final Pattern AUTHOR_ROLE = Pattern.compile("\\((?:지은이|옮긴이|감수)\\)");
+
+    private AladinSearchResponseParser() {
+    }
+
+    /**
+     * 응답 스트림을 읽어 검색 결과 목록으로 변환합니다.
+     *
+     * @param body 알라딘 API 응답 본문 (JSON)
+     * @return 검색 결과 목록 ("item" 배열이 없으면 빈 목록)
+     * @throws IOException 응답을 읽거나 해석할 수 없는 경우
+     */
+    public static List<BookSearchResponseDto> parse(InputStream body) throws IOException {
+        List<BookSearchResponseDto> books = new ArrayList<>();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return books;
+            }
+
+            // 최상위 필드 중 "item" 배열만 읽고 나머지는 건너뜀
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        books.add(readItem(parser));
+                    }
+                    // 필요한 데이터를 모두 읽었으므로 나머지 응답은 읽지 않음
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+        return books;
+    }
+
+    // 현재 위치의 item 객체 하나를 DTO로 변환 (START_OBJECT 다음부터 END_OBJECT까지)
+    private static BookSearchResponseDto readItem(JsonParser parser) throws IOException {
+        String title = "";
+        String author = "";
+        String publisher = "";
+        String pubDate = "";
+        String cover = "";
+        String description = "";
+        String categoryName = "";
+        String isbn13 = "";
+        String isbn = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "title" -> title = text(parser);
+                case "author" -> author = text(parser);
+                case "publisher" -> publisher = text(parser);
+                case "pubDate" -> pubDate = text(parser);
+                case "cover" -> cover = text(parser);
+                case "description" -> description = text(parser);
+                case "categoryName" -> categoryName = text(parser);
+                case "isbn13" -> isbn13 = text(parser);
+                case "isbn" -> isbn = text(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new BookSearchResponseDto(title, cleanAuthor(author), publisher, pubDate,
+                lastCategory(categoryName), description, cover, isbn13.isEmpty() ? isbn : isbn13);
+    }
+
+    // 문자열/숫자 값은 문자열로, null이나 객체/배열은 빈 문자열로 읽음
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getValueAsString("");
+    }
+
+    // 저자 정보 가공 : "지은이, 옮긴이, 감수 등 제거"
+    private static String cleanAuthor(String author) {
+        if (author.indexOf('(') < 0) {
+            return author.trim();
+        }
+        return AUTHOR_ROLE.matcher(author).replaceAll("").trim();
+    }
+
+    // 카테고리 정보 가공: "국내도서>과학>기초과학/교양과학" -> "기초과학/교양과학" (가장 마지막 카테고리)
+    private static String lastCategory(String categoryName) {
+        return categoryName.substring(categoryName.lastIndexOf('>') + 1).trim();
+    }
+}
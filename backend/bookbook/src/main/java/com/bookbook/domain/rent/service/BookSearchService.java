@@ -1,81 +1,125 @@
 package com.bookbook.domain.rent.service;
 
+import com.bookbook.domain.bookCatalog.service.BookCatalogService;
 import com.bookbook.domain.rent.dto.BookSearchResponseDto;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * 알라딘 도서 검색 서비스
+ *
+ * <p>검색 결과는 (정규화한 검색어, 시작 위치) 기준으로 일정 시간 캐시합니다.
+ * 같은 검색어에 대한 요청이 동시에 들어오면 먼저 들어온 요청만 알라딘 API를 호출하고,
+ * 나머지 요청은 그 결과를 함께 사용합니다.
+ */
+@Slf4j
 @Service
 public class BookSearchService {
 
-    @Value("${aladin.ttbkey}")
-    private String ttbKey;
+    private final AladinApiClient aladinApiClient;
+    private final BookCatalogService bookCatalogService;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 검색 결과 캐시 (조회 중인 요청도 CompletableFuture로 보관하여 동일 요청을 합침)
+    private final AsyncCache<SearchKey, List<BookSearchResponseDto>> searchCache;
 
-    // 알라딘 API를 호출해 책을 검색하고 결과를 리스트로 반환.
+    public BookSearchService(AladinApiClient aladinApiClient,
+                             BookCatalogService bookCatalogService,
+                             @Value("${aladin.cache.max-size:1000}") long maxSize,
+                             @Value("${aladin.cache.ttl-in-seconds:600}") long ttlInSeconds) {
+        this.aladinApiClient = aladinApiClient;
+        this.bookCatalogService = bookCatalogService;
+        this.searchCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    // 알라딘 API를 호출해 책을 검색하고 결과를 리스트로 반환. (캐시된 결과가 있으면 재사용)
     public List<BookSearchResponseDto> searchBooks(String query, int start){
-        // 알라딘 API URL 생성
-        String apiUrl = UriComponentsBuilder.fromHttpUrl("http://www.aladin.co.kr/ttb/api/ItemSearch.aspx")
-                .queryParam("ttbkey", ttbKey)
-                .queryParam("Query", query)
-                .queryParam("QueryType", "Title")
-                .queryParam("MaxResults", 10)
-                .queryParam("start", start)
-                .queryParam("SearchTarget", "Book")
-                .queryParam("Output", "JS")
-                .queryParam("Version", "20131101")
-                .build()
-                .toUriString();
+        try {
+            return searchBooksAsync(query, start).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        String jsonResponse = restTemplate.getForObject(apiUrl, String.class);
+    /**
+     * 책 검색을 비동기로 수행합니다. 호출 스레드는 알라딘 응답을 기다리지 않습니다.
+     *
+     * <p>캐시에 있거나 같은 검색어로 조회 중인 결과가 있으면 그 결과를 함께 사용합니다.
+     * 실패한 조회 결과는 캐시에서 자동으로 제거됩니다.
+     *
+     * @param query 검색어
+     * @param start 검색 결과 시작 페이지
+     * @return 검색 결과
+     */
+    public CompletableFuture<List<BookSearchResponseDto>> searchBooksAsync(String query, int start) {
+        SearchKey key = new SearchKey(normalize(query), start);
 
-        List<BookSearchResponseDto> books = new ArrayList<>();
-        try{
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode itemNode = root.path("item");
+        return searchCache.get(key, (k, executor) -> {
+            CompletableFuture<List<BookSearchResponseDto>> result = aladinApiClient.searchItems(k.query(), k.start())
+                    .thenApply(List::copyOf);
+            // 검색 결과는 응답과 별도로 카탈로그에 저장 (저장 실패는 검색 결과에 영향 없음)
+            result.thenAcceptAsync(this::saveToCatalog, executor);
+            return result;
+        });
+    }
 
-            if(itemNode.isArray()){
-                for(JsonNode item : itemNode){
-                    String title = item.path("title").asText("");
-                    String author = item.path("author").asText("");
-                    String publisher = item.path("publisher").asText("");
-                    String pubDate = item.path("pubDate").asText(""); // 필드명 수정: publishDate -> pubDate
-                    String cover = item.path("cover").asText("");
-                    String description = item.path("description").asText(""); // description 필드 추가
-                    String categoryName = item.path("categoryName").asText(""); // categoryName 필드 추가
+    /**
+     * ISBN으로 책 정보를 조회합니다.
+     * 로컬 카탈로그를 먼저 확인하고, 없을 때만 알라딘 API를 호출합니다.
+     *
+     * @param isbn ISBN13
+     * @return 책 정보
+     */
+    public BookSearchResponseDto findByIsbn(String isbn) {
+        return bookCatalogService.getByIsbn(isbn);
+    }
 
-                    // 저자 정보 가공 : "지은이, 옮긴이, 감수 등 제거"
-                    author = author.replaceAll("\\(지은이\\)|\\(옮긴이\\)|\\(감수\\)", "").trim();
+    /**
+     * 검색 결과 캐시의 적중/미스/제거 통계를 반환합니다.
+     */
+    public CacheStats getCacheStats() {
+        return searchCache.synchronous().stats();
+    }
 
-                    // 카테고리 정보 가공: "국내도서>과학>기초과학/교양과학" -> "기초과학/교양과학" (가장 마지막 카테고리)
-                    String category = "";
-                    if (!categoryName.isEmpty()) {
-                        String[] categories = categoryName.split(">");
-                        if (categories.length > 0) {
-                            category = categories[categories.length - 1].trim();
-                        }
-                    }
+    // 10분마다 캐시 통계 기록
+    @Scheduled(fixedDelay = 600_000)
+    public void logCacheStats() {
+        CacheStats stats = getCacheStats();
+        log.info("알라딘 검색 캐시 - 크기: {}, 적중: {}, 미스: {}, 적중률: {}, 제거: {}",
+                searchCache.synchronous().estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()), stats.evictionCount());
+    }
 
-                    // DTO 생성 시 추가된 필드들 포함
-                    books.add(new BookSearchResponseDto(title, author, publisher, pubDate, category, description, cover));
-                }
-            }
+    private void saveToCatalog(List<BookSearchResponseDto> books) {
+        try {
+            bookCatalogService.saveAll(books);
         } catch (Exception e) {
-            e.printStackTrace(); // 스택 트레이스 출력
-            throw new RuntimeException("알라딘 API 응답 파싱 중 오류 발생: " + e.getMessage(), e); // 더 명확한 메시지
+            log.warn("도서 카탈로그 저장 실패 - {}", e.getMessage());
         }
-        return books;
     }
 
+    // 앞뒤 공백 제거, 연속 공백은 하나로, 소문자로 통일
+    private static String normalize(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
 
-
+    // 캐시 키 (정규화한 검색어, 시작 위치)
+    private record SearchKey(String query, int start) {
+    }
 }
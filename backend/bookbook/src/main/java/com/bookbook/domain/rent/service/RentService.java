@@ -1,13 +1,15 @@
 package com.bookbook.domain.rent.service;
 
+import com.bookbook.domain.bookCatalog.service.BookCatalogService;
+import com.bookbook.domain.chat.service.ChatInboxService;
 import com.bookbook.domain.notification.enums.NotificationType;
 import com.bookbook.domain.notification.service.NotificationService;
-import com.bookbook.domain.rent.dto.RentAvailableResponseDto;
 import com.bookbook.domain.rent.dto.response.RentDetailResponseDto;
 import com.bookbook.domain.rent.dto.RentRequestDto;
 import com.bookbook.domain.rent.dto.RentResponseDto;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
 import com.bookbook.domain.rent.repository.RentRepository;
 import com.bookbook.domain.rent.dto.request.ChangeRentStatusRequestDto;
 import com.bookbook.domain.rent.dto.response.RentSimpleResponseDto;
@@ -19,15 +21,13 @@ import com.bookbook.global.exception.ServiceException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 // 25.08.01 현준
 @Service
@@ -37,6 +37,9 @@ public class RentService {
     private final NotificationService notificationService;
     private final UserRepository userRepository;
     private final WishListRepository wishListRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatInboxService chatInboxService;
+    private final BookCatalogService bookCatalogService;
 
     // Rent 페이지 등록 Post 요청
     // /bookbook/rent/create
@@ -46,6 +49,9 @@ public class RentService {
         User user = userRepository.findById(userId)
                 .orElseThrow(()-> new ServiceException("401", "로그인을 해 주세요."));
 
+        // 카탈로그에 있는 책이면 ISBN으로 연결
+        String isbn = catalogIsbn(dto.isbn());
+
         // Rent 엔티티 생성 (Builder 패턴 활용)
         Rent rent = Rent.builder()
                 // 글 관련 정보
@@ -62,11 +68,13 @@ public class RentService {
                 .author(dto.author())
                 .publisher(dto.publisher())
                 .category(dto.category())
-                .description(dto.description())
+                .isbn(isbn)
+                .description(bookDescriptionToStore(isbn, dto.description()))
                 .build();
 
         // Rent 테이블에 추가
         Rent savedRent = rentRepository.save(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(savedRent));
 
         // 글 등록 알림 생성을 별도 트랜잭션으로 처리
         createNotificationSafely(user, dto, savedRent);
@@ -133,7 +141,8 @@ public class RentService {
                 rent.getAuthor(),
                 rent.getPublisher(),
                 rent.getCategory(),
-                rent.getDescription(),
+                bookDescription(rent),
+                rent.getIsbn(),
                 rent.getCreatedDate(),
                 rent.getModifiedDate(),
 
@@ -174,81 +183,39 @@ public class RentService {
         rent.setAuthor(dto.author());
         rent.setPublisher(dto.publisher());
         rent.setCategory(dto.category());
-        rent.setDescription(dto.description());
+        String isbn = catalogIsbn(dto.isbn());
+        rent.setIsbn(isbn);
+        rent.setDescription(bookDescriptionToStore(isbn, dto.description()));
 
         // Rent 테이블에 업데이트
         rentRepository.save(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
+        chatInboxService.syncBook(rent);
     }
 
-    // 대여 가능한 책 목록 조회 (필터링 및 페이지네이션 지원)
-    @Transactional(readOnly = true)
-    public RentAvailableResponseDto getAvailableBooks(String region, String category, String search, int page, int size) {
-        // 페이지네이션 설정 (최신순 정렬)
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdDate"));
-        
-        Page<Rent> rentPage;
-        
-        // 필터 조건에 따른 쿼리 실행
-        boolean hasRegion = region != null && !region.equals("all") && !region.trim().isEmpty();
-        boolean hasCategory = category != null && !category.equals("all") && !category.trim().isEmpty();
-        boolean hasSearch = search != null && !search.trim().isEmpty();
-        
-        if (hasRegion && hasCategory && hasSearch) {
-            // 모든 필터 적용
-            rentPage = rentRepository.findByRentStatusAndAddressAndCategoryAndSearchKeyword(
-                    RentStatus.AVAILABLE, region.trim(), category.trim(), search.trim(), pageable);
-        } else if (hasRegion && hasCategory) {
-            // 지역 + 카테고리 필터
-            rentPage = rentRepository.findByRentStatusAndAddressContainingAndCategoryContaining(
-                    RentStatus.AVAILABLE, region.trim(), category.trim(), pageable);
-        } else if (hasRegion && hasSearch) {
-            // 지역 + 검색어 필터
-            rentPage = rentRepository.findByRentStatusAndAddressAndSearchKeyword(
-                    RentStatus.AVAILABLE, region.trim(), search.trim(), pageable);
-        } else if (hasCategory && hasSearch) {
-            // 카테고리 + 검색어 필터
-            rentPage = rentRepository.findByRentStatusAndCategoryAndSearchKeyword(
-                    RentStatus.AVAILABLE, category.trim(), search.trim(), pageable);
-        } else if (hasRegion) {
-            // 지역 필터만
-            rentPage = rentRepository.findByRentStatusAndAddressContaining(
-                    RentStatus.AVAILABLE, region.trim(), pageable);
-        } else if (hasCategory) {
-            // 카테고리 필터만
-            rentPage = rentRepository.findByRentStatusAndCategoryContaining(
-                    RentStatus.AVAILABLE, category.trim(), pageable);
-        } else if (hasSearch) {
-            // 검색어 필터만
-            rentPage = rentRepository.findByRentStatusAndSearchKeyword(
-                    RentStatus.AVAILABLE, search.trim(), pageable);
-        } else {
-            // 필터 없음 (대여 가능한 모든 책)
-            rentPage = rentRepository.findByRentStatus(RentStatus.AVAILABLE, pageable);
+    // 카탈로그에 등록된 ISBN만 게시글에 연결
+    private String catalogIsbn(String isbn) {
+        return bookCatalogService.exists(isbn) ? isbn : null;
+    }
+
+    // 입력한 설명이 카탈로그의 설명과 같을 때만 게시글에 중복 저장하지 않음 (다르면 게시글별 설명으로 저장)
+    private String bookDescriptionToStore(String isbn, String description) {
+        if (isbn == null || description == null) {
+            return description;
         }
-        
-        // 결과가 없는 경우
-        if (rentPage.isEmpty()) {
-            return RentAvailableResponseDto.empty();
+        String catalogDescription = bookCatalogService.findDescription(isbn);
+        if (catalogDescription != null && catalogDescription.strip().equals(description.strip())) {
+            return null;
         }
-        
-        // Rent 엔티티를 BookInfo DTO로 변환 (사용자 닉네임 포함)
-        List<RentAvailableResponseDto.BookInfo> books = rentPage.getContent()
-                .stream()
-                .map(rent -> {
-                    // 사용자 닉네임 조회
-                    String lenderNickname = userRepository.findById(rent.getLenderUserId())
-                            .map(User::getNickname)
-                            .orElse("알 수 없음");
-                    
-                    return RentAvailableResponseDto.BookInfo.from(rent, lenderNickname);
-                })
-                .collect(Collectors.toList());
-        
-        // 페이지네이션 정보 생성
-        RentAvailableResponseDto.PaginationInfo pagination = 
-                RentAvailableResponseDto.PaginationInfo.from(rentPage);
-        
-        return RentAvailableResponseDto.success(books, pagination);
+        return description;
+    }
+
+    // 게시글의 책 설명 (카탈로그에 연결된 게시글은 카탈로그에서 조회)
+    private String bookDescription(Rent rent) {
+        if (rent.getDescription() != null) {
+            return rent.getDescription();
+        }
+        return bookCatalogService.findDescription(rent.getIsbn());
     }
 
     /**
@@ -286,7 +253,8 @@ public class RentService {
         }
 
         rent.setRentStatus(requestDto.status());
-        return RentDetailResponseDto.from(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
+        return RentDetailResponseDto.from(rent, bookDescription(rent));
     }
 
     /**
@@ -303,6 +271,7 @@ public class RentService {
         checkRentPostIsDeleted(rent);
 
         rent.setRentStatus(RentStatus.DELETED);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
     }
 
     /**
@@ -323,7 +292,8 @@ public class RentService {
         }
 
         rent.setRentStatus(RentStatus.AVAILABLE);
-        return RentDetailResponseDto.from(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
+        return RentDetailResponseDto.from(rent, bookDescription(rent));
     }
 
     /**
@@ -338,7 +308,7 @@ public class RentService {
         Rent rent = rentRepository.findById(rentId)
                 .orElseThrow(() -> new ServiceException("404-2", "해당 대여글을 찾을 수 없습니다."));
 
-        return RentDetailResponseDto.from(rent);
+        return RentDetailResponseDto.from(rent, bookDescription(rent));
     }
 
     /**
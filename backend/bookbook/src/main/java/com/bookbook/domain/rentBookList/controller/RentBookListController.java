@@ -4,17 +4,24 @@ import com.bookbook.domain.rentBookList.dto.RentBookListResponseDto;
 import com.bookbook.domain.rentBookList.dto.RentRequestDto;
 import com.bookbook.domain.rentBookList.service.RentBookListService;
 import com.bookbook.global.rsdata.RsData;
+import com.bookbook.global.util.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/bookbook/rent")
 @Tag(name = "RentBookListController", description = "책 빌리러가기 API 컨트롤러")
@@ -26,31 +33,55 @@ public class RentBookListController {
     @GetMapping("/available")
     @Operation(summary = "대여 가능한 책 목록 조회", description = "필터링과 페이징을 지원하는 대여 가능한 책 목록을 조회합니다.")
     public RsData<Map<String, Object>> getAvailableBooks(
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "1") @Min(1) int page,
+            @RequestParam(defaultValue = "12") @Min(1) @Max(100) int size,
             @RequestParam(required = false) String region,
             @RequestParam(required = false) String category,
-            @RequestParam(required = false) String search
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "true") boolean withTotal // false면 전체 개수 없이 다음 페이지 존재 여부만 반환
     ) {
-        log.debug("대여 가능한 책 목록 조회 - page: {}, size: {}, region: {}, category: {}, search: {}", 
-                page, size, region, category, search);
-
-        Page<RentBookListResponseDto> bookPage = rentBookListService.getAvailableBooks(
-                page - 1, size, region, category, search);
+        log.debug("대여 가능한 책 목록 조회 - page: {}, size: {}, region: {}, category: {}, search: {}, withTotal: {}", 
+                page, size, region, category, search, withTotal);
+
+        Slice<RentBookListResponseDto> bookSlice = rentBookListService.getAvailableBooks(
+                page - 1, size, region, category, search, withTotal);
+
+        Map<String, Object> pagination = new LinkedHashMap<>();
+        pagination.put("currentPage", page);
+        pagination.put("size", size);
+        pagination.put("hasNext", bookSlice.hasNext());
+        // 전체 개수를 센 경우에만 전체 페이지/요소 수 포함
+        if (bookSlice instanceof Page<?> bookPage) {
+            pagination.put("totalPages", bookPage.getTotalPages());
+            pagination.put("totalElements", bookPage.getTotalElements());
+        }
 
         Map<String, Object> response = Map.of(
-                "books", bookPage.getContent(),
-                "pagination", Map.of(
-                        "currentPage", page,
-                        "totalPages", bookPage.getTotalPages(),
-                        "totalElements", bookPage.getTotalElements(),
-                        "size", size
-                )
+                "books", bookSlice.getContent(),
+                "pagination", pagination
         );
 
         return new RsData<>("200-1", "대여 가능한 책 목록을 조회했습니다.", response);
     }
 
+    @GetMapping("/available/cursor")
+    @Operation(summary = "대여 가능한 책 목록 조회 (커서)", description = "페이지 번호 대신 이전 응답의 nextCursor 이후의 책을 최신순으로 size개씩 조회합니다.")
+    public RsData<CursorResponse<RentBookListResponseDto>> getAvailableBooksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") @Min(1) @Max(100) int size,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search
+    ) {
+        log.debug("대여 가능한 책 목록 조회 (커서) - size: {}, region: {}, category: {}, search: {}",
+                size, region, category, search);
+
+        CursorResponse<RentBookListResponseDto> books = rentBookListService.getAvailableBooksByCursor(
+                cursor, size, region, category, search);
+
+        return new RsData<>("200-1", "대여 가능한 책 목록을 조회했습니다.", books);
+    }
+
     @GetMapping("/{rentId}")
     @Operation(summary = "책 상세 정보 조회", description = "특정 책의 상세 정보를 조회합니다.")
     public RsData<RentBookListResponseDto> getBookDetail(
@@ -77,7 +108,7 @@ public class RentBookListController {
     }
 
     @GetMapping("/regions")
-    @Operation(summary = "지역 목록 조회", description = "등록된 책들의 지역 목록을 조회합니다.")
+    @Operation(summary = "지역 목록 조회", description = "대여 가능한 책이 있는 시/도 목록을 조회합니다.")
     public RsData<List<Map<String, String>>> getRegions() {
         log.debug("지역 목록 조회");
 
@@ -1,5 +1,6 @@
 package com.bookbook.domain.rentBookList.dto;
 
+import com.bookbook.domain.rent.dto.RentSummaryDto;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
 import lombok.Getter;
@@ -42,6 +43,25 @@ public class RentBookListResponseDto {
         this.modifiedDate = rent.getModifiedDate();
     }
     
+    // 목록 조회용 프로젝션으로부터 생성 (책 설명 등 목록에 필요 없는 컬럼은 조회하지 않음)
+    public RentBookListResponseDto(RentSummaryDto rent, String lenderNickname) {
+        this.id = rent.id();
+        this.bookTitle = rent.bookTitle();
+        this.author = rent.author();
+        this.publisher = rent.publisher();
+        this.bookCondition = rent.bookCondition();
+        this.bookImage = processImageUrl(rent.bookImage());
+        this.address = rent.address();
+        this.category = rent.category();
+        this.rentStatus = rent.rentStatus().getDescription();
+        this.lenderUserId = rent.lenderUserId();
+        this.lenderNickname = lenderNickname;
+        this.title = rent.title();
+        this.contents = rent.contents();
+        this.createdDate = rent.createdDate();
+        this.modifiedDate = rent.modifiedDate();
+    }
+    
     // 이미지 URL 처리 메서드
     private String processImageUrl(String imageUrl) {
         if (imageUrl == null || imageUrl.trim().isEmpty()) {
@@ -1,20 +1,33 @@
 package com.bookbook.domain.rentBookList.service;
 
+import com.bookbook.domain.home.feed.RegionRegistry;
 import com.bookbook.domain.notification.enums.NotificationType;
 import com.bookbook.domain.notification.service.NotificationService;
+import com.bookbook.domain.rent.dto.RentSummaryDto;
 import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.repository.RentQueryRepository;
+import com.bookbook.domain.rent.repository.RentSearchCondition;
+import com.bookbook.domain.rent.search.RentSearchIndex;
 import com.bookbook.domain.rentBookList.dto.RentBookListResponseDto;
 import com.bookbook.domain.rentBookList.repository.RentBookListRepository;
 import com.bookbook.domain.user.entity.User;
 import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import com.bookbook.global.region.RegionCode;
+import com.bookbook.global.region.Sido;
+import com.bookbook.global.util.CursorResponse;
+import com.bookbook.global.util.CursorToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,40 +39,103 @@ import java.util.stream.Collectors;
 public class RentBookListService {
 
     private final RentBookListRepository rentBookListRepository;
+    private final RentQueryRepository rentQueryRepository;
+    private final RentSearchIndex rentSearchIndex;
+    private final RegionRegistry regionRegistry;
     private final UserRepository userRepository;
+    private final UserNicknameResolver userNicknameResolver;
     private final NotificationService notificationService;
 
-    // 대여 가능한 책 목록 조회
-    public Page<RentBookListResponseDto> getAvailableBooks(int page, int size, String region, String category, String search) {
+    /**
+     * 대여 가능한 책 목록을 조회합니다.
+     * 검색어는 인메모리 검색 색인({@link RentSearchIndex})으로, 지역/카테고리 조건은 하나의 동적 쿼리로 처리하며
+     * 어느 경우든 해당 페이지의 게시글만 프로젝션으로 조회합니다.
+     *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param region 지역 ("all" 또는 빈 값이면 조건 없음)
+     * @param category 카테고리 ("all" 또는 빈 값이면 조건 없음)
+     * @param search 검색어 (책 제목, 저자, 출판사에서 검색)
+     * @param withTotal 전체 개수가 필요한지 여부 (false면 COUNT 쿼리 없이 다음 페이지 존재 여부만 반환)
+     * @return 대여 가능한 책 목록 (전체 개수를 센 경우 {@link Page})
+     */
+    public Slice<RentBookListResponseDto> getAvailableBooks(int page, int size, String region, String category,
+                                                            String search, boolean withTotal) {
         Pageable pageable = PageRequest.of(page, size);
-        
-        Page<Rent> rentPage;
-        
-        // 필터링 조건이 있는지 확인
-        boolean hasFilters = (region != null && !region.trim().isEmpty() && !"all".equals(region)) ||
-                           (category != null && !category.trim().isEmpty() && !"all".equals(category)) ||
-                           (search != null && !search.trim().isEmpty());
-        
-        if (hasFilters) {
-            // 필터링 적용
-            String regionFilter = (region != null && !"all".equals(region)) ? region : null;
-            String categoryFilter = (category != null && !"all".equals(category)) ? category : null;
-            String searchFilter = (search != null && !search.trim().isEmpty()) ? search : null;
-            
-            rentPage = rentBookListRepository.findAvailableBooks(regionFilter, categoryFilter, searchFilter, pageable);
+
+        RegionCode regionFilter = RegionCode.filterOf(filterValue(region));
+        String categoryFilter = filterValue(category);
+        String keyword = filterValue(search);
+
+        Slice<RentSummaryDto> rentPage;
+        if (keyword != null) {
+            // 검색어가 있으면 색인에서 해당 페이지의 게시글 ID를 구한 뒤 그 게시글만 조회 (전체 개수는 색인에서 계산)
+            Page<Integer> idPage = rentSearchIndex.search(regionFilter, categoryFilter, keyword, pageable);
+            List<RentSummaryDto> rents = idPage.isEmpty()
+                    ? List.of()
+                    : rentQueryRepository.findAvailableByIds(idPage.getContent());
+            rentPage = new PageImpl<>(rents, pageable, idPage.getTotalElements());
         } else {
-            // 전체 조회
-            rentPage = rentBookListRepository.findAllAvailableBooks(pageable);
+            // 지역/카테고리 조건은 동적 쿼리 하나로 조회하고, 전체 개수가 필요할 때만 COUNT 쿼리 실행
+            RentSearchCondition condition = new RentSearchCondition(regionFilter, categoryFilter, null, null);
+            rentPage = withTotal
+                    ? rentQueryRepository.findAvailablePage(condition, pageable)
+                    : rentQueryRepository.findAvailableSlice(condition, pageable);
         }
-        
-        return rentPage.map(rent -> {
-            // 사용자 닉네임 조회
-            String lenderNickname = userRepository.findById(rent.getLenderUserId())
-                    .map(User::getNickname)
-                    .orElse("알 수 없음");
-            
-            return new RentBookListResponseDto(rent, lenderNickname);
-        });
+
+        // 페이지에 포함된 작성자들의 닉네임을 한 번에 조회
+        Map<Long, String> nicknames = resolveLenderNicknames(rentPage.getContent());
+        return rentPage.map(rent -> new RentBookListResponseDto(rent, nicknames.getOrDefault(rent.lenderUserId(), "알 수 없음")));
+    }
+
+    /**
+     * 대여 가능한 책 목록을 커서 기반으로 조회합니다.
+     * 페이지 번호 대신 이전 응답의 커서 이후 데이터만 조회하므로, 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @param region 지역 ("all" 또는 빈 값이면 조건 없음)
+     * @param category 카테고리 ("all" 또는 빈 값이면 조건 없음)
+     * @param search 검색어 (책 제목, 저자, 출판사에서 검색)
+     * @return 대여 가능한 책 목록과 다음 페이지 커서
+     */
+    public CursorResponse<RentBookListResponseDto> getAvailableBooksByCursor(String cursor, int size, String region,
+                                                                            String category, String search) {
+        RegionCode regionFilter = RegionCode.filterOf(filterValue(region));
+        String categoryFilter = filterValue(category);
+        String keyword = filterValue(search);
+        CursorToken after = CursorToken.decode(cursor);
+
+        List<RentSummaryDto> rows;
+        if (keyword != null) {
+            // 검색어가 있으면 색인에서 커서의 ID보다 작은 게시글 ID를 구함 (목록과 같은 ID 역순)
+            List<Integer> ids = rentSearchIndex.searchAfter(regionFilter, categoryFilter, keyword, after, size);
+            rows = ids.isEmpty() ? List.of() : rentQueryRepository.findAvailableByIds(ids);
+        } else {
+            // 목록은 ID 역순으로 정렬되므로 커서의 ID보다 작은 게시글만 조회
+            RentSearchCondition condition = new RentSearchCondition(regionFilter, categoryFilter, null,
+                    after != null ? after.id() : null);
+            rows = rentQueryRepository.findAvailable(condition, size + 1);
+        }
+
+        Map<Long, String> nicknames = resolveLenderNicknames(rows);
+        return CursorResponse.of(rows, size, rent -> new CursorToken(rent.createdDate(), rent.id()),
+                rent -> new RentBookListResponseDto(rent, nicknames.getOrDefault(rent.lenderUserId(), "알 수 없음")));
+    }
+
+    // 목록에 포함된 게시글 작성자들의 닉네임을 한 번에 조회
+    private Map<Long, String> resolveLenderNicknames(List<RentSummaryDto> rents) {
+        return userNicknameResolver.resolve(rents.stream()
+                .map(RentSummaryDto::lenderUserId)
+                .toList());
+    }
+
+    // "all" 또는 빈 값이면 조건 없음(null)
+    private static String filterValue(String value) {
+        if (value == null || value.equals("all") || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
     }
 
     // 대여 신청
@@ -92,12 +168,13 @@ public class RentBookListService {
                 rentId, requester.getNickname(), bookOwner.getNickname());
     }
 
-    // 지역 목록 조회
+    // 지역 목록 조회 (대여 가능한 책이 있는 시/도, rent 테이블 조회 없이 지역 레지스트리의 값 사용)
     public List<Map<String, String>> getRegions() {
-        List<String> regions = rentBookListRepository.findDistinctRegions();
-        
-        return regions.stream()
-                .map(region -> Map.of("id", region, "name", region))
+        Map<String, Long> counts = regionRegistry.counts();
+
+        return Arrays.stream(Sido.values())
+                .filter(sido -> counts.containsKey(sido.getCode()))
+                .map(sido -> Map.of("id", sido.getOfficialName(), "name", sido.getOfficialName()))
                 .collect(Collectors.toList());
     }
 
@@ -115,10 +192,9 @@ public class RentBookListService {
         Rent rent = rentBookListRepository.findById(rentId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 책입니다. ID: " + rentId));
         
-        // 사용자 닉네임 조회
-        String lenderNickname = userRepository.findById(rent.getLenderUserId())
-                .map(User::getNickname)
-                .orElse("알 수 없음");
+        // 사용자 닉네임 조회 (닉네임만 필요하므로 일괄 조회기를 그대로 사용)
+        String lenderNickname = userNicknameResolver.resolve(List.of(rent.getLenderUserId()))
+                .getOrDefault(rent.getLenderUserId(), "알 수 없음");
         
         return new RentBookListResponseDto(rent, lenderNickname);
     }
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_rent_list_rent_status", columnList = "rent_id, status"))
 public class RentList extends BaseEntity {
     
     private LocalDateTime loanDate;
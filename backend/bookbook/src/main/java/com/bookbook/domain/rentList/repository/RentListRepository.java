@@ -2,25 +2,64 @@ package com.bookbook.domain.rentList.repository;
 //08-06 유효상
 import com.bookbook.domain.rentList.entity.RentList;
 import com.bookbook.domain.rentList.entity.RentRequestStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RentListRepository extends JpaRepository<RentList, Long> {
     
+    // 대여한 도서 목록 조회 (게시글과 대여받은 사용자는 함께 조회)
+    @EntityGraph(attributePaths = {"borrowerUser", "rent"})
     List<RentList> findByBorrowerUserIdOrderByCreatedDateDesc(Long borrowerUserId);
     
     List<RentList> findByBorrowerUserIdAndStatus(Long borrowerUserId, RentRequestStatus status);
 
     List<RentList> findByRentId(Integer rentId);
 
+    // 여러 게시글의 대여 기록을 한 번에 조회 (목록 조회용)
+    @EntityGraph(attributePaths = {"borrowerUser"})
+    List<RentList> findByRentIdIn(Collection<Integer> rentIds);
+
     Optional<RentList> findByBorrowerUserIdAndRentId(Long borrowerUserId, Integer rentId);
 
     List<RentList> findByRentIdAndStatus(Integer rentId, RentRequestStatus status);
 
+    // 대여 신청의 게시글 ID만 조회 (게시글을 먼저 잠근 뒤 신청을 조회하기 위함)
+    @Query("SELECT rl.rent.id FROM RentList rl WHERE rl.id = :id")
+    Optional<Integer> findRentIdById(@Param("id") Integer id);
+
+    // 게시글의 특정 상태 신청자 ID 목록 (일괄 상태 변경 대상의 알림용)
+    @Query("SELECT rl.borrowerUser.id FROM RentList rl WHERE rl.rent.id = :rentId AND rl.status = :status")
+    List<Long> findBorrowerIdsByRentIdAndStatus(@Param("rentId") Integer rentId, @Param("status") RentRequestStatus status);
+
+    // 게시글의 특정 상태 신청을 UPDATE 한 번으로 다른 상태로 변경 (변경된 신청 수 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RentList rl SET rl.status = :newStatus, rl.modifiedDate = :now " +
+           "WHERE rl.rent.id = :rentId AND rl.status = :status")
+    int updateStatusByRentIdAndStatus(@Param("rentId") Integer rentId,
+                                      @Param("status") RentRequestStatus status,
+                                      @Param("newStatus") RentRequestStatus newStatus,
+                                      @Param("now") LocalDateTime now);
+
+    // 특정 신청자의 게시글 신청 상태를 UPDATE 한 번으로 변경 (변경된 신청 수 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RentList rl SET rl.status = :newStatus, rl.modifiedDate = :now " +
+           "WHERE rl.rent.id = :rentId AND rl.borrowerUser.id = :borrowerUserId AND rl.status = :status")
+    int updateStatusByRentIdAndBorrowerUserIdAndStatus(@Param("rentId") Integer rentId,
+                                                       @Param("borrowerUserId") Long borrowerUserId,
+                                                       @Param("status") RentRequestStatus status,
+                                                       @Param("newStatus") RentRequestStatus newStatus,
+                                                       @Param("now") LocalDateTime now);
+
     // 특정 신청자의 특정 책에 대한 특정 상태의 신청 조회
     List<RentList> findByRentIdAndBorrowerUserIdAndStatus(Integer rentId, Long borrowerUserId, RentRequestStatus status);
 
@@ -4,6 +4,7 @@ import com.bookbook.domain.notification.enums.NotificationType;
 import com.bookbook.domain.notification.service.NotificationService;
 import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
 import com.bookbook.domain.rent.repository.RentRepository;
 import com.bookbook.domain.rentList.dto.RentListCreateRequestDto;
 import com.bookbook.domain.rentList.dto.RentListResponseDto;
@@ -13,13 +14,19 @@ import com.bookbook.domain.rentList.entity.RentRequestStatus;
 import com.bookbook.domain.rentList.repository.RentListRepository;
 import com.bookbook.domain.user.entity.User;
 import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
 import com.bookbook.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,9 +42,11 @@ public class RentListService {
     
     private final RentListRepository rentListRepository;
     private final UserRepository userRepository;
+    private final UserNicknameResolver userNicknameResolver;
     private final RentRepository rentRepository;
     private final NotificationService notificationService;
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자가 대여한 도서 목록 조회
@@ -46,17 +55,7 @@ public class RentListService {
      * @return 대여한 도서 목록
      */
     public List<RentListResponseDto> getRentListByUserId(Long borrowerUserId) {
-        return rentListRepository.findByBorrowerUserIdOrderByCreatedDateDesc(borrowerUserId).stream()
-                .map(rentList -> {
-                    String lenderNickname = userRepository.findById(rentList.getRent().getLenderUserId())
-                            .map(user -> user.getNickname())
-                            .orElse("알 수 없음");
-                    // 리뷰 작성 여부 확인 (대여받은 사람이 대여자에 대한 리뷰)
-                    boolean hasReview = reviewRepository.findByRentIdAndReviewerId(rentList.getRent().getId(), borrowerUserId)
-                            .isPresent();
-                    return RentListResponseDto.from(rentList, lenderNickname, hasReview);
-                })
-                .collect(Collectors.toList());
+        return toResponses(rentListRepository.findByBorrowerUserIdOrderByCreatedDateDesc(borrowerUserId), borrowerUserId);
     }
     
     /**
@@ -70,22 +69,12 @@ public class RentListService {
         List<RentList> rentLists = rentListRepository.findByBorrowerUserIdOrderByCreatedDateDesc(borrowerUserId);
         
         if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
-            return rentLists.stream()
-                    .map(rentList -> {
-                        String lenderNickname = userRepository.findById(rentList.getRent().getLenderUserId())
-                                .map(user -> user.getNickname())
-                                .orElse("알 수 없음");
-                        // 리뷰 작성 여부 확인 (대여받은 사람이 대여자에 대한 리뷰)
-                    boolean hasReview = reviewRepository.findByRentIdAndReviewerId(rentList.getRent().getId(), borrowerUserId)
-                            .isPresent();
-                    return RentListResponseDto.from(rentList, lenderNickname, hasReview);
-                    })
-                    .collect(Collectors.toList());
+            return toResponses(rentLists, borrowerUserId);
         }
         
         String searchLower = searchKeyword.toLowerCase().trim();
         
-        return rentLists.stream()
+        return toResponses(rentLists.stream()
                 .filter(rentList -> {
                     Rent rent = rentList.getRent();
                     return rent.getBookTitle().toLowerCase().contains(searchLower) ||
@@ -93,16 +82,7 @@ public class RentListService {
                            rent.getPublisher().toLowerCase().contains(searchLower) ||
                            rent.getTitle().toLowerCase().contains(searchLower);
                 })
-                .map(rentList -> {
-                    String lenderNickname = userRepository.findById(rentList.getRent().getLenderUserId())
-                            .map(user -> user.getNickname())
-                            .orElse("알 수 없음");
-                    // 리뷰 작성 여부 확인 (대여받은 사람이 대여자에 대한 리뷰)
-                    boolean hasReview = reviewRepository.findByRentIdAndReviewerId(rentList.getRent().getId(), borrowerUserId)
-                            .isPresent();
-                    return RentListResponseDto.from(rentList, lenderNickname, hasReview);
-                })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), borrowerUserId);
     }
     
     /**
@@ -122,8 +102,8 @@ public class RentListService {
         User borrowerUser = userRepository.findById(borrowerUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId: " + borrowerUserId));
         
-        // Rent 엔티티 조회
-        Rent rent = rentRepository.findById(request.getRentId())
+        // Rent 엔티티 조회 (수락/삭제 처리 중인 게시글이면 끝날 때까지 대기)
+        Rent rent = rentRepository.findByIdForShare(request.getRentId())
                 .orElseThrow(() -> new IllegalArgumentException("대여 게시글을 찾을 수 없습니다. rentId: " + request.getRentId()));
         
         // 📋 중복 신청 방지 로직 - 이미 PENDING 상태의 신청이 있는지 확인
@@ -191,12 +171,16 @@ public class RentListService {
      */
     @Transactional
     public String decideRentRequest(Long rentListId, RentRequestDecisionDto decision, User currentUser) {
-        // 대여 신청 조회
+        // 게시글을 먼저 잠가, 같은 책에 대한 수락/거절이 동시에 처리되지 않도록 함
+        Integer rentId = rentListRepository.findRentIdById(rentListId.intValue())
+                .orElseThrow(() -> new RuntimeException("대여 신청을 찾을 수 없습니다."));
+        Rent rent = rentRepository.findByIdForUpdate(rentId)
+                .orElseThrow(() -> new RuntimeException("대여 게시글을 찾을 수 없습니다."));
+
+        // 대여 신청 조회 (잠금 이후 조회하므로 다른 요청이 바꾼 상태가 반영됨)
         RentList rentList = rentListRepository.findById(rentListId)
                 .orElseThrow(() -> new RuntimeException("대여 신청을 찾을 수 없습니다."));
         
-        Rent rent = rentList.getRent();
-        
         // 권한 확인: 현재 사용자가 책 소유자인지 확인
         if (!rent.getLenderUserId().equals(currentUser.getId())) {
             throw new RuntimeException("해당 대여 신청을 처리할 권한이 없습니다.");
@@ -211,44 +195,37 @@ public class RentListService {
 
         
         if (decision.isApproved()) {
+            if (rent.getRentStatus() == RentStatus.LOANED) {
+                throw new RuntimeException("이미 대여 중인 책입니다.");
+            }
+
             // 수락 처리
             rentList.setStatus(RentRequestStatus.APPROVED);
             rent.setRentStatus(RentStatus.LOANED);
             
             rentListRepository.save(rentList);
             rentRepository.save(rent);
+            eventPublisher.publishEvent(new RentChangedEvent(rent));
             
-            // 🆕 같은 책에 대한 다른 모든 PENDING 신청들을 자동으로 거절 처리
-            List<RentList> otherPendingRequests = rentListRepository
-                    .findByRentIdAndStatus(rent.getId(), RentRequestStatus.PENDING);
+            // 🆕 같은 책에 대한 다른 모든 PENDING 신청들을 자동으로 거절 처리 (현재 신청은 이미 APPROVED)
+            List<Long> rejectedBorrowerIds = rejectPendingRequests(rent.getId());
 
-            for (RentList otherRequest : otherPendingRequests) {
-                if (otherRequest.getId() != rentListId) { // 현재 처리하는 신청은 제외
-                    otherRequest.setStatus(RentRequestStatus.REJECTED);
-                    rentListRepository.save(otherRequest);
-
-                    // 다른 신청자들에게 거절 알림 발송
-                    User otherBorrower = otherRequest.getBorrowerUser();
-                    String rejectMessage = String.format("'%s' 대여 요청이 거절되었습니다.", rent.getBookTitle());
-                    notificationService.createNotification(
-                            otherBorrower,
-                            null,
-                            NotificationType.RENT_REJECTED,
-                            rejectMessage,
-                            rent.getBookTitle(),
-                            rent.getBookImage(),
-                            (long) rent.getId()
-                    );
-                    
-                    log.info("다른 신청자 자동 거절 처리 - 신청자: {}, 사유: 다른 사용자 수락됨", 
-                            otherBorrower.getNickname());
-                }
-            }
+            // 다른 신청자들에게 거절 알림 발송 (신청자 수와 관계없이 발송 대기 이벤트 한 건만 기록)
+            String autoRejectMessage = String.format("'%s' 대여 요청이 거절되었습니다.", rent.getBookTitle());
+            notificationService.enqueueNotification(
+                    rejectedBorrowerIds,
+                    null,
+                    NotificationType.RENT_REJECTED,
+                    autoRejectMessage,
+                    rent.getBookTitle(),
+                    rent.getBookImage(),
+                    (long) rent.getId()
+            );
             
             // 신청자에게 수락 알림 발송
             String approveMessage = String.format("'%s' 대여 요청이 수락되었습니다!", rent.getBookTitle());
-            notificationService.createNotification(
-                    borrower,
+            notificationService.enqueueNotification(
+                    List.of(borrower.getId()),
                     currentUser, // 08.06 현준
                     NotificationType.RENT_APPROVED,
                     approveMessage,
@@ -257,9 +234,9 @@ public class RentListService {
                     (long) rent.getId()
             );
             
-            log.info("대여 신청 수락 완료 - 책: {}, 대여자: {}, 신청자: {}, 자동 거절된 다른 신청: {}개", 
-                    rent.getBookTitle(), currentUser.getNickname(), borrower.getNickname(), 
-                    otherPendingRequests.size() - 1);
+            log.info("대여 신청 수락 완료 - 책: {}, 대여자: {}, 신청자 ID: {}, 자동 거절된 다른 신청: {}개", 
+                    rent.getBookTitle(), currentUser.getNickname(), borrower.getId(), 
+                    rejectedBorrowerIds.size());
             
             return "대여 신청을 수락했습니다.";
             
@@ -274,8 +251,8 @@ public class RentListService {
                     ? decision.getRejectionReason()
                     : "죄송합니다. 대여 요청을 수락할 수 없습니다.";
             
-            notificationService.createNotification(
-                    borrower,
+            notificationService.enqueueNotification(
+                    List.of(borrower.getId()),
                     currentUser, // 08.06 현준
                     NotificationType.RENT_REJECTED,
                     rejectMessage,
@@ -284,8 +261,8 @@ public class RentListService {
                     (long) rent.getId()
             );
             
-            log.info("대여 신청 거절 완료 - 책: {}, 대여자: {}, 신청자: {}, 사유: {}", 
-                    rent.getBookTitle(), currentUser.getNickname(), borrower.getNickname(), detailMessage);
+            log.info("대여 신청 거절 완료 - 책: {}, 대여자: {}, 신청자 ID: {}, 사유: {}", 
+                    rent.getBookTitle(), currentUser.getNickname(), borrower.getId(), detailMessage);
             
             return "대여 신청을 거절했습니다.";
         }
@@ -303,36 +280,82 @@ public class RentListService {
      */
     @Transactional
     public void returnBook(Long borrowerUserId, Integer rentId) {
-        // 해당 사용자의 진행 중인 대여 기록 조회 (APPROVED 상태만)
-        List<RentList> rentLists = rentListRepository.findByRentIdAndBorrowerUserIdAndStatus(
-                rentId, borrowerUserId, RentRequestStatus.APPROVED);
+        // 원본 게시글 조회 (반납과 다른 상태 변경이 겹치지 않도록 잠금)
+        Rent rent = rentRepository.findByIdForUpdate(rentId)
+                .orElseThrow(() -> new IllegalArgumentException("진행 중인 대여 기록을 찾을 수 없습니다."));
+
+        // 해당 사용자의 진행 중인 대여 기록(APPROVED)을 FINISHED로 변경 (반납 완료)
+        int returned = rentListRepository.updateStatusByRentIdAndBorrowerUserIdAndStatus(
+                rentId, borrowerUserId, RentRequestStatus.APPROVED, RentRequestStatus.FINISHED, LocalDateTime.now());
         
-        if (rentLists.isEmpty()) {
+        // 예외가 발생하면 트랜잭션이 롤백되므로 변경된 대여 기록도 되돌아감
+        if (returned == 0) {
             throw new IllegalArgumentException("진행 중인 대여 기록을 찾을 수 없습니다.");
         }
         
-        if (rentLists.size() > 1) {
+        if (returned > 1) {
             throw new IllegalArgumentException("여러 개의 진행 중인 대여 기록이 발견되었습니다. 관리자에게 문의하세요.");
         }
-        
-        RentList rentList = rentLists.get(0);
-
-        // 원본 게시글 조회
-        Rent rent = rentList.getRent();
 
         // 이미 반납된 상태인지 확인 (게시글 상태가 FINISHED이면 이미 반납됨)
         if (rent.getRentStatus() == RentStatus.FINISHED) {
             throw new IllegalArgumentException("이미 반납된 도서입니다.");
         }
-
-        // 대여 기록 상태를 FINISHED로 변경 (반납 완료)
-        rentList.setStatus(RentRequestStatus.FINISHED);
         
         // 원본 게시글 상태를 FINISHED로 변경 (반납 완료)
         rent.setRentStatus(RentStatus.FINISHED);
 
         // 변경사항 저장
-        rentListRepository.save(rentList);
         rentRepository.save(rent);
+        eventPublisher.publishEvent(new RentChangedEvent(rent));
+    }
+    
+    /**
+     * 게시글의 대기 중인(PENDING) 신청을 UPDATE 한 번으로 모두 거절합니다.
+     * 
+     * 게시글 행을 잠근 트랜잭션 안에서 호출해야 하며, 이 동안 새 신청이 등록되지 않으므로
+     * 먼저 조회한 신청자 목록과 실제로 거절된 신청이 일치합니다.
+     * 
+     * @param rentId 대여 게시글 ID
+     * @return 거절된 신청자 ID 목록 (알림 발송용)
+     */
+    @Transactional
+    public List<Long> rejectPendingRequests(Integer rentId) {
+        List<Long> borrowerIds = rentListRepository.findBorrowerIdsByRentIdAndStatus(rentId, RentRequestStatus.PENDING);
+        if (!borrowerIds.isEmpty()) {
+            rentListRepository.updateStatusByRentIdAndStatus(
+                    rentId, RentRequestStatus.PENDING, RentRequestStatus.REJECTED, LocalDateTime.now());
+        }
+        return borrowerIds;
+    }
+    
+    /**
+     * 대여 기록 목록을 응답 DTO로 변환
+     * 
+     * 게시글 작성자 닉네임과 리뷰 작성 여부는 목록 전체에 대해 한 번에 조회합니다.
+     * 
+     * @param rentLists 대여 기록 목록
+     * @param borrowerUserId 대여받은 사용자 ID (리뷰 작성 여부 확인용)
+     * @return 대여한 도서 목록
+     */
+    private List<RentListResponseDto> toResponses(List<RentList> rentLists, Long borrowerUserId) {
+        if (rentLists.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> nicknames = userNicknameResolver.resolve(rentLists.stream()
+                .map(rentList -> rentList.getRent().getLenderUserId())
+                .toList());
+        // 리뷰 작성 여부 확인 (대여받은 사람이 대여자에 대한 리뷰)
+        Set<Integer> reviewedRentIds = new HashSet<>(reviewRepository.findReviewedRentIds(borrowerUserId,
+                rentLists.stream().map(rentList -> rentList.getRent().getId()).toList()));
+
+        return rentLists.stream()
+                .map(rentList -> {
+                    String lenderNickname = nicknames.getOrDefault(rentList.getRent().getLenderUserId(), "알 수 없음");
+                    boolean hasReview = reviewedRentIds.contains(rentList.getRent().getId());
+                    return RentListResponseDto.from(rentList, lenderNickname, hasReview);
+                })
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +15,10 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     
     Optional<Review> findByRentIdAndReviewerId(Integer rentId, Long reviewerId);
 
+    // 여러 게시글 중 해당 사용자가 리뷰를 작성한 게시글 ID 조회 (목록 조회용)
+    @Query("SELECT r.rentId FROM Review r WHERE r.reviewerId = :reviewerId AND r.rentId IN :rentIds")
+    List<Integer> findReviewedRentIds(@Param("reviewerId") Long reviewerId, @Param("rentIds") Collection<Integer> rentIds);
+
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.revieweeId = :revieweeId")
     Optional<Double> findAverageRatingByRevieweeId(@Param("revieweeId") Long revieweeId);
     
@@ -4,6 +4,7 @@ import com.bookbook.domain.suspend.entity.SuspendedUser;
 import com.bookbook.domain.user.enums.Role;
 import com.bookbook.domain.user.enums.UserStatus;
 import com.bookbook.global.entity.BaseEntity; // BaseEntity 임포트 유지
+import com.bookbook.global.region.RegionCode;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -22,7 +23,8 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "users") // 예약어 충돌 방지
+@Table(name = "users", // 예약어 충돌 방지
+        indexes = @Index(name = "idx_users_sido_sigungu", columnList = "sido_code, sigungu"))
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -48,6 +50,13 @@ public class User extends BaseEntity {
     @Column(name = "address", nullable = true)
     private String address;
 
+    // 주소에서 추출한 지역 코드 (저장 시 address로부터 자동 계산)
+    @Column(name = "sido_code", length = 20)
+    private String sidoCode;
+
+    @Column(name = "sigungu", length = 20)
+    private String sigungu;
+
     @Min(0)
     @Max(5)
     @Column(name = "rating", nullable = false)
@@ -126,6 +135,15 @@ public class User extends BaseEntity {
         this.username = username;
     }
 
+    // 저장/수정 시 주소로부터 지역 코드 계산
+    @PrePersist
+    @PreUpdate
+    public void applyRegionCode() {
+        RegionCode regionCode = RegionCode.parse(address);
+        this.sidoCode = regionCode != null ? regionCode.sido() : null;
+        this.sigungu = regionCode != null ? regionCode.sigungu() : null;
+    }
+
     public void updateInfo(String nickname, String address) {
         if (nickname != null && !nickname.trim().isEmpty()) {
             this.setNickname(nickname);
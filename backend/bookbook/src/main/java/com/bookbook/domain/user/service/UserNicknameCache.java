@@ -0,0 +1,62 @@
+package com.bookbook.domain.user.service;
+
+import com.bookbook.global.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 닉네임 단기 캐시
+ *
+ * <p>WebSocket 연결은 JWT 클레임만으로 인증하므로 닉네임이 토큰에 없습니다.
+ * 메시지 전송처럼 닉네임이 필요한 시점에 이 캐시에서 꺼내 쓰고, 없을 때만 DB에서 한 번 조회합니다.
+ * 닉네임이 바뀌면 커밋 후 이 서버의 캐시를 비우며, 다른 서버의 캐시는 만료 시간이 지나면 반영됩니다.
+ */
+@Component
+public class UserNicknameCache {
+
+    private final UserNicknameResolver userNicknameResolver;
+
+    // 사용자 ID -> 닉네임
+    private final Cache<Long, String> nicknames;
+
+    public UserNicknameCache(UserNicknameResolver userNicknameResolver,
+                             @Value("${chat.auth.nickname-cache.max-size:10000}") long maxSize,
+                             @Value("${chat.auth.nickname-cache.ttl-in-seconds:60}") long ttlInSeconds) {
+        this.userNicknameResolver = userNicknameResolver;
+        this.nicknames = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자의 닉네임을 반환합니다. (캐시가 없을 때만 DB 조회 한 번)
+     *
+     * @return 닉네임 (사용자가 없거나 닉네임이 없으면 null)
+     */
+    public String get(Long userId) {
+        return nicknames.get(userId, id -> userNicknameResolver.resolve(List.of(id)).get(id));
+    }
+
+    /**
+     * 캐시에 있는 닉네임만 반환합니다. (DB를 조회하지 않음)
+     *
+     * @return 닉네임 (캐시에 없으면 null)
+     */
+    public String getIfPresent(Long userId) {
+        return nicknames.getIfPresent(userId);
+    }
+
+    /**
+     * 사용자의 닉네임 캐시를 비웁니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비워, 이전 닉네임이 다시 캐시되지 않도록 합니다.
+     */
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> nicknames.invalidate(userId));
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookbook.domain.user.service;
+
+import com.bookbook.domain.user.entity.User;
+import com.bookbook.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 조회용 사용자 닉네임 일괄 조회
+ *
+ * <p>목록의 각 항목마다 사용자를 따로 조회하지 않도록, 한 페이지에 필요한 사용자 ID를 모아
+ * IN 쿼리 한 번으로 닉네임을 가져옵니다. 반환된 Map은 해당 목록을 변환하는 동안만 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNicknameResolver {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 ID 목록에 해당하는 닉네임을 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록 (null과 중복은 무시)
+     * @return 사용자 ID -> 닉네임 (존재하지 않는 사용자는 포함되지 않음)
+     */
+    public Map<Long, String> resolve(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return userRepository.findAllById(ids)
+                .stream()
+                .filter(user -> user.getNickname() != null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookbook.domain.user.service;
 
+import com.bookbook.domain.chat.service.ChatInboxService;
 import com.bookbook.domain.review.repository.ReviewRepository;
 import com.bookbook.domain.user.dto.UserProfileResponseDto;
 import com.bookbook.domain.user.dto.UserResponseDto;
@@ -27,6 +28,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JdbcTemplate jdbcTemplate;
     private final ReviewRepository reviewRepository;
+    private final ChatInboxService chatInboxService;
+    private final UserNicknameCache userNicknameCache;
 
     @PostConstruct
     @Transactional
@@ -94,6 +97,8 @@ public class UserService {
         user.setAddress(address.trim());
         user.setRegistrationCompleted(true);
         userRepository.save(user);
+        chatInboxService.syncNickname(userId, user.getNickname());
+        userNicknameCache.invalidate(userId);
     }
 
     @Transactional
@@ -110,6 +115,8 @@ public class UserService {
                     throw new ServiceException("409-NICKNAME-DUPLICATE", "이미 사용 중인 닉네임입니다.");
                 }
                 user.setNickname(trimmedNickname);
+                chatInboxService.syncNickname(userId, trimmedNickname);
+                userNicknameCache.invalidate(userId);
                 hasChanges = true;
             }
         }
@@ -151,6 +158,8 @@ public class UserService {
         }
 
         user.setNickname(null);
+        chatInboxService.syncNickname(userId, null);
+        userNicknameCache.invalidate(userId);
         user.setAddress(null);
         user.setRegistrationCompleted(false);
 
@@ -2,6 +2,7 @@ package com.bookbook.domain.wishList.repository;
 
 import com.bookbook.domain.wishList.entity.WishList;
 import com.bookbook.domain.wishList.enums.WishListStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,7 +12,8 @@ import java.util.Optional;
 @Repository
 public interface WishListRepository extends JpaRepository<WishList, Integer> {
 
-    // Status를 포함한 조회 메서드들
+    // Status를 포함한 조회 메서드들 (게시글과 사용자는 함께 조회)
+    @EntityGraph(attributePaths = {"user", "rent"})
     List<WishList> findByUserIdAndStatusOrderByCreatedDateDesc(Long userId, WishListStatus status);
 
     Optional<WishList> findByUserIdAndRentIdAndStatus(Long userId, Integer rentId, WishListStatus status);
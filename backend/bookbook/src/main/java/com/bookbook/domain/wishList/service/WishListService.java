@@ -4,6 +4,7 @@ import com.bookbook.domain.rent.entity.Rent;
 import com.bookbook.domain.rent.repository.RentRepository;
 import com.bookbook.domain.user.entity.User;
 import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
 import com.bookbook.domain.wishList.dto.WishListCreateRequestDto;
 import com.bookbook.domain.wishList.dto.WishListResponseDto;
 import com.bookbook.domain.wishList.entity.WishList;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +28,7 @@ public class WishListService {
 
     private final WishListRepository wishListRepository;
     private final UserRepository userRepository;
+    private final UserNicknameResolver userNicknameResolver;
     private final RentRepository rentRepository;
 
     /**
@@ -37,15 +40,7 @@ public class WishListService {
      * @return 찜 목록 리스트
      */
     public List<WishListResponseDto> getWishListByUserId(Long userId) {
-        return wishListRepository.findByUserIdAndStatusOrderByCreatedDateDesc(userId, WishListStatus.ACTIVE)
-                .stream()
-                .map(wishList -> {
-                    String lenderNickname = userRepository.findById(wishList.getRent().getLenderUserId())
-                            .map(user -> user.getNickname())
-                            .orElse("알 수 없음");
-                    return WishListResponseDto.from(wishList, lenderNickname);
-                })
-                .toList();
+        return toResponses(wishListRepository.findByUserIdAndStatusOrderByCreatedDateDesc(userId, WishListStatus.ACTIVE));
     }
 
     /**
@@ -59,19 +54,12 @@ public class WishListService {
         List<WishList> wishLists = wishListRepository.findByUserIdAndStatusOrderByCreatedDateDesc(userId, WishListStatus.ACTIVE);
         
         if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
-            return wishLists.stream()
-                    .map(wishList -> {
-                        String lenderNickname = userRepository.findById(wishList.getRent().getLenderUserId())
-                                .map(user -> user.getNickname())
-                                .orElse("알 수 없음");
-                        return WishListResponseDto.from(wishList, lenderNickname);
-                    })
-                    .collect(Collectors.toList());
+            return toResponses(wishLists);
         }
         
         String searchLower = searchKeyword.toLowerCase().trim();
         
-        return wishLists.stream()
+        return toResponses(wishLists.stream()
                 .filter(wishList -> {
                     Rent rent = wishList.getRent();
                     return rent.getBookTitle().toLowerCase().contains(searchLower) ||
@@ -79,13 +67,7 @@ public class WishListService {
                            rent.getPublisher().toLowerCase().contains(searchLower) ||
                            rent.getTitle().toLowerCase().contains(searchLower);
                 })
-                .map(wishList -> {
-                    String lenderNickname = userRepository.findById(wishList.getRent().getLenderUserId())
-                            .map(user -> user.getNickname())
-                            .orElse("알 수 없음");
-                    return WishListResponseDto.from(wishList, lenderNickname);
-                })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -147,4 +129,23 @@ public class WishListService {
         // 변경사항을 데이터베이스에 저장 - JPA가 UPDATE 쿼리 실행
         wishListRepository.save(wishList);
     }
+
+    /**
+     * 찜 목록을 응답 DTO로 변환
+     * 
+     * 게시글 작성자 닉네임은 목록 전체에 대해 한 번에 조회합니다.
+     * 
+     * @param wishLists 찜 목록
+     * @return 찜 목록 응답 리스트
+     */
+    private List<WishListResponseDto> toResponses(List<WishList> wishLists) {
+        Map<Long, String> nicknames = userNicknameResolver.resolve(wishLists.stream()
+                .map(wishList -> wishList.getRent().getLenderUserId())
+                .toList());
+
+        return wishLists.stream()
+                .map(wishList -> WishListResponseDto.from(wishList,
+                        nicknames.getOrDefault(wishList.getRent().getLenderUserId(), "알 수 없음")))
+                .collect(Collectors.toList());
+    }
 }
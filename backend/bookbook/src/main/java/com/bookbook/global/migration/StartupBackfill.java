@@ -0,0 +1,44 @@
+package com.bookbook.global.migration;
+
+import com.bookbook.domain.chat.service.ChatInboxService;
+import com.bookbook.domain.chat.service.ChatRoomMemberBackfill;
+import com.bookbook.global.region.RegionCodeBackfill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 데이터 백필 실행기
+ *
+ * <p>새 컬럼/테이블 도입 전에 저장된 데이터를 채우는 백필을 모든 빈이 만들어진 직후,
+ * 웹 서버가 시작되어 요청을 받기 전에 정해진 순서로 실행합니다.
+ * (ApplicationReadyEvent에서 실행하면 요청 처리와 백필이 동시에 진행되어, 백필 전의 데이터가 그대로 조회되거나
+ * 백필과 요청이 같은 행을 만들 수 있음)
+ *
+ * <ol>
+ *   <li>게시글/회원 지역 코드 ({@link RegionCodeBackfill})</li>
+ *   <li>채팅방 참여자 ({@link ChatRoomMemberBackfill}) - 채팅방 목록 항목이 나간 상태를 참조하므로 먼저 실행</li>
+ *   <li>채팅방 목록 항목 ({@link ChatInboxService#backfill()})</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupBackfill implements SmartInitializingSingleton {
+
+    private final RegionCodeBackfill regionCodeBackfill;
+    private final ChatRoomMemberBackfill chatRoomMemberBackfill;
+    private final ChatInboxService chatInboxService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+
+        regionCodeBackfill.backfill();
+        chatRoomMemberBackfill.backfill();
+        chatInboxService.backfill();
+
+        log.debug("기동 시 데이터 백필 완료 - {}ms", System.currentTimeMillis() - start);
+    }
+}
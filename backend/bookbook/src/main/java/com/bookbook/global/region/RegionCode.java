@@ -0,0 +1,71 @@
+package com.bookbook.global.region;
+
+/**
+ * 주소에서 추출한 정규화된 지역 코드 (시/도 코드, 시/군/구)
+ *
+ * <p>게시글과 회원의 주소를 저장할 때 함께 계산하여 컬럼에 보관하고,
+ * 지역 조건 조회는 주소 LIKE 검색 대신 이 값의 일치 비교로 처리합니다.
+ * <pre>
+ * "서울특별시 강남구 역삼동"  -> (seoul, 강남구)
+ * "경기 성남시 분당구"       -> (gyeonggi, 성남시)
+ * "제주특별자치도"           -> (jeju, null)
+ * </pre>
+ *
+ * @param sido 시/도 코드 (예: "seoul")
+ * @param sigungu 시/군/구 이름 (없으면 null)
+ */
+public record RegionCode(String sido, String sigungu) {
+
+    /**
+     * 인식할 수 없는 지역으로 조회할 때 사용하는 조건 (어떤 게시글과도 일치하지 않음)
+     */
+    public static final RegionCode UNMATCHED = new RegionCode("-", null);
+
+    /**
+     * 주소를 지역 코드로 변환합니다.
+     *
+     * @param address 주소 (예: "서울특별시 강남구 역삼동")
+     * @return 지역 코드 (시/도를 인식할 수 없으면 null)
+     */
+    public static RegionCode parse(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+
+        String[] words = address.trim().split("\\s+");
+        Sido sido = Sido.fromName(words[0]);
+        if (sido == null) {
+            return null;
+        }
+
+        String sigungu = words.length > 1 && isSigungu(words[1]) ? words[1] : null;
+        return new RegionCode(sido.getCode(), sigungu);
+    }
+
+    /**
+     * 지역 필터 값을 조회 조건으로 변환합니다.
+     *
+     * @param region 지역 필터 값 (null이면 조건 없음)
+     * @return 지역 조건 (null이면 조건 없음, 인식할 수 없는 지역이면 {@link #UNMATCHED})
+     */
+    public static RegionCode filterOf(String region) {
+        if (region == null) {
+            return null;
+        }
+        RegionCode code = parse(region);
+        return code != null ? code : UNMATCHED;
+    }
+
+    /**
+     * 주소가 이 지역 조건에 포함되는지 확인합니다. (시/군/구가 없으면 시/도만 비교)
+     */
+    public boolean contains(RegionCode other) {
+        return other != null
+                && sido.equals(other.sido)
+                && (sigungu == null || sigungu.equals(other.sigungu));
+    }
+
+    private static boolean isSigungu(String word) {
+        return word.length() >= 2 && (word.endsWith("시") || word.endsWith("군") || word.endsWith("구"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookbook.global.region;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역 코드 백필 작업
+ *
+ * <p>지역 코드 컬럼이 추가되기 전에 저장된 게시글과 회원은 sido_code가 비어 있으므로,
+ * 애플리케이션 기동 시 요청을 받기 전에({@link com.bookbook.global.migration.StartupBackfill}) 주소로부터 지역 코드를 계산하여 채웁니다.
+ * 500건씩 ID 순서로 나누어 JDBC 배치 UPDATE로 저장하며, 시/도를 인식할 수 없는 주소는 비워 둔 채 건너뜁니다.
+ * (엔티티로 저장하면 행마다 조회가 한 번 더 일어나고 수정 시간이 바뀌어 "최근 수정순" 정렬이 달라지므로 지역 코드 컬럼만 갱신)
+ */
+@Slf4j
+@Component
+public class RegionCodeBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RegionCodeBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void backfill() {
+        try {
+            int rents = backfill("rent", "id");
+            int users = backfill("users", "user_id");
+            if (rents > 0 || users > 0) {
+                log.info("지역 코드 백필 완료 - 게시글: {}건, 회원: {}건", rents, users);
+            }
+        } catch (RuntimeException e) {
+            log.warn("지역 코드 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    // 테이블의 지역 코드가 비어 있는 행을 ID 순서로 나누어 채우고, 채운 행 수를 반환
+    private int backfill(String table, String idColumn) {
+        String select = "SELECT " + idColumn + " AS id, address FROM " + table
+                + " WHERE " + idColumn + " > ? AND address IS NOT NULL AND sido_code IS NULL"
+                + " ORDER BY " + idColumn + " LIMIT " + BATCH_SIZE;
+        String update = "UPDATE " + table + " SET sido_code = ?, sigungu = ? WHERE " + idColumn + " = ?";
+
+        long lastId = 0L;
+        int filled = 0;
+        List<Map<String, Object>> rows;
+        while (!(rows = jdbcTemplate.queryForList(select, lastId)).isEmpty()) {
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                RegionCode regionCode = RegionCode.parse((String) row.get("address"));
+                if (regionCode != null) {
+                    updates.add(new Object[]{regionCode.sido(), regionCode.sigungu(), row.get("id")});
+                }
+            }
+            if (!updates.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(update, updates));
+            }
+
+            filled += updates.size();
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+        return filled;
+    }
+}
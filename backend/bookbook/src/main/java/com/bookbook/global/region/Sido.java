@@ -0,0 +1,67 @@
+package com.bookbook.global.region;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 광역자치단체(시/도)
+ *
+ * <p>주소의 첫 단어를 공식 명칭, 줄임말, 이전 명칭 중 하나로 인식하여
+ * DB에 저장하는 코드(예: "seoul")로 바꿉니다.
+ */
+@Getter
+public enum Sido {
+    SEOUL("seoul", "서울특별시", "서울", "서울시"),
+    BUSAN("busan", "부산광역시", "부산", "부산시"),
+    DAEGU("daegu", "대구광역시", "대구", "대구시"),
+    INCHEON("incheon", "인천광역시", "인천", "인천시"),
+    GWANGJU("gwangju", "광주광역시", "광주", "광주시"),
+    DAEJEON("daejeon", "대전광역시", "대전", "대전시"),
+    ULSAN("ulsan", "울산광역시", "울산", "울산시"),
+    SEJONG("sejong", "세종특별자치시", "세종", "세종시"),
+    GYEONGGI("gyeonggi", "경기도", "경기"),
+    GANGWON("gangwon", "강원특별자치도", "강원", "강원도"),
+    CHUNGBUK("chungbuk", "충청북도", "충북"),
+    CHUNGNAM("chungnam", "충청남도", "충남"),
+    JEONBUK("jeonbuk", "전북특별자치도", "전북", "전라북도"),
+    JEONNAM("jeonnam", "전라남도", "전남"),
+    GYEONGBUK("gyeongbuk", "경상북도", "경북"),
+    GYEONGNAM("gyeongnam", "경상남도", "경남"),
+    JEJU("jeju", "제주특별자치도", "제주", "제주도");
+
+    // 명칭(공식 명칭, 줄임말, 이전 명칭)과 코드 -> 시/도
+    private static final Map<String, Sido> BY_NAME = new HashMap<>();
+
+    static {
+        for (Sido sido : values()) {
+            BY_NAME.put(sido.code, sido);
+            BY_NAME.put(sido.officialName, sido);
+            for (String alias : sido.aliases) {
+                BY_NAME.put(alias, sido);
+            }
+        }
+    }
+
+    private final String code;
+    private final String officialName;
+    private final List<String> aliases;
+
+    Sido(String code, String officialName, String... aliases) {
+        this.code = code;
+        this.officialName = officialName;
+        this.aliases = List.of(aliases);
+    }
+
+    /**
+     * 시/도 명칭 또는 코드로 시/도를 찾습니다.
+     *
+     * @param name 시/도 명칭 (예: "서울특별시", "서울", "seoul")
+     * @return 시/도 (인식할 수 없으면 null)
+     */
+    public static Sido fromName(String name) {
+        return name != null ? BY_NAME.get(name.trim()) : null;
+    }
+}
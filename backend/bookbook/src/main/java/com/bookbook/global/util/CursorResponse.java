@@ -0,0 +1,45 @@
+package com.bookbook.global.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 응답
+ *
+ * <p>전체 개수 대신 다음 페이지 존재 여부와 다음 요청에 사용할 커서만 반환합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    /**
+     * 페이지 크기보다 한 건 더 조회한 결과로 응답을 만듭니다.
+     *
+     * @param rows 페이지 크기 + 1건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param cursorOf 데이터의 커서 위치
+     * @param mapper 응답 DTO 변환 함수
+     * @throws IllegalArgumentException 페이지 크기가 1보다 작은 경우
+     */
+    public static <S, T> CursorResponse<T> of(List<S> rows, int size,
+                                              Function<S, CursorToken> cursorOf, Function<S, T> mapper) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        boolean hasNext = rows.size() > size;
+        List<S> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        List<T> content = pageRows.stream()
+                .map(mapper)
+                .toList();
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookbook.global.util;
+
+import com.bookbook.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 정보 (정렬 시각 + ID)
+ *
+ * <p>클라이언트에는 내부 구조를 알 수 없는 문자열 토큰으로 전달하고,
+ * 다음 요청에서 받은 토큰을 다시 복원하여 그 이후의 데이터만 조회합니다.
+ *
+ * @param time 마지막으로 반환한 데이터의 정렬 기준 시각 (없으면 null)
+ * @param id 마지막으로 반환한 데이터의 ID
+ */
+public record CursorToken(LocalDateTime time, int id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 클라이언트에 전달할 토큰 문자열을 만듭니다.
+     */
+    public String encode() {
+        String raw = (time != null ? time.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 토큰 문자열을 복원합니다.
+     *
+     * @param token 토큰 문자열 (null 또는 빈 값이면 첫 페이지)
+     * @return 복원한 커서 (첫 페이지면 null)
+     * @throws ServiceException 토큰 형식이 올바르지 않은 경우
+     */
+    public static CursorToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String time = raw.substring(0, separator);
+            int id = Integer.parseInt(raw.substring(separator + 1));
+            return new CursorToken(time.isEmpty() ? null : LocalDateTime.parse(time), id);
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-1", "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.bookbook.domain.chat.config;
+
+import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameCache;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import com.bookbook.global.security.CustomOAuth2User;
+import com.bookbook.global.security.jwt.JwtProvider;
+import com.bookbook.global.security.refreshToken.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * WebSocket 연결 인증 테스트
+ * 배포 직후처럼 많은 클라이언트가 한꺼번에 다시 연결해도 JWT 클레임만으로 인증하고 DB를 조회하지 않는지 확인합니다.
+ */
+class WebSocketAuthConfigTest {
+
+    private static final String SECRET_KEY =
+            "YourSuperSecretKeyForJWTGenerationAndValidationThatShouldBeAtLeast256BitsLongAndRandomlyGenerated";
+    private static final int CONNECT_COUNT = 5_000;
+    private static final int THREAD_COUNT = 32;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private JwtProvider jwtProvider;
+    private ChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET_KEY, 3600, 604800, mock(RefreshTokenRepository.class));
+        UserNicknameCache userNicknameCache = new UserNicknameCache(new UserNicknameResolver(userRepository), 10_000, 60);
+
+        ChannelRegistration registration = mock(ChannelRegistration.class);
+        new WebSocketAuthConfig(jwtProvider, userNicknameCache).configureClientInboundChannel(registration);
+
+        ArgumentCaptor<ChannelInterceptor> captor = ArgumentCaptor.forClass(ChannelInterceptor.class);
+        verify(registration).interceptors(captor.capture());
+        interceptor = captor.getValue();
+    }
+
+    private Message<byte[]> connect(String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("cookie", "theme=dark; JWT_TOKEN=" + token);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Long authenticatedUserId(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getUser() instanceof Authentication auth && auth.getPrincipal() instanceof CustomOAuth2User user) {
+            return user.getUserId();
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 5천 개의 CONNECT를 모두 JWT 클레임만으로 인증하고 DB를 조회하지 않는다")
+    void concurrentConnectsDoNotQueryDatabase() throws Exception {
+        List<String> tokens = new ArrayList<>(CONNECT_COUNT);
+        for (long userId = 1; userId <= CONNECT_COUNT; userId++) {
+            tokens.add(jwtProvider.generateAccessToken(userId, "user" + userId, "USER"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>(CONNECT_COUNT);
+        try {
+            for (String token : tokens) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authenticatedUserId(interceptor.preSend(connect(token), channel));
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < CONNECT_COUNT; i++) {
+                assertThat(results.get(i).get(60, TimeUnit.SECONDS)).isEqualTo(i + 1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 토큰으로는 인증되지 않는다")
+    void invalidTokenIsNotAuthenticated() {
+        String token = jwtProvider.generateAccessToken(1L, "user1", "USER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(authenticatedUserId(interceptor.preSend(connect(tampered), channel))).isNull();
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,191 @@
+package com.bookbook.domain.chat.service;
+
+import com.bookbook.domain.chat.entity.ChatMessage;
+import com.bookbook.domain.chat.enums.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 채팅 메시지 지연 저장기 테스트
+ * 메모리 DB(H2)에 실제로 저장하고, 읽지 않은 메시지 수와 채팅방 목록 항목 생성은 mock으로 확인합니다.
+ */
+class ChatMessageWriterTest {
+
+    private static final String ROOM_ID = "room-1";
+    private static final int CONTENT_LENGTH = 20;
+
+    private final AtomicInteger ids = new AtomicInteger(1);
+    private final ChatMessageIdAllocator chatMessageIdAllocator = mock(ChatMessageIdAllocator.class);
+    private final ChatUnreadCounterService chatUnreadCounterService = mock(ChatUnreadCounterService.class);
+    private final ChatInboxService chatInboxService = mock(ChatInboxService.class);
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        // 내용 길이를 제한하여 특정 메시지만 저장에 실패하도록 함
+        jdbcTemplate.execute("CREATE TABLE chat_message (id INT PRIMARY KEY, room_id VARCHAR(255) NOT NULL, " +
+                "sender_id INT NOT NULL, content VARCHAR(" + CONTENT_LENGTH + "), message_type VARCHAR(20) NOT NULL, " +
+                "is_read BOOLEAN NOT NULL, read_time TIMESTAMP, created_date TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE chat_room (room_id VARCHAR(255) PRIMARY KEY, " +
+                "last_message VARCHAR(255), last_message_time TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE chat_inbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, room_id VARCHAR(255), " +
+                "user_id INT, last_message VARCHAR(255), last_message_time TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO chat_room (room_id) VALUES (?)", ROOM_ID);
+        jdbcTemplate.update("INSERT INTO chat_inbox (room_id, user_id) VALUES (?, 1), (?, 2)", ROOM_ID, ROOM_ID);
+
+        when(chatMessageIdAllocator.nextId()).thenAnswer(invocation -> ids.getAndIncrement());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private ChatMessageWriter startWriter(long flushIntervalMs, long parkedRetryIntervalMs) {
+        writer = new ChatMessageWriter(chatMessageIdAllocator, chatUnreadCounterService, chatInboxService,
+                jdbcTemplate, transactionManager, 100, 10, flushIntervalMs, 1, parkedRetryIntervalMs);
+        writer.start();
+        return writer;
+    }
+
+    private ChatMessage enqueue(String content) {
+        ChatMessage message = ChatMessage.builder()
+                .roomId(ROOM_ID)
+                .senderId(1)
+                .content(content)
+                .messageType(MessageType.TEXT)
+                .createdDate(LocalDateTime.now())
+                .build();
+        writer.enqueue(message, content, 2);
+        return message;
+    }
+
+    private List<Integer> storedIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id", Integer.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("조건 대기 시간 초과").isNegative();
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("대기열의 메시지는 모아서 저장되고, 채팅방의 마지막 메시지와 읽지 않은 메시지 수가 갱신된다")
+    void flush() {
+        startWriter(20, 60_000);
+
+        for (int i = 0; i < 15; i++) {
+            enqueue("메시지 " + i);
+        }
+        assertThat(writer.hasPending(ROOM_ID)).isTrue();
+
+        writer.awaitFlushed(ROOM_ID);
+
+        assertThat(writer.hasPending(ROOM_ID)).isFalse();
+        assertThat(storedIds()).hasSize(15);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_message FROM chat_room WHERE room_id = ?", String.class, ROOM_ID))
+                .isEqualTo("메시지 14");
+        assertThat(jdbcTemplate.queryForList("SELECT last_message FROM chat_inbox", String.class))
+                .containsOnly("메시지 14");
+        verify(chatUnreadCounterService, atLeastOnce()).increment(anyMap());
+        verify(chatInboxService, atLeastOnce()).createMissingEntries(anyMap());
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 메시지를 모두 저장한다")
+    void shutdownFlushesRemaining() throws InterruptedException {
+        startWriter(20, 60_000);
+
+        for (int i = 0; i < 50; i++) {
+            enqueue("메시지 " + i);
+        }
+        writer.shutdown();
+        writer = null;
+
+        assertThat(storedIds()).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 메시지만 보류되고 같은 배치의 나머지 메시지는 저장된다")
+    void poisonMessageIsParked() throws InterruptedException {
+        startWriter(20, 60_000);
+
+        ChatMessage first = enqueue("앞 메시지");
+        ChatMessage poison = enqueue("x".repeat(CONTENT_LENGTH + 1));
+        ChatMessage last = enqueue("뒤 메시지");
+        writer.awaitFlushed(ROOM_ID);
+
+        await(() -> writer.parkedCount() == 1);
+        assertThat(storedIds()).containsExactly(first.getId(), last.getId());
+        assertThat(writer.hasPending(ROOM_ID)).isFalse();
+
+        // 종료 시에도 저장하지 못하면 내용을 기록하고 보류 목록을 비움
+        writer.shutdown();
+        assertThat(writer.parkedCount()).isZero();
+        assertThat(storedIds()).doesNotContain(poison.getId());
+        writer = null;
+    }
+
+    @Test
+    @DisplayName("보류된 메시지는 저장할 수 있게 되면 다음 재시도 주기에 저장된다")
+    void parkedMessageIsRetried() throws InterruptedException {
+        startWriter(20, 100);
+
+        ChatMessage poison = enqueue("x".repeat(CONTENT_LENGTH + 1));
+        await(() -> writer.parkedCount() == 1);
+
+        jdbcTemplate.execute("ALTER TABLE chat_message ALTER COLUMN content VARCHAR(255)");
+
+        // 재시도 중에는 보류 목록을 비워 두므로 저장 결과로 확인
+        await(() -> !storedIds().isEmpty());
+        assertThat(storedIds()).containsExactly(poison.getId());
+        assertThat(writer.parkedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("받는 사람별 읽지 않은 메시지 수는 배치 안에서 합쳐서 늘린다")
+    void incrementsAreMerged() {
+        // 배치 크기(10)보다 적게, 저장 간격 안에 보내 한 배치로 저장되도록 함
+        startWriter(500, 60_000);
+
+        for (int i = 0; i < 5; i++) {
+            enqueue("메시지 " + i);
+        }
+        writer.awaitFlushed(ROOM_ID);
+
+        verify(chatUnreadCounterService).increment(Map.of(new ChatUnreadCounterService.CounterKey(ROOM_ID, 2), 5));
+    }
+}
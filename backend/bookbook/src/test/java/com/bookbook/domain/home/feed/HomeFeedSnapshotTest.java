@@ -0,0 +1,145 @@
+package com.bookbook.domain.home.feed;
+
+import com.bookbook.domain.home.repository.BookRepository;
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.event.RentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 메인페이지 스냅샷 테스트
+ * 게시글 상태가 여러 스레드에서 바뀌는 동안 지역 피드를 읽어도 항상 일관된 값을 보고,
+ * 변경이 끝난 뒤에는 지역별 피드가 게시글의 최종 상태와 일치하는지 확인합니다.
+ */
+class HomeFeedSnapshotTest {
+
+    private static final String[] ADDRESSES = {"서울특별시 강남구 역삼동", "부산광역시 해운대구", "경기도 성남시 분당구"};
+    private static final String[] REGIONS = {HomeFeedSnapshot.ALL_REGIONS, "seoul", "busan", "gyeonggi"};
+    private static final int RENT_COUNT = 120;
+    private static final int WRITER_COUNT = 4;
+    private static final int FLIPS_PER_WRITER = 5_000;
+    private static final int READER_COUNT = 4;
+
+    private HomeFeedSnapshot snapshot;
+    private List<Rent> rents;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new HomeFeedSnapshot(mock(BookRepository.class));
+
+        rents = new ArrayList<>();
+        for (int id = 1; id <= RENT_COUNT; id++) {
+            Rent rent = Rent.builder()
+                    .bookTitle("책 " + id)
+                    .bookImage("https://image/" + id)
+                    .address(ADDRESSES[id % ADDRESSES.length])
+                    .rentStatus(RentStatus.AVAILABLE)
+                    .build();
+            ReflectionTestUtils.setField(rent, "id", id);
+            rent.applyRegionCode(); // 저장 시 계산되는 지역 코드 (최종 상태 비교용)
+            rents.add(rent);
+            snapshot.onRentChanged(new RentChangedEvent(rent));
+        }
+
+        // 지역 피드를 미리 계산해 두어 이후 변경이 증분 반영되도록 함
+        for (String region : REGIONS) {
+            snapshot.feed(region);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 상태가 동시에 바뀌는 동안 읽은 피드는 일관되고, 끝난 뒤 지역별 피드는 최종 상태와 일치한다")
+    void concurrentStatusChanges() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<Integer>> readers = new ArrayList<>();
+        try {
+            // 작성 스레드마다 서로 다른 게시글의 상태를 무작위로 바꿈
+            for (int w = 0; w < WRITER_COUNT; w++) {
+                List<Rent> owned = ownedBy(w);
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < FLIPS_PER_WRITER; i++) {
+                        Rent rent = owned.get(random.nextInt(owned.size()));
+                        rent.setRentStatus(rent.getRentStatus() == RentStatus.AVAILABLE
+                                ? RentStatus.LOANED : RentStatus.AVAILABLE);
+                        snapshot.onRentChanged(new RentChangedEvent(rent));
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < READER_COUNT; r++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+                    int reads = 0;
+                    while (writing.get()) {
+                        for (String region : REGIONS) {
+                            assertConsistent(region, snapshot.feed(region));
+                            reads++;
+                        }
+                    }
+                    return reads;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        }
+        for (Future<Integer> reader : readers) {
+            assertThat(reader.get()).isPositive();
+        }
+
+        for (String region : REGIONS) {
+            List<Long> expected = rents.stream()
+                    .filter(rent -> rent.getRentStatus() == RentStatus.AVAILABLE)
+                    .filter(rent -> HomeFeedSnapshot.ALL_REGIONS.equals(region) || region.equals(rent.getSidoCode()))
+                    .map(rent -> (long) rent.getId())
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+
+            HomeFeedSnapshot.RegionFeed feed = snapshot.feed(region);
+            assertThat(feed.count()).as(region).isEqualTo(expected.size());
+            assertThat(feed.latest()).extracting(HomeFeedSnapshot.HomeBook::id).as(region)
+                    .containsExactlyElementsOf(expected.subList(0, Math.min(5, expected.size())));
+        }
+    }
+
+    private List<Rent> ownedBy(int writer) {
+        List<Rent> owned = new ArrayList<>();
+        for (int i = writer; i < rents.size(); i += WRITER_COUNT) {
+            owned.add(rents.get(i));
+        }
+        return owned;
+    }
+
+    // 한 번 읽은 피드 안에서 최신 도서 목록과 개수가 서로 맞는지 확인
+    private static void assertConsistent(String region, HomeFeedSnapshot.RegionFeed feed) {
+        assertThat(feed.count()).isBetween(0L, (long) RENT_COUNT);
+        assertThat(feed.latest()).hasSize((int) Math.min(5, feed.count()));
+        assertThat(feed.latest()).extracting(HomeFeedSnapshot.HomeBook::id)
+                .isSortedAccordingTo(Comparator.reverseOrder())
+                .doesNotHaveDuplicates();
+        assertThat(feed.latest()).allMatch(book -> HomeFeedSnapshot.ALL_REGIONS.equals(region) || region.equals(book.sido()));
+    }
+}
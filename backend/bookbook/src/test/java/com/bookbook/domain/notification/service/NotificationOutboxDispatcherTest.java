@@ -0,0 +1,181 @@
+package com.bookbook.domain.notification.service;
+
+import com.bookbook.domain.notification.entity.NotificationOutbox;
+import com.bookbook.domain.notification.enums.NotificationType;
+import com.bookbook.domain.notification.repository.NotificationOutboxReceiverRepository;
+import com.bookbook.domain.notification.repository.NotificationOutboxRepository;
+import com.bookbook.domain.notification.sse.NotificationEmitterRegistry;
+import com.bookbook.domain.user.entity.User;
+import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 발송기 테스트
+ * 발송기는 이벤트마다 별도 트랜잭션을 사용하므로 테스트 트랜잭션 없이 실행하고, 매 테스트 후 데이터를 지웁니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox_dispatcher_test;MODE=MySQL")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(NotificationOutboxReceiverRepository.class)
+class NotificationOutboxDispatcherTest {
+
+    private static final long UNKNOWN_USER_ID = 999_999L;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired
+    private NotificationOutboxReceiverRepository notificationOutboxReceiverRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final NotificationEmitterRegistry notificationEmitterRegistry = mock(NotificationEmitterRegistry.class);
+    private final UserNicknameResolver userNicknameResolver = mock(UserNicknameResolver.class);
+
+    private TransactionTemplate transactionTemplate;
+    private User sender;
+    private User receiver1;
+    private User receiver2;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        sender = userRepository.save(User.builder().username("sender").password("pw").build());
+        receiver1 = userRepository.save(User.builder().username("receiver1").password("pw").build());
+        receiver2 = userRepository.save(User.builder().username("receiver2").password("pw").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM notification");
+            jdbcTemplate.update("DELETE FROM notification_outbox_receiver");
+            jdbcTemplate.update("DELETE FROM notification_outbox");
+            jdbcTemplate.update("DELETE FROM users");
+        });
+    }
+
+    private NotificationOutboxDispatcher dispatcher(int batchSize, int maxAttempts) {
+        return new NotificationOutboxDispatcher(notificationOutboxRepository, notificationOutboxReceiverRepository,
+                notificationEmitterRegistry, userNicknameResolver, jdbcTemplate, transactionManager, batchSize, maxAttempts);
+    }
+
+    private Long enqueue(String message, List<Long> receiverIds) {
+        return transactionTemplate.execute(status -> {
+            NotificationOutbox event = notificationOutboxRepository.save(new NotificationOutbox(sender.getId(),
+                    NotificationType.RENT_REJECTED, message, "책 제목", null, 1L));
+            notificationOutboxReceiverRepository.insertAll(event.getId(), receiverIds);
+            return event.getId();
+        });
+    }
+
+    private Integer count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    @DisplayName("이벤트의 받는 사람마다 알림을 만들고, 처리한 이벤트와 받는 사람을 삭제한다")
+    void dispatch() {
+        enqueue("여러 명에게", List.of(receiver1.getId(), receiver2.getId()));
+        enqueue("한 명에게", List.of(receiver2.getId()));
+        when(notificationEmitterRegistry.isConnected(receiver1.getId())).thenReturn(true);
+
+        dispatcher(100, 5).dispatch();
+
+        assertThat(jdbcTemplate.queryForList("SELECT receiver_id FROM notification ORDER BY id", Long.class))
+                .containsExactly(receiver1.getId(), receiver2.getId(), receiver2.getId());
+        assertThat(count("notification_outbox")).isZero();
+        assertThat(count("notification_outbox_receiver")).isZero();
+
+        // 알림 스트림에 연결된 사용자에게만 바로 전달
+        verify(notificationEmitterRegistry).publish(eq(receiver1.getId()), any());
+        verify(notificationEmitterRegistry).publishUnreadDelta(receiver1.getId(), 1);
+        verify(notificationEmitterRegistry, never()).publish(eq(receiver2.getId()), any());
+    }
+
+    @Test
+    @DisplayName("batch-size보다 많은 이벤트도 한 주기에 모두 처리한다")
+    void dispatchAllBatches() {
+        for (int i = 0; i < 7; i++) {
+            enqueue("알림 " + i, List.of(receiver1.getId()));
+        }
+
+        dispatcher(3, 5).dispatch();
+
+        assertThat(count("notification")).isEqualTo(7);
+        assertThat(count("notification_outbox")).isZero();
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 이벤트만 실패로 기록되고 같은 배치의 다른 이벤트는 발송된다")
+    void poisonEventIsIsolated() {
+        enqueue("정상 1", List.of(receiver1.getId()));
+        Long poisonId = enqueue("받는 사람 없음", List.of(UNKNOWN_USER_ID));
+        enqueue("정상 2", List.of(receiver2.getId()));
+
+        dispatcher(100, 5).dispatch();
+
+        assertThat(jdbcTemplate.queryForList("SELECT message FROM notification ORDER BY id", String.class))
+                .containsExactly("정상 1", "정상 2");
+
+        NotificationOutbox poison = notificationOutboxRepository.findById(poisonId).orElseThrow();
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(poison.getLastError()).isNotBlank();
+        assertThat(poison.getNextAttemptAt()).isNotNull();
+        assertThat(poison.getParkedAt()).isNull();
+
+        // 다시 시도할 시간이 되기 전에는 처리하지 않음
+        assertThat(dispatcher(100, 5).dispatchNext()).isZero();
+        assertThat(notificationOutboxRepository.findById(poisonId).orElseThrow().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 이벤트는 보류되어 더 이상 처리하지 않는다")
+    void poisonEventIsParked() {
+        Long poisonId = enqueue("받는 사람 없음", List.of(UNKNOWN_USER_ID));
+
+        NotificationOutboxDispatcher dispatcher = dispatcher(100, 1);
+        dispatcher.dispatch();
+
+        NotificationOutbox poison = notificationOutboxRepository.findById(poisonId).orElseThrow();
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(poison.getParkedAt()).isNotNull();
+
+        // 보류된 이벤트가 남아 있어도 새 이벤트는 발송됨
+        enqueue("새 알림", List.of(receiver1.getId()));
+        dispatcher.dispatch();
+
+        assertThat(jdbcTemplate.queryForList("SELECT message FROM notification", String.class)).containsExactly("새 알림");
+        assertThat(notificationOutboxRepository.findById(poisonId)).isPresent();
+        verify(notificationEmitterRegistry, never()).publishUnreadDelta(eq(UNKNOWN_USER_ID), anyLong());
+    }
+}
@@ -0,0 +1,152 @@
+package com.bookbook.domain.notification.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 SSE 연결 레지스트리 테스트
+ * 연결 1만 개를 동시에 등록한 뒤 모든 사용자에게 이벤트를 보내 모든 연결이 받는지,
+ * 한 사용자가 동시에 많이 연결해도 max-emitters-per-user개만 남고 나머지는 닫히는지 확인합니다.
+ */
+class NotificationEmitterRegistryTest {
+
+    private static final int USER_COUNT = 2_000;
+    private static final int MAX_EMITTERS_PER_USER = 5;
+    private static final int EMITTER_COUNT = USER_COUNT * MAX_EMITTERS_PER_USER;
+    private static final int THREAD_COUNT = 16;
+
+    private final Map<Long, List<RecordingEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private NotificationEmitterRegistry registry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new NotificationEmitterRegistry(60_000, MAX_EMITTERS_PER_USER, 4, 20_000) {
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter(timeoutMs);
+            }
+        };
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결 1만 개를 동시에 등록하고 모든 사용자에게 보낸 이벤트를 모든 연결이 받는다")
+    void fanOutToTenThousandEmitters() throws Exception {
+        List<Callable<Void>> registrations = new ArrayList<>(EMITTER_COUNT);
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < MAX_EMITTERS_PER_USER; i++) {
+                long id = userId;
+                registrations.add(() -> {
+                    register(id);
+                    return null;
+                });
+            }
+        }
+        runAll(registrations);
+        assertThat(registry.emitterCount()).isEqualTo(EMITTER_COUNT);
+
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            registry.publishUnreadDelta(userId, 1);
+        }
+        registry.heartbeat();
+
+        awaitAllSends(allEmitters(), 2);
+        assertThat(allEmitters()).allMatch(emitter -> emitter.sends.get() == 2 && !emitter.completed);
+    }
+
+    @Test
+    @DisplayName("한 사용자가 동시에 많이 연결해도 최근 연결만 max-emitters-per-user개 남기고 나머지는 닫는다")
+    void perUserCapUnderConcurrentRegistrations() throws Exception {
+        long userId = 1L;
+        long otherUserId = 2L;
+        register(otherUserId);
+
+        int connectCount = 50;
+        List<Callable<Void>> registrations = new ArrayList<>(connectCount);
+        for (int i = 0; i < connectCount; i++) {
+            registrations.add(() -> {
+                register(userId);
+                return null;
+            });
+        }
+        runAll(registrations);
+
+        List<RecordingEmitter> emitters = emittersByUser.get(userId);
+        List<RecordingEmitter> open = emitters.stream().filter(emitter -> !emitter.completed).toList();
+        assertThat(open).hasSize(MAX_EMITTERS_PER_USER);
+        assertThat(registry.emitterCount()).isEqualTo(MAX_EMITTERS_PER_USER + 1);
+
+        // 닫힌 연결에는 보내지 않고, 남은 연결에만 보냄
+        registry.publishUnreadDelta(userId, 1);
+        awaitAllSends(open, 1);
+        assertThat(emitters).filteredOn(emitter -> emitter.completed)
+                .hasSize(connectCount - MAX_EMITTERS_PER_USER)
+                .allMatch(emitter -> emitter.sends.get() == 0);
+        assertThat(emittersByUser.get(otherUserId)).allMatch(emitter -> emitter.sends.get() == 0);
+    }
+
+    private void register(long userId) {
+        RecordingEmitter emitter = (RecordingEmitter) registry.register(userId);
+        emittersByUser.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+    }
+
+    private void runAll(List<Callable<Void>> tasks) throws Exception {
+        for (Future<Void> result : executor.invokeAll(tasks)) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private List<RecordingEmitter> allEmitters() {
+        return emittersByUser.values().stream().flatMap(List::stream).toList();
+    }
+
+    // 전송 스레드에서 비동기로 보내므로 모든 연결이 받을 때까지 기다림
+    private static void awaitAllSends(List<RecordingEmitter> emitters, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline
+                && !emitters.stream().allMatch(emitter -> emitter.sends.get() >= expected)) {
+            Thread.sleep(10);
+        }
+        assertThat(emitters).allMatch(emitter -> emitter.sends.get() >= expected);
+    }
+
+    // 실제 응답 대신 보낸 이벤트 수와 닫힘 여부만 기록하는 연결
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final AtomicInteger sends = new AtomicInteger();
+        private volatile boolean completed;
+
+        RecordingEmitter(long timeoutMs) {
+            super(timeoutMs);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sends.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookbook.domain.rent.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanTokenizerTest {
+
+    @Test
+    @DisplayName("정규화는 소문자로 바꾸고 모든 공백을 제거한다")
+    void normalize() {
+        assertThat(KoreanTokenizer.normalize(" 해리 포터\tAND  the ")).isEqualTo("해리포터andthe");
+        assertThat(KoreanTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 음절만 초성으로 바뀐다")
+    void choseong() {
+        assertThat(KoreanTokenizer.choseong("해리포터")).isEqualTo("ㅎㄹㅍㅌ");
+        assertThat(KoreanTokenizer.choseong("까치java2")).isEqualTo("ㄲㅊjava2");
+    }
+
+    @Test
+    @DisplayName("색인 토큰은 원문과 초성 키의 unigram, bigram이다")
+    void indexTokens() {
+        assertThat(KoreanTokenizer.indexTokens("해리 포터")).containsExactlyInAnyOrder(
+                "해", "리", "포", "터", "해리", "리포", "포터",
+                "ㅎ", "ㄹ", "ㅍ", "ㅌ", "ㅎㄹ", "ㄹㅍ", "ㅍㅌ");
+    }
+
+    @Test
+    @DisplayName("검색 토큰은 bigram이고, 한 글자 검색어는 unigram, 입력 중인 마지막 초성은 제외된다")
+    void queryTokens() {
+        assertThat(KoreanTokenizer.queryTokens("해리 포터")).containsExactly("해리", "리포", "포터");
+        assertThat(KoreanTokenizer.queryTokens("해")).containsExactly("해");
+        assertThat(KoreanTokenizer.queryTokens("해리ㅍ")).containsExactly("해리");
+        assertThat(KoreanTokenizer.queryTokens("ㅎㄹ")).containsExactly("ㅎㄹ");
+        assertThat(KoreanTokenizer.queryTokens(" ")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "해리포터, true",
+            "리포, true",
+            "ㅎㄹㅍㅌ, true",
+            "ㄹㅍ, true",
+            "해리ㅍ, true",
+            "해리ㅌ, false",
+            "포터ㅎ, false",
+            "해리포터와, false",
+            "ㅎㅍ, false"
+    })
+    @DisplayName("검색어는 원문, 초성, 입력 중인 음절로 일치 여부를 판단한다")
+    void matches(String query, boolean expected) {
+        String normalized = KoreanTokenizer.normalize("해리 포터");
+
+        assertThat(KoreanTokenizer.matches(normalized, KoreanTokenizer.choseong(normalized),
+                KoreanTokenizer.normalize(query))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 모든 필드와 일치한다")
+    void matchesEmptyQuery() {
+        assertThat(KoreanTokenizer.matches("해리포터", "ㅎㄹㅍㅌ", "")).isTrue();
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절은 앞부분이 여러 번 나와도 뒤쪽 위치까지 비교한다")
+    void matchesPartialSyllableAtLaterPosition() {
+        String normalized = KoreanTokenizer.normalize("책책방");
+
+        assertThat(KoreanTokenizer.matches(normalized, KoreanTokenizer.choseong(normalized), "책ㅂ")).isTrue();
+    }
+}
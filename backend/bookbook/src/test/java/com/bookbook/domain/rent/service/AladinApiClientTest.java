@@ -0,0 +1,124 @@
+package com.bookbook.domain.rent.service;
+
+import com.bookbook.global.exception.ServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 알라딘 API 클라이언트 제한 시간 테스트
+ * 일부러 느리게 응답하는 로컬 스텁 HTTP 서버로, 느린 응답이 제한 시간 안에 실패하고
+ * 느린 호출이 쌓여 있어도 다른 호출과 호출한 스레드가 묶이지 않는지 확인합니다.
+ */
+class AladinApiClientTest {
+
+    private static final long READ_TIMEOUT_MS = 1_000;
+    private static final long STUB_DELAY_MS = 5_000;
+    private static final byte[] EMPTY_RESULT = "{\"item\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private AladinApiClient aladinApiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ttb/api/ItemSearch.aspx", this::handleSearch);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        aladinApiClient = new AladinApiClient("test-key", "http://127.0.0.1:" + server.getAddress().getPort(),
+                1_000, READ_TIMEOUT_MS, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aladinApiClient.shutdown();
+        server.stop(0);
+    }
+
+    // 검색어가 "slow-header"면 응답 헤더를, "slow-body"면 본문 일부를 보낸 뒤 나머지를 늦게 보냄
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        try {
+            if (query.contains("Query=slow-header")) {
+                Thread.sleep(STUB_DELAY_MS);
+            }
+            exchange.sendResponseHeaders(200, EMPTY_RESULT.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (query.contains("Query=slow-body")) {
+                    out.write(EMPTY_RESULT, 0, 3);
+                    out.flush();
+                    Thread.sleep(STUB_DELAY_MS);
+                    out.write(EMPTY_RESULT, 3, EMPTY_RESULT.length - 3);
+                } else {
+                    out.write(EMPTY_RESULT);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 제한 시간 초과로 연결을 끊은 경우
+        }
+    }
+
+    @Test
+    @DisplayName("응답 헤더가 늦으면 제한 시간이 지난 뒤 504 오류로 실패한다")
+    void slowHeaderTimesOut() {
+        assertTimesOut(aladinApiClient.searchItems("slow-header", 1));
+    }
+
+    @Test
+    @DisplayName("본문을 보내다 멈추면 남은 제한 시간이 지난 뒤 504 오류로 실패한다")
+    void slowBodyTimesOut() {
+        assertTimesOut(aladinApiClient.searchItems("slow-body", 1));
+    }
+
+    @Test
+    @DisplayName("느린 호출이 쌓여 있어도 호출한 스레드는 바로 반환되고 다른 호출은 정상적으로 처리된다")
+    void slowCallsDoNotBlockOthers() {
+        long callStart = System.nanoTime();
+        List<CompletableFuture<?>> slowCalls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            slowCalls.add(aladinApiClient.searchItems("slow-header", 1));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - callStart)).isLessThan(READ_TIMEOUT_MS);
+
+        long fastStart = System.nanoTime();
+        List<CompletableFuture<?>> fastCalls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            fastCalls.add(aladinApiClient.searchItems("fast-" + i, 1));
+        }
+        CompletableFuture.allOf(fastCalls.toArray(CompletableFuture[]::new)).join();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fastStart)).isLessThan(READ_TIMEOUT_MS * 3);
+
+        slowCalls.forEach(AladinApiClientTest::assertTimesOut);
+    }
+
+    // 제한 시간보다 조금 늦게까지는 기다리되, 스텁의 지연 시간보다는 먼저 504 오류로 끝나야 함
+    private static void assertTimesOut(CompletableFuture<?> call) {
+        long start = System.nanoTime();
+        assertThatThrownBy(call::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(ServiceException.class)
+                .hasMessageStartingWith("504-1");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(STUB_DELAY_MS / 2);
+    }
+}
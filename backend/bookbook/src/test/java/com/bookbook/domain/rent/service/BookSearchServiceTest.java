@@ -0,0 +1,134 @@
+package com.bookbook.domain.rent.service;
+
+import com.bookbook.domain.bookCatalog.service.BookCatalogService;
+import com.bookbook.domain.rent.dto.BookSearchResponseDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 알라딘 도서 검색 캐시 테스트
+ * 알라딘 API 대신 로컬 스텁 HTTP 서버를 띄워, 캐시 적중/미스와 동시 요청 합치기를 스텁이 받은 요청 수로 확인합니다.
+ */
+class BookSearchServiceTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private volatile long responseDelayMs;
+    private volatile int responseStatus = 200;
+
+    private HttpServer server;
+    private AladinApiClient aladinApiClient;
+    private BookSearchService bookSearchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ttb/api/ItemSearch.aspx", this::handleSearch);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        aladinApiClient = new AladinApiClient("test-key", "http://127.0.0.1:" + server.getAddress().getPort(),
+                1_000, 5_000, 20);
+        bookSearchService = new BookSearchService(aladinApiClient, mock(BookCatalogService.class), 100, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aladinApiClient.shutdown();
+        server.stop(0);
+    }
+
+    // 검색어를 제목으로 하는 책 한 권을 반환
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        upstreamCalls.incrementAndGet();
+        String query = UriUtils.decode(UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                .getQueryParams().getFirst("Query"), StandardCharsets.UTF_8);
+        try {
+            Thread.sleep(responseDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = ("{\"item\":[{\"title\":\"" + query + "\",\"author\":\"저자 (지은이)\"," +
+                "\"categoryName\":\"국내도서>소설\"}]}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("정규화한 검색어와 시작 위치가 같으면 캐시된 결과를 사용한다")
+    void hitAndMiss() {
+        List<BookSearchResponseDto> first = bookSearchService.searchBooks("해리 포터", 1);
+        List<BookSearchResponseDto> second = bookSearchService.searchBooks("  해리   포터 ", 1);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(BookSearchResponseDto::getBookTitle).containsExactly("해리 포터");
+        assertThat(bookSearchService.getCacheStats().missCount()).isEqualTo(1);
+        assertThat(bookSearchService.getCacheStats().hitCount()).isEqualTo(1);
+
+        // 시작 위치가 다르면 다른 결과이므로 다시 호출
+        bookSearchService.searchBooks("해리 포터", 2);
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(bookSearchService.getCacheStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 검색어로 동시에 들어온 요청은 알라딘 호출 한 번의 결과를 함께 사용한다")
+    void concurrentRequestsAreCoalesced() throws Exception {
+        responseDelayMs = 300;
+        int requestCount = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<BookSearchResponseDto>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookSearchService.searchBooks("채식주의자", 1);
+                }));
+            }
+            start.countDown();
+
+            for (Future<List<BookSearchResponseDto>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 조회 결과는 캐시하지 않는다")
+    void failuresAreNotCached() {
+        responseStatus = 500;
+        assertThatThrownBy(() -> bookSearchService.searchBooks("토지", 1)).isInstanceOf(RuntimeException.class);
+
+        responseStatus = 200;
+        assertThat(bookSearchService.searchBooks("토지", 1)).hasSize(1);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+}
@@ -0,0 +1,189 @@
+package com.bookbook.domain.rentList.service;
+
+import com.bookbook.domain.notification.enums.NotificationType;
+import com.bookbook.domain.notification.service.NotificationService;
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.domain.rentList.dto.RentRequestDecisionDto;
+import com.bookbook.domain.rentList.entity.RentList;
+import com.bookbook.domain.rentList.entity.RentRequestStatus;
+import com.bookbook.domain.rentList.repository.RentListRepository;
+import com.bookbook.domain.review.repository.ReviewRepository;
+import com.bookbook.domain.user.entity.User;
+import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 대여 신청 동시 수락 테스트
+ * 같은 책의 대기 중인 신청 200건을 여러 스레드에서 동시에 수락하여, 게시글 잠금으로 한 건만 수락되고
+ * 나머지 신청은 모두 한 번에 거절되는지 확인합니다.
+ * 서비스의 트랜잭션 대신 요청마다 별도 트랜잭션으로 호출하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:rent_list_concurrency_test;MODE=MySQL;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RentListServiceConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 200;
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private RentListRepository rentListRepository;
+    @Autowired
+    private RentRepository rentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+
+    private TransactionTemplate transactionTemplate;
+    private RentListService rentListService;
+    private User lender;
+    private Rent rent;
+    private List<RentList> requests;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        rentListService = new RentListService(rentListRepository, userRepository, mock(UserNicknameResolver.class),
+                rentRepository, notificationService, reviewRepository, mock(ApplicationEventPublisher.class));
+
+        lender = userRepository.save(User.builder().username("lender").password("pw").build());
+        rent = rentRepository.save(Rent.builder()
+                .lenderUserId(lender.getId())
+                .title("대여 게시글")
+                .bookTitle("책 제목")
+                .rentStatus(RentStatus.AVAILABLE)
+                .build());
+
+        List<User> borrowers = userRepository.saveAll(IntStream.range(0, REQUEST_COUNT)
+                .mapToObj(i -> User.builder().username("borrower" + i).password("pw").build())
+                .toList());
+        requests = rentListRepository.saveAll(borrowers.stream()
+                .map(borrower -> {
+                    RentList request = new RentList();
+                    request.setBorrowerUser(borrower);
+                    request.setRent(rent);
+                    return request;
+                })
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM rent_list");
+            jdbcTemplate.update("DELETE FROM rent");
+            jdbcTemplate.update("DELETE FROM users");
+        });
+    }
+
+    @Test
+    @DisplayName("같은 책의 신청을 동시에 수락하면 한 건만 수락되고 나머지 신청은 모두 거절된다")
+    void concurrentApprovals() throws Exception {
+        RentRequestDecisionDto approve = new RentRequestDecisionDto();
+        approve.setApproved(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            // 모든 신청을 동시에 수락 시도
+            for (RentList request : requests) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transactionTemplate.execute(status ->
+                                rentListService.decideRentRequest((long) request.getId(), approve, lender));
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        }
+
+        int approved = 0;
+        for (Future<Boolean> result : results) {
+            approved += result.get() ? 1 : 0;
+        }
+        assertThat(approved).isEqualTo(1);
+
+        assertThat(countByStatus(RentRequestStatus.APPROVED)).isEqualTo(1);
+        assertThat(countByStatus(RentRequestStatus.REJECTED)).isEqualTo(REQUEST_COUNT - 1);
+        assertThat(countByStatus(RentRequestStatus.PENDING)).isZero();
+        assertThat(rentRepository.findById(rent.getId()).orElseThrow().getRentStatus()).isEqualTo(RentStatus.LOANED);
+
+        // 거절된 신청자 전원에게 발송 대기 이벤트 한 건으로 알림
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> rejected = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationService).enqueueNotification(rejected.capture(), eq(null), eq(NotificationType.RENT_REJECTED),
+                anyString(), anyString(), any(), anyLong());
+        assertThat(rejected.getValue()).hasSize(REQUEST_COUNT - 1).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("대기 중인 신청만 한 번에 거절하고 거절된 신청자 ID를 반환한다")
+    void rejectPendingRequests() {
+        RentList approved = requests.get(0);
+        transactionTemplate.executeWithoutResult(status -> {
+            RentList request = rentListRepository.findById((long) approved.getId()).orElseThrow();
+            request.setStatus(RentRequestStatus.APPROVED);
+        });
+
+        List<Long> rejected = transactionTemplate.execute(status -> rentListService.rejectPendingRequests(rent.getId()));
+
+        assertThat(rejected).hasSize(REQUEST_COUNT - 1).doesNotContain(approved.getBorrowerUser().getId());
+        assertThat(countByStatus(RentRequestStatus.APPROVED)).isEqualTo(1);
+        assertThat(countByStatus(RentRequestStatus.PENDING)).isZero();
+
+        // 더 이상 대기 중인 신청이 없으면 아무 것도 거절하지 않음
+        List<Long> rejectedAgain = transactionTemplate.execute(status -> rentListService.rejectPendingRequests(rent.getId()));
+        assertThat(rejectedAgain).isEmpty();
+    }
+
+    private Integer countByStatus(RentRequestStatus status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rent_list WHERE status = ?", Integer.class, status.name());
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookbook.domain.wishList.service;
+
+import com.bookbook.domain.rent.entity.Rent;
+import com.bookbook.domain.rent.entity.RentStatus;
+import com.bookbook.domain.rent.repository.RentRepository;
+import com.bookbook.domain.user.entity.User;
+import com.bookbook.domain.user.repository.UserRepository;
+import com.bookbook.domain.user.service.UserNicknameResolver;
+import com.bookbook.domain.wishList.dto.WishListResponseDto;
+import com.bookbook.domain.wishList.entity.WishList;
+import com.bookbook.domain.wishList.repository.WishListRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 찜 목록 조회 쿼리 수 테스트
+ * Hibernate 통계로 실행된 SQL 문 수를 세어, 목록 크기와 관계없이 작성자 닉네임을 한 번의 조회로 가져오는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wish_list_query_count_test;MODE=MySQL",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WishListServiceQueryCountTest {
+
+    @Autowired
+    private WishListRepository wishListRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RentRepository rentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private WishListService wishListService;
+    private Statistics statistics;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        wishListService = new WishListService(wishListRepository, userRepository,
+                new UserNicknameResolver(userRepository), rentRepository);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(User.builder().username("owner").password("pw").nickname("찜한 사람").build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("찜 목록은 항목 수와 관계없이 찜 목록 조회 한 번과 작성자 조회 한 번으로 만든다")
+    void constantQueriesPerPage(int size) {
+        for (int i = 0; i < size; i++) {
+            // 항목마다 작성자가 달라 항목별로 조회하면 쿼리 수가 늘어남
+            User lender = userRepository.save(User.builder()
+                    .username("lender" + i).password("pw").nickname("작성자" + i).build());
+            Rent rent = rentRepository.save(Rent.builder()
+                    .lenderUserId(lender.getId())
+                    .title("대여 게시글 " + i)
+                    .bookTitle("책 " + i)
+                    .author("저자")
+                    .publisher("출판사")
+                    .rentStatus(RentStatus.AVAILABLE)
+                    .build());
+
+            WishList wishList = new WishList();
+            wishList.setUser(owner);
+            wishList.setRent(rent);
+            wishListRepository.save(wishList);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<WishListResponseDto> wishLists = wishListService.getWishListByUserId(owner.getId());
+
+        assertThat(wishLists).hasSize(size)
+                .extracting(WishListResponseDto::lenderNickname)
+                .allMatch(nickname -> nickname.startsWith("작성자"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
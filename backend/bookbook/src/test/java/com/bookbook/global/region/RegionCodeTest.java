@@ -0,0 +1,63 @@
+package com.bookbook.global.region;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionCodeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "서울특별시 강남구 역삼동, seoul, 강남구",
+            "서울 강남구, seoul, 강남구",
+            "경기 성남시 분당구, gyeonggi, 성남시",
+            "강원도 춘천시, gangwon, 춘천시",
+            "전라북도 전주시 완산구, jeonbuk, 전주시",
+            "'  부산광역시   해운대구 ', busan, 해운대구"
+    })
+    @DisplayName("공식 명칭, 줄임말, 이전 명칭 모두 같은 지역 코드로 변환된다")
+    void parse(String address, String sido, String sigungu) {
+        assertThat(RegionCode.parse(address)).isEqualTo(new RegionCode(sido, sigungu));
+    }
+
+    @Test
+    @DisplayName("시/군/구가 없거나 시/군/구가 아닌 단어면 시/도만 변환된다")
+    void parseSidoOnly() {
+        assertThat(RegionCode.parse("제주특별자치도")).isEqualTo(new RegionCode("jeju", null));
+        assertThat(RegionCode.parse("세종특별자치시 한솔동")).isEqualTo(new RegionCode("sejong", null));
+    }
+
+    @Test
+    @DisplayName("시/도를 인식할 수 없으면 null을 반환한다")
+    void parseUnknown() {
+        assertThat(RegionCode.parse(null)).isNull();
+        assertThat(RegionCode.parse("  ")).isNull();
+        assertThat(RegionCode.parse("강남구 역삼동")).isNull();
+        assertThat(RegionCode.parse("Seoul")).isNull();
+    }
+
+    @Test
+    @DisplayName("인식할 수 없는 지역 필터는 어떤 게시글과도 일치하지 않는 조건이 된다")
+    void filterOf() {
+        assertThat(RegionCode.filterOf(null)).isNull();
+        assertThat(RegionCode.filterOf("서울")).isEqualTo(new RegionCode("seoul", null));
+        assertThat(RegionCode.filterOf("어딘가")).isEqualTo(RegionCode.UNMATCHED);
+    }
+
+    @Test
+    @DisplayName("시/군/구가 없는 조건은 같은 시/도의 모든 주소를 포함한다")
+    void contains() {
+        RegionCode seoul = RegionCode.parse("서울");
+        RegionCode gangnam = RegionCode.parse("서울 강남구");
+
+        assertThat(seoul.contains(RegionCode.parse("서울특별시 강남구 역삼동"))).isTrue();
+        assertThat(seoul.contains(RegionCode.parse("부산 해운대구"))).isFalse();
+        assertThat(gangnam.contains(RegionCode.parse("서울특별시 강남구"))).isTrue();
+        assertThat(gangnam.contains(RegionCode.parse("서울특별시 서초구"))).isFalse();
+        assertThat(gangnam.contains(null)).isFalse();
+        assertThat(RegionCode.UNMATCHED.contains(gangnam)).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.bookbook.global.util;
+
+import com.bookbook.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorResponseTest {
+
+    private record Row(int id, LocalDateTime time) {
+    }
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 1, 12, 0);
+
+    // 최신순(시각 내림차순, ID 내림차순) 데이터
+    private static List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(count - i, BASE.minusMinutes(i)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("커서 토큰은 인코딩 후 같은 값으로 복원된다")
+    void tokenRoundTrip() {
+        CursorToken token = new CursorToken(BASE.withNano(123_000_000), 42);
+
+        assertThat(CursorToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("정렬 시각이 없는 커서 토큰도 복원된다")
+    void tokenWithoutTime() {
+        CursorToken token = new CursorToken(null, 7);
+
+        assertThat(CursorToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("빈 토큰은 첫 페이지(null)로, 잘못된 토큰은 예외로 처리된다")
+    void decodeInvalid() {
+        assertThat(CursorToken.decode(null)).isNull();
+        assertThat(CursorToken.decode(" ")).isNull();
+
+        assertThatThrownBy(() -> CursorToken.decode("not-a-cursor"))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 한 건 더 조회되면 다음 커서는 페이지의 마지막 데이터를 가리킨다")
+    void hasNext() {
+        List<Row> rows = rows(4);
+
+        CursorResponse<Integer> response = CursorResponse.of(rows, 3,
+                row -> new CursorToken(row.time(), row.id()), Row::id);
+
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getContent()).containsExactly(4, 3, 2);
+        assertThat(CursorToken.decode(response.getNextCursor()))
+                .isEqualTo(new CursorToken(rows.get(2).time(), 2));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 다음 커서가 없다")
+    void lastPage() {
+        CursorResponse<Integer> response = CursorResponse.of(rows(3), 3,
+                row -> new CursorToken(row.time(), row.id()), Row::id);
+
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getContent()).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("커서를 따라 페이지를 넘기면 모든 데이터를 중복 없이 한 번씩 받는다")
+    void pagesCoverAllRows() {
+        List<Row> all = rows(10);
+        int size = 3;
+
+        List<Integer> seen = new ArrayList<>();
+        CursorToken cursor = null;
+        do {
+            // 키셋 조건 (time, id) < (cursor.time, cursor.id)로 size + 1건 조회
+            CursorToken after = cursor;
+            List<Row> page = all.stream()
+                    .filter(row -> after == null
+                            || row.time().isBefore(after.time())
+                            || (row.time().isEqual(after.time()) && row.id() < after.id()))
+                    .limit(size + 1)
+                    .toList();
+
+            CursorResponse<Integer> response = CursorResponse.of(page, size,
+                    row -> new CursorToken(row.time(), row.id()), Row::id);
+            seen.addAll(response.getContent());
+            cursor = CursorToken.decode(response.getNextCursor());
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 1보다 작으면 예외가 발생한다")
+    void invalidSize() {
+        assertThatThrownBy(() -> CursorResponse.of(rows(1), 0,
+                row -> new CursorToken(row.time(), row.id()), Row::id))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
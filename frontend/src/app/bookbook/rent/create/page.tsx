@@ -18,6 +18,7 @@ interface BookSearchResult {
     coverImageUrl: string;
     category: string;
     bookDescription: string;
+    isbn?: string; // ISBN13 (도서 카탈로그 연결용)
 }
 
 // 새로운 타입 정의 : 현재 유저 정보
@@ -37,6 +38,7 @@ export default function BookRentPage() {
     const [publisher, setPublisher] = useState('');
     const [category, setCategory] = useState('');
     const [description, setDescription] = useState('');
+    const [isbn, setIsbn] = useState('');
 
     // Toast 메시지 상태 추가
     const [toastMessage, setToastMessage] = useState<string | null>(null);
@@ -138,6 +140,7 @@ export default function BookRentPage() {
         setCategory('');
         setSearchQuery('');
         setDescription('');
+        setIsbn('');
         setSearchResults([]);
         setShowBookSearchModal(false);
         setCurrentPage(1); // 폼 초기화 시 페이지도 1로 초기화
@@ -200,6 +203,7 @@ export default function BookRentPage() {
         setPublisher(book.publisher);
         setCategory(book.category || ''); // 카테고리 필드 추가
         setDescription(book.bookDescription || ''); // 책 설명 필드 추가
+        setIsbn(book.isbn || ''); // 도서 카탈로그 연결용 ISBN
         setShowBookSearchModal(false); // 모달 닫기
     };
 
@@ -254,7 +258,8 @@ export default function BookRentPage() {
             author: author,
             publisher: publisher,
             category: category,
-            description: description
+            description: description,
+            isbn: isbn || null // 검색해서 선택한 책이면 도서 카탈로그에 연결
         };
 
         // 백엔드 Rent 페이지 생성 POST 요청으로 전송
@@ -18,6 +18,7 @@ interface BookSearchResult {
     coverImageUrl: string;
     category: string;
     bookDescription: string;
+    isbn?: string; // ISBN13 (도서 카탈로그 연결용)
 }
 
 interface BookDetail {
@@ -28,6 +29,7 @@ interface BookDetail {
     publisher: string;
     category: string;
     description: string;
+    isbn: string | null;
     bookCondition: string;
     address: string;
     contents: string;
@@ -67,6 +69,7 @@ export default function EditBookPage({ params }: EditBookPageProps): React.JSX.E
     const [publisher, setPublisher] = useState<string>('');
     const [category, setCategory] = useState<string>('');
     const [description, setDescription] = useState<string>('');
+    const [isbn, setIsbn] = useState<string>('');
 
     // Toast 메시지 상태 추가
     const [toastMessage, setToastMessage] = useState<string | null>(null);
@@ -130,6 +133,7 @@ export default function EditBookPage({ params }: EditBookPageProps): React.JSX.E
                 setPublisher(data.publisher);
                 setCategory(data.category);
                 setDescription(data.description);
+                setIsbn(data.isbn || '');
                 setPreviewImageUrl(data.bookImage || defaultImageUrl);
             } catch (err: unknown) {
                 console.error("책 상세 정보 불러오기 실패:", err);
@@ -219,6 +223,7 @@ export default function EditBookPage({ params }: EditBookPageProps): React.JSX.E
         setPublisher(book.publisher);
         setCategory(book.category || ''); // 카테고리 필드 추가
         setDescription(book.bookDescription || ''); // 책 설명 필드 추가
+        setIsbn(book.isbn || ''); // 도서 카탈로그 연결용 ISBN
         setShowBookSearchModal(false); // 모달 닫기
     };
 
@@ -276,7 +281,8 @@ export default function EditBookPage({ params }: EditBookPageProps): React.JSX.E
             author: author,
             publisher: publisher,
             category: category,
-            description: description
+            description: description,
+            isbn: isbn || null // 검색해서 선택한 책이면 도서 카탈로그에 연결
         };
 
         // 백엔드 Rent 페이지 수정 Put 요청으로 전송
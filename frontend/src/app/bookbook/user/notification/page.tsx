@@ -6,22 +6,28 @@ import { useRouter } from 'next/navigation';
 interface NotificationApiResponse {
   resultCode: string;
   msg: string;
-  data: Array<{
-    id: number;
-    message: string;
-    time: string;
-    read: boolean;
-    bookTitle: string;
-    detailMessage: string;
-    imageUrl: string;
-    requester: string;
-    type: string;
-    rentId?: number;
-  }> | null;
+  data: {
+    content: Array<{
+      id: number;
+      message: string;
+      time: string;
+      read: boolean;
+      bookTitle: string;
+      detailMessage: string;
+      imageUrl: string;
+      requester: string;
+      type: string;
+      rentId?: number;
+    }>;
+    nextCursor: string | null;
+    hasNext: boolean;
+  } | null;
   statusCode: number;
   success: boolean;
 }
 
+const NOTIFICATION_PAGE_SIZE = 20;
+
 interface RentRequestDetail {
   rentListId: number;
   rentId: number;
@@ -48,9 +54,13 @@ interface DebugInfo {
   timestamp: string;
 }
 
-const fetchNotifications = async (): Promise<NotificationApiResponse> => {
+const fetchNotifications = async (cursor?: string | null): Promise<NotificationApiResponse> => {
   try {
-    const response = await fetch('/api/v1/bookbook/user/notifications', {
+    const params = new URLSearchParams({ size: String(NOTIFICATION_PAGE_SIZE) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await fetch(`/api/v1/bookbook/user/notifications/cursor?${params}`, {
       method: 'GET',
       headers: {
         'Content-Type': 'application/json',
@@ -198,6 +208,8 @@ export default function NotificationPage() {
   const [isProcessingDecision, setIsProcessingDecision] = useState(false);
   const [imageLoadStates, setImageLoadStates] = useState<{[key: number]: 'loading' | 'loaded' | 'error'}>({});
   const [processedNotifications, setProcessedNotifications] = useState<Set<number>>(new Set());
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
 
   const loadNotifications = useCallback(async () => {
@@ -215,7 +227,8 @@ export default function NotificationPage() {
       }
 
       if (response.success || response.resultCode.startsWith('200')) {
-        setNotifications(response.data || []);
+        setNotifications(response.data?.content || []);
+        setNextCursor(response.data?.hasNext ? response.data.nextCursor : null);
       } else {
         setError(response.msg || '알림 데이터를 불러오는데 실패했습니다.');
       }
@@ -243,6 +256,29 @@ export default function NotificationPage() {
     loadNotifications();
   }, [loadNotifications]);
 
+  // 다음 페이지 알림 불러오기
+  const loadMoreNotifications = async () => {
+    if (!nextCursor || loadingMore) return;
+
+    try {
+      setLoadingMore(true);
+      const response = await fetchNotifications(nextCursor);
+
+      if (response.success || response.resultCode.startsWith('200')) {
+        const content = response.data?.content || [];
+        setNotifications(prev => [...prev, ...content.filter(item => !prev.some(n => n.id === item.id))]);
+        setNextCursor(response.data?.hasNext ? response.data.nextCursor : null);
+      } else {
+        setError(response.msg || '알림 데이터를 불러오는데 실패했습니다.');
+      }
+    } catch (err) {
+      const error = err instanceof Error ? err : new Error(String(err));
+      setError('알림을 더 불러오지 못했습니다: ' + error.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleNotificationClick = async (notificationId: number) => {
     const isCurrentlySelected = selectedId === notificationId;
     const notification = notifications.find(n => n.id === notificationId);
@@ -696,6 +732,16 @@ export default function NotificationPage() {
               )}
             </div>
           ))}
+
+          {nextCursor && (
+            <button
+              onClick={loadMoreNotifications}
+              disabled={loadingMore}
+              className="mt-2 py-3 text-sm text-gray-600 border rounded-lg hover:bg-gray-50 disabled:opacity-50"
+            >
+              {loadingMore ? '불러오는 중...' : '알림 더 보기'}
+            </button>
+          )}
         </div>
       )}
 
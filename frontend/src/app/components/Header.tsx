@@ -10,6 +10,8 @@ import { useLoginModal } from '../context/LoginModalContext';
 import { toast } from 'react-toastify';
 import 'react-toastify/dist/ReactToastify.css';
 
+const BACKEND_BASE_URL = process.env.NEXT_PUBLIC_API_BASE_URL || 'http://localhost:8080';
+
 const Header = () => {
   const [isLoggedIn, setIsLoggedIn] = useState(false);
   const [showMessagePanel, setShowMessagePanel] = useState(false);
@@ -112,11 +114,9 @@ const Header = () => {
 
   useEffect(() => {
     if (isLoggedIn) {
-      fetchUnreadNotificationCount();
       fetchUnreadMessageCount();
 
       const interval = setInterval(() => {
-        fetchUnreadNotificationCount();
         fetchUnreadMessageCount();
       }, 30000);
 
@@ -127,6 +127,59 @@ const Header = () => {
     }
   }, [isLoggedIn]);
 
+  // 알림 개수는 SSE 스트림으로 받음 (연결 직후 전체 개수, 이후 변화량)
+  useEffect(() => {
+    if (!isLoggedIn) {
+      return;
+    }
+
+    let eventSource: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+
+    const connect = () => {
+      eventSource = new EventSource(`${BACKEND_BASE_URL}/api/v1/bookbook/user/notifications/stream`, {
+        withCredentials: true,
+      });
+
+      eventSource.addEventListener('unread-count', (event) => {
+        setUnreadNotificationCount(Number((event as MessageEvent).data) || 0);
+      });
+
+      eventSource.addEventListener('unread-delta', (event) => {
+        const delta = Number((event as MessageEvent).data) || 0;
+        setUnreadNotificationCount((prev) => Math.max(0, prev + delta));
+      });
+
+      // 채팅방을 보고 있지 않을 때 받은 메시지 수 (채팅 연결이 모두 끊어지면 전체 개수로 다시 맞춤)
+      eventSource.addEventListener('chat-unread-count', (event) => {
+        setUnreadMessageCount(Number((event as MessageEvent).data) || 0);
+      });
+
+      eventSource.addEventListener('chat-unread-delta', (event) => {
+        const delta = Number((event as MessageEvent).data) || 0;
+        setUnreadMessageCount((prev) => Math.max(0, prev + delta));
+      });
+
+      eventSource.onerror = () => {
+        // 일시적인 끊김은 브라우저가 Last-Event-ID로 재연결, 토큰 만료 등으로 닫힌 경우만 직접 재연결
+        if (eventSource?.readyState === EventSource.CLOSED) {
+          eventSource.close();
+          fetchUnreadNotificationCount(); // 토큰 갱신 겸 개수 보정
+          retryTimer = setTimeout(connect, 5000);
+        }
+      };
+    };
+
+    connect();
+
+    return () => {
+      eventSource?.close();
+      if (retryTimer) {
+        clearTimeout(retryTimer);
+      }
+    };
+  }, [isLoggedIn]);
+
   const handleLogout = async () => {
     const success = await logoutUser();
     if (success) {